@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.executor;
+
+import io.shardingsphere.benchmark.fixture.ShardingFixture;
+import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
+import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for preparing SQL execute units, includes grouping route units, acquiring connections and creating statements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLExecutePrepareBenchmark {
+    
+    private static final int TABLE_COUNT_PER_SHARD = 8;
+    
+    @Param({"2", "8", "32"})
+    private int shardCount;
+    
+    @Param({"1", "8"})
+    private int maxConnectionsSizePerQuery;
+    
+    private final Map<String, Connection> connections = new HashMap<>();
+    
+    private final Collection<RouteUnit> routeUnits = new LinkedList<>();
+    
+    private SQLExecutePrepareTemplate sqlExecutePrepareTemplate;
+    
+    private SQLExecutePrepareCallback callback;
+    
+    /**
+     * Open connections and create route units.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        for (String each : ShardingFixture.getDataSourceNames(shardCount)) {
+            connections.put(each, DriverManager.getConnection(ShardingFixture.getH2URL(each), "sa", ""));
+            for (int i = 0; i < TABLE_COUNT_PER_SHARD; i++) {
+                routeUnits.add(new RouteUnit(each, new SQLUnit("SELECT * FROM t_order_" + i, Collections.singletonList(Collections.emptyList()))));
+            }
+        }
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
+        callback = new SQLExecutePrepareCallback() {
+            
+            @Override
+            public List<Connection> getConnections(final String dataSourceName, final int connectionSize) {
+                return Collections.nCopies(connectionSize, connections.get(dataSourceName));
+            }
+            
+            @Override
+            public SQLExecuteUnit createSQLExecuteUnit(final Connection connection, final RouteUnit routeUnit) throws SQLException {
+                final Statement statement = connection.createStatement();
+                return new SQLExecuteUnit() {
+                    
+                    @Override
+                    public RouteUnit getRouteUnit() {
+                        return routeUnit;
+                    }
+                    
+                    @Override
+                    public Statement getStatement() {
+                        return statement;
+                    }
+                };
+            }
+        };
+    }
+    
+    /**
+     * Close connections.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        for (Connection each : connections.values()) {
+            each.close();
+        }
+        connections.clear();
+        routeUnits.clear();
+    }
+    
+    /**
+     * Prepare SQL execute units and close created statements.
+     *
+     * @return count of execute groups
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int prepare() throws SQLException {
+        Collection<ShardingExecuteGroup<SQLExecuteUnit>> executeGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(routeUnits, callback);
+        for (ShardingExecuteGroup<SQLExecuteUnit> each : executeGroups) {
+            closeStatements(each.getInputs());
+        }
+        return executeGroups.size();
+    }
+    
+    private void closeStatements(final List<SQLExecuteUnit> sqlExecuteUnits) throws SQLException {
+        for (SQLExecuteUnit each : sqlExecuteUnits) {
+            each.getStatement().close();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result over rows in memory for benchmark.
+ *
+ * <p>Rows are shared and never copied, so creating a new instance for each merging is cheap.</p>
+ */
+public final class InMemoryQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final Object[][] rows;
+    
+    private int cursor = -1;
+    
+    private boolean wasNull;
+    
+    public InMemoryQueryResult(final List<String> columnLabels, final Object[][] rows) {
+        this.columnLabels = columnLabels;
+        this.rows = rows;
+    }
+    
+    @Override
+    public boolean next() {
+        return ++cursor < rows.length;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = rows[cursor][columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getValue(columnLabels.indexOf(columnLabel) + 1, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLException("Input stream is unsupported in benchmark.");
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        throw new SQLException("Input stream is unsupported in benchmark.");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding rule and meta data for benchmark.
+ *
+ * <p>Table {@code t_order} is sharded into data sources {@code ds_0 .. ds_n} by {@code user_id}.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingFixture {
+    
+    /**
+     * Get data source names.
+     *
+     * @param shardCount count of shards
+     * @return data source names
+     */
+    public static List<String> getDataSourceNames(final int shardCount) {
+        List<String> result = new LinkedList<>();
+        for (int i = 0; i < shardCount; i++) {
+            result.add("ds_" + i);
+        }
+        return result;
+    }
+    
+    /**
+     * Create sharding rule.
+     *
+     * @param shardCount count of shards
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule(final int shardCount) {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0.." + (shardCount - 1) + "}.t_order");
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % " + shardCount + "}"));
+        return new ShardingRule(shardingRuleConfig, getDataSourceNames(shardCount));
+    }
+    
+    /**
+     * Create sharding data source meta data for H2 in memory databases.
+     *
+     * @param shardingRule sharding rule
+     * @param shardCount count of shards
+     * @return sharding data source meta data
+     */
+    public static ShardingDataSourceMetaData createShardingDataSourceMetaData(final ShardingRule shardingRule, final int shardCount) {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(shardCount, 1);
+        for (String each : getDataSourceNames(shardCount)) {
+            dataSourceURLs.put(each, getH2URL(each));
+        }
+        return new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, DatabaseType.H2);
+    }
+    
+    /**
+     * Create empty sharding table meta data.
+     *
+     * @return sharding table meta data
+     */
+    public static ShardingTableMetaData createShardingTableMetaData() {
+        return new ShardingTableMetaData(new LinkedHashMap<String, TableMetaData>());
+    }
+    
+    /**
+     * Get URL of H2 in memory database.
+     *
+     * @param dataSourceName data source name
+     * @return URL of H2 in memory database
+     */
+    public static String getH2URL(final String dataSourceName) {
+        return String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL", dataSourceName);
+    }
+}
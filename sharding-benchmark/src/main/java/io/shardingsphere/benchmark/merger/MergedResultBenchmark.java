@@ -0,0 +1,166 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.merger;
+
+import io.shardingsphere.benchmark.fixture.InMemoryQueryResult;
+import io.shardingsphere.benchmark.fixture.ShardingFixture;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.DQLMergeEngine;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for DQL merge engine, includes stream merging for order by, memory merging for group by and pagination.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MergedResultBenchmark {
+    
+    private static final List<String> ORDER_COLUMN_LABELS = Arrays.asList("order_id", "user_id", "status");
+    
+    private static final List<String> GROUP_COLUMN_LABELS = Arrays.asList("user_id", "order_sum");
+    
+    private static final int USER_COUNT = 100;
+    
+    @Param({"2", "8", "32"})
+    private int shardCount;
+    
+    @Param({"100", "10000"})
+    private int rowCount;
+    
+    private SelectStatement orderBySelectStatement;
+    
+    private SelectStatement groupBySelectStatement;
+    
+    private SelectStatement limitSelectStatement;
+    
+    private Object[][][] orderRows;
+    
+    private Object[][][] groupRows;
+    
+    /**
+     * Parse select statements and create rows of each shard.
+     */
+    @Setup
+    public void setUp() {
+        ShardingRule shardingRule = ShardingFixture.createShardingRule(shardCount);
+        orderBySelectStatement = parse(shardingRule, "SELECT order_id, user_id, status FROM t_order ORDER BY order_id");
+        groupBySelectStatement = parse(shardingRule, "SELECT user_id, SUM(order_id) AS order_sum FROM t_order GROUP BY user_id ORDER BY order_sum DESC");
+        limitSelectStatement = parse(shardingRule, "SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT 100, 10");
+        orderRows = new Object[shardCount][][];
+        groupRows = new Object[shardCount][][];
+        for (int shard = 0; shard < shardCount; shard++) {
+            orderRows[shard] = createOrderRows(shard);
+            groupRows[shard] = createGroupRows(shard);
+        }
+    }
+    
+    private SelectStatement parse(final ShardingRule shardingRule, final String sql) {
+        return (SelectStatement) new SQLParsingEngine(DatabaseType.MySQL, sql, shardingRule, ShardingFixture.createShardingTableMetaData(), new ParsingResultCache()).parse(false);
+    }
+    
+    private Object[][] createOrderRows(final int shard) {
+        Object[][] result = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            result[i] = new Object[] {(long) i * shardCount + shard, i % USER_COUNT, "init"};
+        }
+        return result;
+    }
+    
+    private Object[][] createGroupRows(final int shard) {
+        int groupCount = Math.min(rowCount, USER_COUNT);
+        Object[][] result = new Object[groupCount][];
+        for (int i = 0; i < groupCount; i++) {
+            result[i] = new Object[] {i, (long) i * shard};
+        }
+        return result;
+    }
+    
+    /**
+     * Merge ordered rows of each shard by stream.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeOrderBy(final Blackhole blackhole) throws SQLException {
+        consume(new DQLMergeEngine(createQueryResults(ORDER_COLUMN_LABELS, orderRows), orderBySelectStatement).merge(), blackhole);
+    }
+    
+    /**
+     * Merge rows of each shard in memory for group by which is different from order by.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeGroupBy(final Blackhole blackhole) throws SQLException {
+        consume(new DQLMergeEngine(createQueryResults(GROUP_COLUMN_LABELS, groupRows), groupBySelectStatement).merge(), blackhole);
+    }
+    
+    /**
+     * Merge ordered rows of each shard with pagination.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeLimit(final Blackhole blackhole) throws SQLException {
+        consume(new DQLMergeEngine(createQueryResults(ORDER_COLUMN_LABELS, orderRows), limitSelectStatement).merge(), blackhole);
+    }
+    
+    private List<QueryResult> createQueryResults(final List<String> columnLabels, final Object[][][] rows) {
+        List<QueryResult> result = new ArrayList<>(rows.length);
+        for (Object[][] each : rows) {
+            result.add(new InMemoryQueryResult(columnLabels, each));
+        }
+        return result;
+    }
+    
+    private void consume(final MergedResult mergedResult, final Blackhole blackhole) throws SQLException {
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.parsing;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for lexing SQL of each dialect.
+ *
+ * <p>
+ * Run it with {@code -prof gc} to compare allocation rate between revisions of lexer.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LexerBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    @Param({"1", "1000"})
+    private int rowCount;
+    
+    private String insertSQL;
+    
+    private String selectSQL;
+    
+    /**
+     * Build SQL to be lexed.
+     */
+    @Setup
+    public void setUp() {
+        insertSQL = createInsertSQL(rowCount);
+        selectSQL = "SELECT o.order_id, o.user_id, i.item_id, i.status FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id "
+                + "WHERE o.user_id IN (1, 2, 3) AND o.order_id BETWEEN 100 AND 200 AND i.status = 'init' /* comment */ ORDER BY o.order_id DESC";
+    }
+    
+    private String createInsertSQL(final int rowCount) {
+        StringBuilder result = new StringBuilder("INSERT INTO t_order (order_id, user_id, status, create_time) VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (0 != i) {
+                result.append(", ");
+            }
+            result.append('(').append(i).append(", ").append(i % 10).append(", 'init', '2018-01-01 00:00:00')");
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Lex insert SQL with values of rows.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void lexInsert(final Blackhole blackhole) {
+        lex(insertSQL, blackhole);
+    }
+    
+    /**
+     * Lex select SQL.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void lexSelect(final Blackhole blackhole) {
+        lex(selectSQL, blackhole);
+    }
+    
+    private void lex(final String sql, final Blackhole blackhole) {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(DatabaseType.valueOf(databaseType), sql);
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            blackhole.consume(lexerEngine.getCurrentToken().getType());
+            lexerEngine.nextToken();
+        }
+    }
+}
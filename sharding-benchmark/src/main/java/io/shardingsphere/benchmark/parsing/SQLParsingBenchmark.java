@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.parsing;
+
+import io.shardingsphere.benchmark.fixture.ShardingFixture;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL parsing engine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLParsingBenchmark {
+    
+    private static final String SELECT_SQL = "SELECT o.order_id, o.user_id, o.status FROM t_order o WHERE o.user_id = ? AND o.status IN (?, ?) ORDER BY o.order_id DESC LIMIT ?, ?";
+    
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)";
+    
+    @Param({"2", "32"})
+    private int shardCount;
+    
+    @Param({"true", "false"})
+    private boolean useCache;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private ParsingResultCache parsingResultCache;
+    
+    /**
+     * Create sharding rule and parsing result cache.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = ShardingFixture.createShardingRule(shardCount);
+        shardingTableMetaData = ShardingFixture.createShardingTableMetaData();
+        parsingResultCache = new ParsingResultCache();
+    }
+    
+    /**
+     * Parse select SQL.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseSelect() {
+        return new SQLParsingEngine(DatabaseType.MySQL, SELECT_SQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
+    }
+    
+    /**
+     * Parse insert SQL.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseInsert() {
+        return new SQLParsingEngine(DatabaseType.MySQL, INSERT_SQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.proxy;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.shardingsphere.proxy.frontend.common.netty.BatchedPacketWriter;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLPacketCodec;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for writing rows of large query result to client by proxy frontend, result is rows per second.
+ *
+ * <p>
+ * Rows are encoded as MySQL text protocol and written to a loopback socket whose peer discards them.
+ * Flush threshold 1 is the behavior of flushing every row.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FrontendWriteBenchmark {
+    
+    private static final int ROW_COUNT = 100000;
+    
+    private static final List<Object> ROW = Arrays.<Object>asList(10001L, 1, "init", "2018-10-01 00:00:00");
+    
+    @Param({"1", "16", "128", "1024"})
+    private int flushThreshold;
+    
+    private EventLoopGroup eventLoopGroup;
+    
+    private Channel serverChannel;
+    
+    private Channel clientChannel;
+    
+    private final Object writabilityMonitor = new Object();
+    
+    /**
+     * Start discard server and connect to it.
+     */
+    @Setup
+    public void setUp() {
+        eventLoopGroup = new NioEventLoopGroup(2);
+        serverChannel = new ServerBootstrap().group(eventLoopGroup).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<SocketChannel>() {
+            
+            @Override
+            protected void initChannel(final SocketChannel socketChannel) {
+                socketChannel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                    
+                    @Override
+                    public void channelRead(final ChannelHandlerContext context, final Object message) {
+                        ReferenceCountUtil.release(message);
+                    }
+                });
+            }
+        }).bind("127.0.0.1", 0).syncUninterruptibly().channel();
+        clientChannel = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class).handler(new ChannelInitializer<SocketChannel>() {
+            
+            @Override
+            protected void initChannel(final SocketChannel socketChannel) {
+                socketChannel.pipeline().addLast(new MySQLPacketCodec());
+                socketChannel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                    
+                    @Override
+                    public void channelWritabilityChanged(final ChannelHandlerContext context) {
+                        if (context.channel().isWritable()) {
+                            synchronized (writabilityMonitor) {
+                                writabilityMonitor.notifyAll();
+                            }
+                        }
+                    }
+                });
+            }
+        }).connect((InetSocketAddress) serverChannel.localAddress()).syncUninterruptibly().channel();
+    }
+    
+    /**
+     * Close channels and event loop group.
+     */
+    @TearDown
+    public void tearDown() {
+        clientChannel.close().syncUninterruptibly();
+        serverChannel.close().syncUninterruptibly();
+        eventLoopGroup.shutdownGracefully().syncUninterruptibly();
+    }
+    
+    /**
+     * Write rows and EOF packet, then wait until all of them are written to socket.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void writeRows() {
+        BatchedPacketWriter packetWriter = new BatchedPacketWriter(clientChannel, writabilityMonitor, flushThreshold, 0L);
+        int sequenceId = 0;
+        for (int i = 0; i < ROW_COUNT; i++) {
+            packetWriter.write(new TextResultSetRowPacket(++sequenceId & 0xff, ROW));
+        }
+        packetWriter.write(new EofPacket(++sequenceId & 0xff));
+        packetWriter.flush();
+        clientChannel.writeAndFlush(Unpooled.EMPTY_BUFFER).syncUninterruptibly();
+    }
+}
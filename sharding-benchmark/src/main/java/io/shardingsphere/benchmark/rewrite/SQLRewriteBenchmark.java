@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.rewrite;
+
+import io.shardingsphere.benchmark.fixture.ShardingFixture;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.rewrite.SQLBuilder;
+import io.shardingsphere.core.rewrite.SQLRewriteEngine;
+import io.shardingsphere.core.routing.type.TableUnit;
+import io.shardingsphere.core.routing.type.standard.StandardRoutingEngine;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewrite engine and SQL builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLRewriteBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, status FROM t_order WHERE status = 'init' ORDER BY order_id DESC LIMIT 10, 20";
+    
+    @Param({"2", "8", "32"})
+    private int shardCount;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    private SQLStatement sqlStatement;
+    
+    private ShardingConditions shardingConditions;
+    
+    private Collection<TableUnit> tableUnits;
+    
+    /**
+     * Parse and route SQL.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = ShardingFixture.createShardingRule(shardCount);
+        shardingDataSourceMetaData = ShardingFixture.createShardingDataSourceMetaData(shardingRule, shardCount);
+        sqlStatement = new SQLParsingEngine(DatabaseType.MySQL, SQL, shardingRule, ShardingFixture.createShardingTableMetaData(), new ParsingResultCache()).parse(false);
+        shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, Collections.emptyList(), null).optimize();
+        tableUnits = new StandardRoutingEngine(shardingRule, "t_order", shardingConditions).route().getTableUnits().getTableUnits();
+    }
+    
+    /**
+     * Rewrite SQL and generate SQL for each table unit.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, SQL, DatabaseType.MySQL, sqlStatement, shardingConditions, Collections.emptyList());
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(true);
+        for (TableUnit each : tableUnits) {
+            blackhole.consume(rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.routing;
+
+import io.shardingsphere.benchmark.fixture.ShardingFixture;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.router.sharding.ShardingRouter;
+import io.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for routing of parsing SQL router, includes optimizing, routing and rewriting.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParsingSQLRouterBenchmark {
+    
+    private static final String SINGLE_SHARD_SQL = "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND status = ?";
+    
+    private static final String ALL_SHARDS_SQL = "SELECT order_id, user_id, status FROM t_order WHERE status = ? ORDER BY order_id";
+    
+    @Param({"2", "8", "32"})
+    private int shardCount;
+    
+    private ShardingRouter shardingRouter;
+    
+    private SQLStatement singleShardStatement;
+    
+    private SQLStatement allShardsStatement;
+    
+    /**
+     * Create sharding router and parse SQL.
+     */
+    @Setup
+    public void setUp() {
+        ShardingRule shardingRule = ShardingFixture.createShardingRule(shardCount);
+        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, ShardingFixture.createShardingTableMetaData(), DatabaseType.MySQL, false,
+                ShardingFixture.createShardingDataSourceMetaData(shardingRule, shardCount), new ParsingResultCache());
+        singleShardStatement = shardingRouter.parse(SINGLE_SHARD_SQL, true);
+        allShardsStatement = shardingRouter.parse(ALL_SHARDS_SQL, true);
+    }
+    
+    /**
+     * Route SQL to single shard.
+     *
+     * @return route result
+     */
+    @Benchmark
+    public SQLRouteResult routeSingleShard() {
+        return shardingRouter.route(SINGLE_SHARD_SQL, new ArrayList<>(Arrays.<Object>asList(1, "init")), singleShardStatement);
+    }
+    
+    /**
+     * Route SQL to all shards.
+     *
+     * @return route result
+     */
+    @Benchmark
+    public SQLRouteResult routeAllShards() {
+        List<Object> parameters = new ArrayList<>(Arrays.<Object>asList("init"));
+        return shardingRouter.route(ALL_SHARDS_SQL, parameters, allShardsStatement);
+    }
+}
@@ -24,5 +24,5 @@ package io.shardingsphere.core.constant;
  */
 public enum ConnectionMode {
     
-    MEMORY_STRICTLY, CONNECTION_STRICTLY
+    MEMORY_STRICTLY, CONNECTION_STRICTLY, ADAPTIVE
 }
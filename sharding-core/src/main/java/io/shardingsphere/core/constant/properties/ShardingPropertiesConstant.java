@@ -65,6 +65,38 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Queue size of worker thread pool.
+     *
+     * <p>
+     * Used only if {@code executor.size} is positive.
+     * Tasks are executed by caller thread if queue is full, this makes back pressure for bursts of queries.
+     * Default: 0, means unbounded queue.
+     * </p>
+     */
+    EXECUTOR_QUEUE_SIZE("executor.queue.size", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable work stealing worker thread pool.
+     *
+     * <p>
+     * Use {@code ForkJoinPool} as worker thread pool, parallelism is {@code executor.size}, or CPU cores if it is 0.
+     * Default: false
+     * </p>
+     */
+    EXECUTOR_WORK_STEALING("executor.work.stealing", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable virtual thread for executing SQL and proxy commands.
+     *
+     * <p>
+     * Each SQL execution and each proxy client connection uses a virtual thread, {@code executor.size} is ignored.
+     * Platform threads are used if current JVM does not support virtual thread.
+     * Default: false
+     * </p>
+     */
+    EXECUTOR_VIRTUAL_THREAD("executor.virtual.thread", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Connection mode of connected to databases.
      *
@@ -79,18 +111,164 @@ public enum ShardingPropertiesConstant {
      * harding-Sphere will release connections after get the overall rows from the ResultSet.
      * Meanwhile, the cost of the memory will be increased.
      * </p>
+     *
+     * <p>
+     * ADAPTIVE:
+     * Sharding-Sphere selects connection mode for each query by its route result.
+     * MEMORY_STRICTLY is used if route units of every data source do not exceed {@code max.connections.size.per.query} and available connections of the data source,
+     * otherwise CONNECTION_STRICTLY is used.
+     * </p>
      */
     CONNECTION_MODE("connection.mode", ConnectionMode.MEMORY_STRICTLY.name(), String.class),
     
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max count of SQL statements held by parsing result cache.
+     *
+     * <p>
+     * Each sharding data source or proxy schema holds an independent cache.
+     * Ignored if {@code parsing.result.cache.max.weight} is positive.
+     * Default: 65535.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_MAX_SIZE("parsing.result.cache.max.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Max total length of SQL held by parsing result cache.
+     *
+     * <p>
+     * Weigh cached SQL statements by the length of their SQL instead of counting them.
+     * Default: 0, means weigh is disabled.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_MAX_WEIGHT("parsing.result.cache.max.weight", String.valueOf(0), long.class),
+    
+    /**
+     * Seconds to expire cached SQL statement after last access.
+     *
+     * <p>
+     * Default: 0, means never expire.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_EXPIRE_AFTER_ACCESS_SECONDS("parsing.result.cache.expire.after.access.seconds", String.valueOf(0), long.class),
+    
+    /**
+     * Max count of route results held by route result cache of prepared statement.
+     *
+     * <p>
+     * Route results are keyed by logic SQL and the values of sharding parameters,
+     * enable it only if sharding algorithms always return same targets for same sharding values.
+     * Default: 0, means route result cache is disabled.
+     * </p>
+     */
+    ROUTE_RESULT_CACHE_MAX_SIZE("route.result.cache.max.size", String.valueOf(0), long.class),
+    
+    /**
+     * Max count of groups held in memory by group by memory merging.
+     *
+     * <p>
+     * Used when group by and order by items are different.
+     * Groups are spilled to temporary files if exceeded, then aggregated and sorted partition by partition.
+     * Default: 0, means never spill.
+     * </p>
+     */
+    GROUP_BY_MEMORY_MERGE_MAX_ROWS("group.by.memory.merge.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max count of rows coalesced into one multiple rows insert by batch of prepared statement.
+     *
+     * <p>
+     * Rows of single row insert batch routed to same actual table are rewritten to {@code INSERT ... VALUES (...), (...)},
+     * then update count of each row is 1 if all rows are inserted, otherwise {@code Statement.SUCCESS_NO_INFO}.
+     * Only for MySQL, PostgreSQL and H2.
+     * Default: 0, means batch insert is not coalesced.
+     * </p>
+     */
+    BATCH_INSERT_COALESCE_MAX_ROWS("batch.insert.coalesce.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max length of SQL coalesced by batch insert.
+     *
+     * <p>
+     * Keep it below {@code max_allowed_packet} of database, parameters are not counted.
+     * Default: 1048576.
+     * </p>
+     */
+    BATCH_INSERT_COALESCE_MAX_SQL_LENGTH("batch.insert.coalesce.max.sql.length", String.valueOf(1024 * 1024), int.class),
+    
+    /**
+     * Max count of idle routed prepared statements held by each sharding connection.
+     *
+     * <p>
+     * Routed prepared statements are reused by executions of prepared statements with same actual SQL in same connection,
+     * then driver does not prepare them again. They are closed when the connection is closed.
+     * Default: 0, means routed prepared statements are not reused.
+     * </p>
+     */
+    PREPARED_STATEMENT_CACHE_MAX_SIZE("prepared.statement.cache.max.size", String.valueOf(0), int.class),
+    
     PROXY_TRANSACTION_ENABLED("proxy.transaction.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
     PROXY_BACKEND_USE_NIO("proxy.backend.use.nio", String.valueOf(Boolean.FALSE), boolean.class),
     
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", String.valueOf(8), int.class),
     
-    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class);
+    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
+    
+    /**
+     * Binding type of backend connections to client connection of proxy.
+     *
+     * <p>
+     * STATEMENT: backend connections are borrowed from connection pool for each command and returned after it.
+     * SESSION: backend connections are held by client connection after each command and reused by its next commands,
+     * at most {@code max.connections.size.per.query} of them for each data source, until client connection is closed.
+     * Held connections are validated after idle, and returned to connection pool after max lifetime or if they are not in auto commit mode.
+     * Only for LOCAL transaction.
+     * Default: STATEMENT.
+     * </p>
+     */
+    PROXY_BACKEND_CONNECTION_BINDING("proxy.backend.connection.binding", "STATEMENT", String.class),
+    
+    /**
+     * Max count of result packets written to client by proxy before flush.
+     *
+     * <p>
+     * Rows of query result are written into channel and flushed in batch, the last batch is flushed with EOF packet.
+     * Unflushed packets are also flushed when channel becomes unwritable.
+     * Default: 128, 1 means flush every packet.
+     * </p>
+     */
+    PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
+    
+    /**
+     * Max milliseconds of holding unflushed result packets by proxy.
+     *
+     * <p>
+     * Let client receive rows of slow query result before flush threshold is reached.
+     * Default: 0, means flush by threshold only.
+     * </p>
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS("proxy.frontend.flush.interval.milliseconds", String.valueOf(0), long.class),
+    
+    /**
+     * Port of metrics endpoint of proxy.
+     *
+     * <p>
+     * Metrics are exposed as prometheus text format via {@code http://<host>:<port>/metrics}.
+     * Default: 0, means metrics endpoint is disabled.
+     * </p>
+     */
+    PROXY_METRICS_PORT("proxy.metrics.port", String.valueOf(0), int.class),
+    
+    /**
+     * Host which metrics endpoint of proxy binds.
+     *
+     * <p>
+     * Default: 127.0.0.1, means metrics endpoint is only accessible locally, use 0.0.0.0 to bind all interfaces.
+     * </p>
+     */
+    PROXY_METRICS_HOST("proxy.metrics.host", "127.0.0.1", String.class);
     
     private final String key;
     
@@ -31,6 +31,8 @@ public class ShardingEvent {
     
     private final String id = UUID.randomUUID().toString();
     
+    private final long startNanoTime = System.nanoTime();
+    
     private ShardingEventType eventType = ShardingEventType.BEFORE_EXECUTE;
     
     private Exception exception;
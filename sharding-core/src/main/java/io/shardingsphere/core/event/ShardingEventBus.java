@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.event;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Sharding event bus.
+ *
+ * <p>
+ * Event types of registered subscribers are tracked,
+ * then execution events can be skipped to create and post if nobody subscribes them.
+ * </p>
+ */
+public final class ShardingEventBus extends EventBus {
+    
+    private final Map<Class<?>, Integer> subscribedEventTypeCounts = new HashMap<>();
+    
+    private volatile Collection<Class<?>> subscribedEventTypes = ImmutableSet.of();
+    
+    @Override
+    public void register(final Object object) {
+        super.register(object);
+        synchronized (subscribedEventTypeCounts) {
+            for (Class<?> each : findSubscribedEventTypes(object)) {
+                Integer count = subscribedEventTypeCounts.get(each);
+                subscribedEventTypeCounts.put(each, null == count ? 1 : count + 1);
+            }
+            subscribedEventTypes = ImmutableSet.copyOf(subscribedEventTypeCounts.keySet());
+        }
+    }
+    
+    @Override
+    public void unregister(final Object object) {
+        super.unregister(object);
+        synchronized (subscribedEventTypeCounts) {
+            for (Class<?> each : findSubscribedEventTypes(object)) {
+                Integer count = subscribedEventTypeCounts.get(each);
+                if (null == count || 1 >= count) {
+                    subscribedEventTypeCounts.remove(each);
+                } else {
+                    subscribedEventTypeCounts.put(each, count - 1);
+                }
+            }
+            subscribedEventTypes = ImmutableSet.copyOf(subscribedEventTypeCounts.keySet());
+        }
+    }
+    
+    private Collection<Class<?>> findSubscribedEventTypes(final Object object) {
+        Collection<Class<?>> result = new LinkedHashSet<>();
+        for (Class<?> each : TypeToken.of(object.getClass()).getTypes().rawTypes()) {
+            for (Method method : each.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && 1 == method.getParameterTypes().length) {
+                    result.add(method.getParameterTypes()[0]);
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge is event type subscribed or not.
+     *
+     * <p>
+     * Event type is subscribed if any subscriber listens it, its super types or its sub types.
+     * </p>
+     *
+     * @param eventType event type
+     * @return is event type subscribed or not
+     */
+    public boolean isSubscribed(final Class<?> eventType) {
+        for (Class<?> each : subscribedEventTypes) {
+            if (each.isAssignableFrom(eventType) || eventType.isAssignableFrom(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
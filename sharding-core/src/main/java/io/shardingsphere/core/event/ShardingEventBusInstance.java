@@ -17,7 +17,6 @@
 
 package io.shardingsphere.core.event;
 
-import com.google.common.eventbus.EventBus;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -29,14 +28,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ShardingEventBusInstance {
     
-    private static final EventBus INSTANCE = new EventBus();
+    private static final ShardingEventBus INSTANCE = new ShardingEventBus();
     
     /**
      * Get sharding event bus instance.
      * 
      * @return sharding event bus instance
      */
-    public static EventBus getInstance() {
+    public static ShardingEventBus getInstance() {
         return INSTANCE;
     }
 }
@@ -17,11 +17,16 @@
 
 package io.shardingsphere.core.executor;
 
+import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.shardingsphere.core.exception.ShardingException;
+import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -30,10 +35,18 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -41,18 +54,98 @@ import java.util.concurrent.TimeUnit;
  * 
  * @author zhangliang
  */
+@Slf4j
 public final class ShardingExecuteEngine implements AutoCloseable {
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    private static final ScheduledThreadPoolExecutor TIMEOUT_EXECUTOR = new ScheduledThreadPoolExecutor(1, ShardingThreadFactoryBuilder.build("Executor-Engine-Timeout"));
+    
+    static {
+        TIMEOUT_EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+    
+    private final ExecutorService delegateExecutorService;
+    
     private final ListeningExecutorService executorService;
     
     public ShardingExecuteEngine(final int executorSize) {
-        executorService = MoreExecutors.listeningDecorator(
-                0 == executorSize ? Executors.newCachedThreadPool(ShardingThreadFactoryBuilder.build()) : Executors.newFixedThreadPool(executorSize, ShardingThreadFactoryBuilder.build()));
+        this(executorSize, 0, false, false);
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final int executorQueueSize, final boolean workStealing, final boolean virtualThread) {
+        delegateExecutorService = createExecutorService(executorSize, executorQueueSize, workStealing, virtualThread);
+        executorService = MoreExecutors.listeningDecorator(delegateExecutorService);
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
+    private ExecutorService createExecutorService(final int executorSize, final int executorQueueSize, final boolean workStealing, final boolean virtualThread) {
+        if (virtualThread) {
+            Optional<ExecutorService> result = createVirtualThreadPerTaskExecutorService();
+            if (result.isPresent()) {
+                return result.get();
+            }
+            log.warn("Virtual thread is unsupported by current JVM, use platform thread for executor.");
+        }
+        if (workStealing) {
+            return new ForkJoinPool(0 == executorSize ? Runtime.getRuntime().availableProcessors() : executorSize);
+        }
+        if (0 == executorSize) {
+            return Executors.newCachedThreadPool(ShardingThreadFactoryBuilder.build());
+        }
+        if (0 == executorQueueSize) {
+            return Executors.newFixedThreadPool(executorSize, ShardingThreadFactoryBuilder.build());
+        }
+        return new ThreadPoolExecutor(executorSize, executorSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(executorQueueSize), ShardingThreadFactoryBuilder.build(), new CallerRunsUnlessShutdownPolicy());
+    }
+    
+    private Optional<ExecutorService> createVirtualThreadPerTaskExecutorService() {
+        Optional<ThreadFactory> threadFactory = ShardingThreadFactoryBuilder.buildVirtual("Virtual-");
+        if (!threadFactory.isPresent()) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory.get()));
+        } catch (final ReflectiveOperationException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    /**
+     * Get count of threads which are executing tasks.
+     * 
+     * <p>
+     * Virtual threads are not counted.
+     * </p>
+     *
+     * @return count of threads which are executing tasks
+     */
+    public int getActiveThreadCount() {
+        if (delegateExecutorService instanceof ForkJoinPool) {
+            return ((ForkJoinPool) delegateExecutorService).getActiveThreadCount();
+        }
+        if (delegateExecutorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) delegateExecutorService).getActiveCount();
+        }
+        return 0;
+    }
+    
+    /**
+     * Get count of tasks which are waiting for execution.
+     *
+     * @return count of tasks which are waiting for execution
+     */
+    public long getQueuedTaskCount() {
+        if (delegateExecutorService instanceof ForkJoinPool) {
+            return ((ForkJoinPool) delegateExecutorService).getQueuedSubmissionCount() + ((ForkJoinPool) delegateExecutorService).getQueuedTaskCount();
+        }
+        if (delegateExecutorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) delegateExecutorService).getQueue().size();
+        }
+        return 0L;
+    }
+    
     /**
      * Execute.
      *
@@ -84,12 +177,12 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         }
         Iterator<I> inputIterator = inputs.iterator();
         I firstInput = inputIterator.next();
-        Collection<ListenableFuture<O>> restFutures = asyncExecute(Lists.newArrayList(inputIterator), callback);
+        Collection<ListenableFuture<O>> restFutures = submit(Lists.newArrayList(inputIterator), callback);
         return getResults(syncExecute(firstInput, null == firstCallback ? callback : firstCallback), restFutures);
     }
     
-    private <I, O> Collection<ListenableFuture<O>> asyncExecute(final Collection<I> inputs, final ShardingExecuteCallback<I, O> callback) {
-        Collection<ListenableFuture<O>> result = new ArrayList<>(inputs.size());
+    private <I, O> List<ListenableFuture<O>> submit(final Collection<I> inputs, final ShardingExecuteCallback<I, O> callback) {
+        List<ListenableFuture<O>> result = new ArrayList<>(inputs.size());
         for (final I each : inputs) {
             result.add(executorService.submit(new Callable<O>() {
                 
@@ -151,19 +244,19 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         }
         Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
         ShardingExecuteGroup<I> firstInputs = inputGroupsIterator.next();
-        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncGroupExecute(Lists.newArrayList(inputGroupsIterator), callback);
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = submitGroups(Lists.newArrayList(inputGroupsIterator), callback);
         return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
-        Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
+    private <I, O> List<ListenableFuture<Collection<O>>> submitGroups(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+        List<ListenableFuture<Collection<O>>> result = new LinkedList<>();
         for (ShardingExecuteGroup<I> each : inputGroups) {
-            result.add(asyncGroupExecute(each, callback));
+            result.add(submitGroup(each, callback));
         }
         return result;
     }
     
-    private <I, O> ListenableFuture<Collection<O>> asyncGroupExecute(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
+    private <I, O> ListenableFuture<Collection<O>> submitGroup(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
         return executorService.submit(new Callable<Collection<O>>() {
             
             @Override
@@ -190,6 +283,127 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return result;
     }
     
+    /**
+     * Execute asynchronously.
+     *
+     * @param inputs input values
+     * @param callback sharding execute callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute results
+     */
+    public <I, O> ListenableFuture<List<O>> asyncExecute(final Collection<I> inputs, final ShardingExecuteCallback<I, O> callback) {
+        return asyncExecute(inputs, callback, null, 0L);
+    }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>
+     * Returned future fails on first failure of any input, and executions of other inputs are cancelled.
+     * </p>
+     *
+     * @param inputs input values
+     * @param callback sharding execute callback
+     * @param completionCallback callback for result of each input in completion order, null means no callback
+     * @param timeoutMilliseconds timeout of each input execution in milliseconds, 0 means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute results
+     */
+    public <I, O> ListenableFuture<List<O>> asyncExecute(
+            final Collection<I> inputs, final ShardingExecuteCallback<I, O> callback, final FutureCallback<O> completionCallback, final long timeoutMilliseconds) {
+        List<ListenableFuture<O>> futures = submit(inputs, callback);
+        for (ListenableFuture<O> each : futures) {
+            if (null != completionCallback) {
+                Futures.addCallback(each, completionCallback);
+            }
+        }
+        return combine(futures, timeoutMilliseconds);
+    }
+    
+    /**
+     * Execute for group asynchronously.
+     *
+     * @param inputGroups input groups
+     * @param callback sharding execute callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute results
+     */
+    public <I, O> ListenableFuture<List<O>> asyncGroupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+        return asyncGroupExecute(inputGroups, callback, 0L);
+    }
+    
+    /**
+     * Execute for group asynchronously.
+     * 
+     * <p>
+     * Returned future fails on first failure of any input group, and executions of other input groups are cancelled.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param callback sharding execute callback
+     * @param timeoutMilliseconds timeout of each input group execution in milliseconds, 0 means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute results
+     */
+    public <I, O> ListenableFuture<List<O>> asyncGroupExecute(
+            final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback, final long timeoutMilliseconds) {
+        return Futures.transform(combine(submitGroups(inputGroups, callback), timeoutMilliseconds), new Function<List<Collection<O>>, List<O>>() {
+            
+            @Override
+            public List<O> apply(final List<Collection<O>> input) {
+                List<O> result = new LinkedList<>();
+                for (Collection<O> each : input) {
+                    result.addAll(each);
+                }
+                return result;
+            }
+        });
+    }
+    
+    private <O> ListenableFuture<List<O>> combine(final List<ListenableFuture<O>> futures, final long timeoutMilliseconds) {
+        if (timeoutMilliseconds > 0L) {
+            for (ListenableFuture<O> each : futures) {
+                cancelOnTimeout(each, timeoutMilliseconds);
+            }
+        }
+        ListenableFuture<List<O>> result = Futures.allAsList(futures);
+        Futures.addCallback(result, new FutureCallback<List<O>>() {
+            
+            @Override
+            public void onSuccess(final List<O> results) {
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+                for (ListenableFuture<O> each : futures) {
+                    each.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+    
+    private void cancelOnTimeout(final ListenableFuture<?> future, final long timeoutMilliseconds) {
+        final ScheduledFuture<?> timeoutFuture = TIMEOUT_EXECUTOR.schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                future.cancel(true);
+            }
+        }, timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        future.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                timeoutFuture.cancel(false);
+            }
+        }, MoreExecutors.sameThreadExecutor());
+    }
+    
     private <O> List<O> throwException(final Exception ex) throws SQLException {
         if (ex.getCause() instanceof SQLException) {
             throw (SQLException) ex.getCause();
@@ -214,4 +428,18 @@ public final class ShardingExecuteEngine implements AutoCloseable {
             }
         });
     }
+    
+    /**
+     * Run rejected task in caller thread for back pressure, unless executor has been shutdown.
+     */
+    private static final class CallerRunsUnlessShutdownPolicy implements RejectedExecutionHandler {
+        
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Sharding execute engine has been closed.");
+            }
+            runnable.run();
+        }
+    }
 }
@@ -17,8 +17,8 @@
 
 package io.shardingsphere.core.executor.sql.execute;
 
-import com.google.common.eventbus.EventBus;
 import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.event.ShardingEventBus;
 import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.core.executor.ShardingExecuteCallback;
 import io.shardingsphere.core.executor.ShardingGroupExecuteCallback;
@@ -52,7 +52,7 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
     
     private final Map<String, Object> dataMap;
     
-    private final EventBus shardingEventBus = ShardingEventBusInstance.getInstance();
+    private final ShardingEventBus shardingEventBus = ShardingEventBusInstance.getInstance();
     
     @Override
     public final T execute(final SQLExecuteUnit sqlExecuteUnit) throws SQLException {
@@ -71,6 +71,14 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
     private T execute0(final SQLExecuteUnit sqlExecuteUnit) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         ExecutorDataMap.setDataMap(dataMap);
+        if (!shardingEventBus.isSubscribed(SQLExecutionEvent.class)) {
+            try {
+                return executeSQL(sqlExecuteUnit);
+            } catch (final SQLException ex) {
+                ExecutorExceptionHandler.handleException(ex);
+                return null;
+            }
+        }
         List<SQLExecutionEvent> events = new LinkedList<>();
         for (List<Object> each : sqlExecuteUnit.getRouteUnit().getSqlUnit().getParameterSets()) {
             SQLExecutionEvent event = SQLExecutionEventFactory.createEvent(sqlType, sqlExecuteUnit, each, sqlExecuteUnit.getStatement().getConnection().getMetaData().getURL());
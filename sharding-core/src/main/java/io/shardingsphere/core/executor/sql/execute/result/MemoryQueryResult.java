@@ -15,8 +15,11 @@
  * </p>
  */
 
+
 package io.shardingsphere.core.executor.sql.execute.result;
 
+import io.shardingsphere.core.executor.sql.execute.result.column.MemoryColumn;
+import io.shardingsphere.core.executor.sql.execute.result.column.MemoryColumnFactory;
 import io.shardingsphere.core.merger.QueryResult;
 
 import java.io.InputStream;
@@ -25,110 +28,139 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Query result for memory loading.
+ * 
+ * <p>
+ * Rows are loaded into columns, values of int, long and double columns are held by primitive arrays.
+ * </p>
  *
  * @author zhangliang
  * @author panjuan
  */
 public final class MemoryQueryResult implements QueryResult {
     
+    private final List<String> columnLabels;
+    
     private final Map<String, Integer> columnLabelAndIndexMap;
     
-    private final Iterator<List<Object>> resultData;
+    private final MemoryColumn[] columns;
+    
+    private final int rowCount;
     
-    private List<Object> currentRow;
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        columnLabelAndIndexMap = getMetaData(resultSet.getMetaData());
-        resultData = getResultData(resultSet);
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        columnLabels = getColumnLabels(resultSetMetaData);
+        columnLabelAndIndexMap = getColumnLabelAndIndexMap(columnLabels);
+        columns = getColumns(resultSetMetaData);
+        rowCount = load(resultSet);
+    }
+    
+    private List<String> getColumnLabels(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        int columnCount = resultSetMetaData.getColumnCount();
+        List<String> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(resultSetMetaData.getColumnLabel(columnIndex));
+        }
+        return result;
     }
     
-    private Map<String, Integer> getMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
-        Map<String, Integer> result = new HashMap<>();
-        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
-            result.put(resultSetMetaData.getColumnLabel(columnIndex), columnIndex);
+    private Map<String, Integer> getColumnLabelAndIndexMap(final List<String> columnLabels) {
+        Map<String, Integer> result = new HashMap<>(columnLabels.size(), 1);
+        for (int i = 0; i < columnLabels.size(); i++) {
+            result.put(columnLabels.get(i), i + 1);
         }
         return result;
     }
     
-    private Iterator<List<Object>> getResultData(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
+    private MemoryColumn[] getColumns(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        MemoryColumn[] result = new MemoryColumn[columnLabels.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = MemoryColumnFactory.newInstance(resultSetMetaData, i + 1);
+        }
+        return result;
+    }
+    
+    private int load(final ResultSet resultSet) throws SQLException {
+        int result = 0;
         while (resultSet.next()) {
-            List<Object> row = new ArrayList<>(columnLabelAndIndexMap.size());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                row.add(resultSet.getObject(columnIndex));
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].load(resultSet, i + 1);
             }
-            result.add(row);
+            result++;
         }
-        return result.iterator();
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
+        if (currentRowIndex + 1 < rowCount) {
+            currentRowIndex++;
             return true;
         }
-        currentRow = null;
+        currentRowIndex = rowCount;
         return false;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.get(columnLabelAndIndexMap.get(columnLabel));
+        return getCurrentValue(columnLabelAndIndexMap.get(columnLabel));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnLabelAndIndexMap.get(columnLabel));
+        return getCurrentValue(columnLabelAndIndexMap.get(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) currentRow.get(columnIndex - 1);
+        return (InputStream) getCurrentValue(columnIndex);
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.get(columnLabelAndIndexMap.get(columnLabel));
+        return (InputStream) getCurrentValue(columnLabelAndIndexMap.get(columnLabel));
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        Object result = columns[columnIndex - 1].get(currentRowIndex);
+        wasNull = null == result;
+        return result;
     }
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return wasNull;
     }
     
     @Override
     public int getColumnCount() {
-        return columnLabelAndIndexMap.size();
+        return columns.length;
     }
     
     @Override
     public String getColumnLabel(final int columnIndex) throws SQLException {
-        for (Entry<String, Integer> entry : columnLabelAndIndexMap.entrySet()) {
-            if (columnIndex == entry.getValue()) {
-                return entry.getKey();
-            }
+        if (columnIndex < 1 || columnIndex > columnLabels.size()) {
+            throw new SQLException("Column index out of range", "9999");
         }
-        throw new SQLException("Column index out of range", "9999");
+        return columnLabels.get(columnIndex - 1);
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Abstract memory column.
+ * 
+ * <p>
+ * Values are held in chunks which are appended when full, so loading never copies loaded values.
+ * Chunk size starts small and doubles until it reaches the fixed chunk size, so small result sets do not allocate full chunks.
+ * SQL NULL is recorded in a bitmap for each chunk.
+ * </p>
+ *
+ * @param <T> type of chunk
+ */
+public abstract class AbstractMemoryColumn<T> implements MemoryColumn {
+    
+    private static final int FIRST_CHUNK_SHIFT = 4;
+    
+    private static final int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_SHIFT;
+    
+    private static final int CHUNK_SHIFT = 10;
+    
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    private static final int OFFSET_MASK = CHUNK_SIZE - 1;
+    
+    private final List<T> chunks = new ArrayList<>();
+    
+    private final List<long[]> nullBitmaps = new ArrayList<>();
+    
+    private int rowCount;
+    
+    @Override
+    public final void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        int offset = getOffset(rowCount);
+        if (0 == offset) {
+            int chunkSize = Math.min(Math.max(rowCount, FIRST_CHUNK_SIZE), CHUNK_SIZE);
+            chunks.add(newChunk(chunkSize));
+            nullBitmaps.add(new long[(chunkSize + 63) >> 6]);
+        }
+        int chunkIndex = getChunkIndex(rowCount);
+        if (!setValue(chunks.get(chunkIndex), offset, resultSet, columnIndex)) {
+            nullBitmaps.get(chunkIndex)[offset >> 6] |= 1L << (offset & 63);
+        }
+        rowCount++;
+    }
+    
+    @Override
+    public final Object get(final int rowIndex) {
+        int chunkIndex = getChunkIndex(rowIndex);
+        int offset = getOffset(rowIndex);
+        if (0 != (nullBitmaps.get(chunkIndex)[offset >> 6] & 1L << (offset & 63))) {
+            return null;
+        }
+        return getValue(chunks.get(chunkIndex), offset);
+    }
+    
+    private int getChunkIndex(final int rowIndex) {
+        if (rowIndex < FIRST_CHUNK_SIZE) {
+            return 0;
+        }
+        if (rowIndex < CHUNK_SIZE) {
+            return Integer.SIZE - Integer.numberOfLeadingZeros(rowIndex) - FIRST_CHUNK_SHIFT;
+        }
+        return (rowIndex >> CHUNK_SHIFT) + CHUNK_SHIFT - FIRST_CHUNK_SHIFT;
+    }
+    
+    private int getOffset(final int rowIndex) {
+        if (rowIndex < FIRST_CHUNK_SIZE) {
+            return rowIndex;
+        }
+        if (rowIndex < CHUNK_SIZE) {
+            return rowIndex - Integer.highestOneBit(rowIndex);
+        }
+        return rowIndex & OFFSET_MASK;
+    }
+    
+    protected abstract T newChunk(int size);
+    
+    protected abstract boolean setValue(T chunk, int offset, ResultSet resultSet, int columnIndex) throws SQLException;
+    
+    protected abstract Object getValue(T chunk, int offset);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Memory column for double values.
+ */
+public final class DoubleMemoryColumn extends AbstractMemoryColumn<double[]> {
+    
+    @Override
+    protected double[] newChunk(final int size) {
+        return new double[size];
+    }
+    
+    @Override
+    protected boolean setValue(final double[] chunk, final int offset, final ResultSet resultSet, final int columnIndex) throws SQLException {
+        chunk[offset] = resultSet.getDouble(columnIndex);
+        return !resultSet.wasNull();
+    }
+    
+    @Override
+    protected Object getValue(final double[] chunk, final int offset) {
+        return Double.valueOf(chunk[offset]);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Column of query result loaded into memory.
+ */
+public interface MemoryColumn {
+    
+    /**
+     * Load value of current row from result set.
+     * 
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    void load(ResultSet resultSet, int columnIndex) throws SQLException;
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value, null if value is SQL NULL
+     */
+    Object get(int rowIndex);
+}
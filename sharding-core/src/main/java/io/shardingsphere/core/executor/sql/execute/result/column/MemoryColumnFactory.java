@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Memory column factory.
+ * 
+ * <p>
+ * Primitive memory column is used only if JDBC driver declares the same boxed type for the column,
+ * so that values read from memory are same as {@code ResultSet.getObject}.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryColumnFactory {
+    
+    /**
+     * Create new instance of memory column.
+     *
+     * @param resultSetMetaData result set meta data
+     * @param columnIndex column index
+     * @return memory column
+     * @throws SQLException SQL exception
+     */
+    public static MemoryColumn newInstance(final ResultSetMetaData resultSetMetaData, final int columnIndex) throws SQLException {
+        String columnClassName = resultSetMetaData.getColumnClassName(columnIndex);
+        switch (resultSetMetaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.class.getName().equals(columnClassName) ? new IntMemoryColumn() : new ObjectMemoryColumn();
+            case Types.BIGINT:
+                return Long.class.getName().equals(columnClassName) ? new LongMemoryColumn() : new ObjectMemoryColumn();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.class.getName().equals(columnClassName) ? new DoubleMemoryColumn() : new ObjectMemoryColumn();
+            default:
+                return new ObjectMemoryColumn();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.routing.RouteUnit;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Connection mode selector.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectionModeSelector {
+    
+    /**
+     * Select connection mode for route units.
+     *
+     * @param connectionMode configured connection mode
+     * @param routeUnits route units
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return connection mode for route units
+     */
+    public static ConnectionMode select(final ConnectionMode connectionMode, final Collection<RouteUnit> routeUnits, final int maxConnectionsSizePerQuery) {
+        return select(connectionMode, routeUnits, maxConnectionsSizePerQuery, Collections.<String, Integer>emptyMap());
+    }
+    
+    /**
+     * Select connection mode for route units.
+     *
+     * <p>
+     * Only {@code ADAPTIVE} is resolved by route units, other connection modes are returned as configured.
+     * {@code MEMORY_STRICTLY} is selected if route units of every data source are not more than max connections size per query
+     * and available connections of the data source, otherwise {@code CONNECTION_STRICTLY} is selected.
+     * </p>
+     *
+     * @param connectionMode configured connection mode
+     * @param routeUnits route units
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @param availableConnectionSizes available connection sizes of data sources, data source absent means unlimited
+     * @return connection mode for route units
+     */
+    public static ConnectionMode select(final ConnectionMode connectionMode, final Collection<RouteUnit> routeUnits, 
+                                        final int maxConnectionsSizePerQuery, final Map<String, Integer> availableConnectionSizes) {
+        if (ConnectionMode.ADAPTIVE != connectionMode) {
+            return connectionMode;
+        }
+        for (Entry<String, Integer> entry : getConnectionSizes(routeUnits).entrySet()) {
+            Integer availableConnectionSize = availableConnectionSizes.get(entry.getKey());
+            if (entry.getValue() > maxConnectionsSizePerQuery || null != availableConnectionSize && entry.getValue() > availableConnectionSize) {
+                return ConnectionMode.CONNECTION_STRICTLY;
+            }
+        }
+        return ConnectionMode.MEMORY_STRICTLY;
+    }
+    
+    private static Map<String, Integer> getConnectionSizes(final Collection<RouteUnit> routeUnits) {
+        Map<String, Integer> result = new HashMap<>();
+        for (RouteUnit each : routeUnits) {
+            Integer connectionSize = result.get(each.getDataSourceName());
+            result.put(each.getDataSourceName(), null == connectionSize ? 1 : connectionSize + 1);
+        }
+        return result;
+    }
+}
@@ -22,6 +22,7 @@ import io.shardingsphere.core.routing.RouteUnit;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * SQL execute prepare callback.
@@ -31,13 +32,16 @@ import java.sql.SQLException;
 public interface SQLExecutePrepareCallback {
     
     /**
-     * Get connection.
+     * Get connections.
+     * 
+     * <p>All connections of one data source should be acquired together, or none of them.</p>
      * 
      * @param dataSourceName data source name
-     * @return connection
+     * @param connectionSize size of connections to be get
+     * @return connections
      * @throws SQLException SQL exception
      */
-    Connection getConnection(String dataSourceName) throws SQLException;
+    List<Connection> getConnections(String dataSourceName, int connectionSize) throws SQLException;
     
     /**
      * Create SQL execute unit.
@@ -27,11 +27,11 @@ import lombok.RequiredArgsConstructor;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 
 /**
  * SQL execute prepare template.
@@ -47,6 +47,10 @@ public final class SQLExecutePrepareTemplate {
     /**
      * Get execute unit groups.
      * 
+     * <p>
+     * Connections are acquired in order of data source name, so queries which wait for connections of several data sources can not wait for each other.
+     * </p>
+     * 
      * @param routeUnits route units
      * @param callback SQL execute prepare callback
      * @return statement execute unit groups
@@ -62,7 +66,7 @@ public final class SQLExecutePrepareTemplate {
     }
     
     private Map<String, List<SQLUnit>> getSQLUnitGroups(final Collection<RouteUnit> routeUnits) {
-        Map<String, List<SQLUnit>> result = new LinkedHashMap<>(routeUnits.size(), 1);
+        Map<String, List<SQLUnit>> result = new TreeMap<>();
         for (RouteUnit each : routeUnits) {
             if (!result.containsKey(each.getDataSourceName())) {
                 result.put(each.getDataSourceName(), new LinkedList<SQLUnit>());
@@ -75,9 +79,11 @@ public final class SQLExecutePrepareTemplate {
     private List<ShardingExecuteGroup<SQLExecuteUnit>> getSQLExecuteGroups(final String dataSourceName, final List<SQLUnit> sqlUnits, final SQLExecutePrepareCallback callback) throws SQLException {
         List<ShardingExecuteGroup<SQLExecuteUnit>> result = new LinkedList<>();
         int desiredPartitionSize = Math.max(sqlUnits.size() / maxConnectionsSizePerQuery, 1);
-        for (List<SQLUnit> each : Lists.partition(sqlUnits, desiredPartitionSize)) {
-            // TODO get connection sync to prevent dead lock
-            result.add(getSQLExecuteGroup(callback.getConnection(dataSourceName), dataSourceName, each, callback));
+        List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
+        List<Connection> connections = callback.getConnections(dataSourceName, sqlUnitPartitions.size());
+        int count = 0;
+        for (List<SQLUnit> each : sqlUnitPartitions) {
+            result.add(getSQLExecuteGroup(connections.get(count++), dataSourceName, each, callback));
         }
         return result;
     }
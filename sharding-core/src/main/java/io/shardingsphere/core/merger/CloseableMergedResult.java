@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which holds resources to be released, such as temporary files.
+ */
+public interface CloseableMergedResult extends MergedResult {
+    
+    /**
+     * Close merged result and release resources held by it.
+     * 
+     * <p>
+     * Rows left in merged result can not be read after it is closed. Close more than once takes no effect.
+     * </p>
+     *
+     * @throws SQLException SQL exception
+     */
+    void close() throws SQLException;
+}
@@ -18,6 +18,8 @@
 package io.shardingsphere.core.merger.dql;
 
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.merger.MergeEngine;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
@@ -35,6 +37,7 @@ import io.shardingsphere.core.util.SQLUtil;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
@@ -50,10 +53,17 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final Map<String, Integer> columnLabelIndexMap;
     
+    private final int groupByMemoryMergeMaxRows;
+    
     public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(queryResults, selectStatement, new ShardingProperties(new Properties()));
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, final ShardingProperties shardingProperties) throws SQLException {
         this.queryResults = queryResults;
         this.selectStatement = selectStatement;
         columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
+        groupByMemoryMergeMaxRows = shardingProperties.getValue(ShardingPropertiesConstant.GROUP_BY_MEMORY_MERGE_MAX_ROWS);
     }
     
     private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
@@ -75,7 +85,7 @@ public final class DQLMergeEngine implements MergeEngine {
             if (selectStatement.isSameGroupByAndOrderByItems()) {
                 return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
             } else {
-                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, groupByMemoryMergeMaxRows);
             }
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.merger.dql.common;
 
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.MergedResult;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +33,7 @@ import java.util.Calendar;
  */
 @RequiredArgsConstructor
 @Getter
-public abstract class DecoratorMergedResult implements MergedResult {
+public abstract class DecoratorMergedResult implements CloseableMergedResult {
     
     private final MergedResult mergedResult;
         
@@ -70,4 +71,11 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void close() throws SQLException {
+        if (mergedResult instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergedResult).close();
+        }
+    }
 }
@@ -19,6 +19,7 @@ package io.shardingsphere.core.merger.dql.common;
 
 import com.google.common.base.Preconditions;
 import io.shardingsphere.core.merger.QueryResult;
+import lombok.Getter;
 
 import java.sql.SQLException;
 
@@ -29,6 +30,7 @@ import java.sql.SQLException;
  */
 public class MemoryQueryResultRow {
     
+    @Getter
     private final Object[] data;
     
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
@@ -19,20 +19,31 @@ package io.shardingsphere.core.merger.dql.groupby;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
+import com.google.common.collect.PeekingIterator;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpillFileReader;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpillFileWriter;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpilledQueryResult;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpilledRowIterator;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -40,30 +51,73 @@ import java.util.Map.Entry;
 /**
  * Memory merged result for group by.
  *
+ * <p>
+ * If count of groups in memory exceeds {@code maxRowsInMemory}, partially aggregated groups are hash partitioned and spilled to temporary files,
+ * derived columns of average are aggregated too for re-aggregating spilled rows.
+ * After all query results consumed, each partition is aggregated and sorted in memory then spilled again as a sorted run,
+ * and sorted runs are merged by stream.
+ * A partition which still has more groups than {@code maxRowsInMemory} is partitioned again by other bits of hash code of group by values,
+ * so no more than {@code maxRowsInMemory} groups are held in memory at any time.
+ * Temporary files are deleted once rows in them are read, or when merged result is closed or merging fails.
+ * </p>
+ *
  * @author zhangliang
  */
-public final class GroupByMemoryMergedResult extends MemoryMergedResult {
+public final class GroupByMemoryMergedResult extends MemoryMergedResult implements CloseableMergedResult {
+    
+    private static final int SPILL_PARTITION_BITS = 4;
+    
+    private static final int SPILL_PARTITION_COUNT = 1 << SPILL_PARTITION_BITS;
+    
+    private static final int MAX_SPILL_DEPTH = Integer.SIZE / SPILL_PARTITION_BITS;
     
     private final SelectStatement selectStatement;
     
+    private final int maxRowsInMemory;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private final Collection<SpillFileWriter> spillFileWriters = new LinkedList<>();
+    
+    private final Collection<SpilledRowIterator> sortedRuns = new LinkedList<>();
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, 0);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap,
+                                     final List<QueryResult> queryResults, final SelectStatement selectStatement, final int maxRowsInMemory) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
+        this.maxRowsInMemory = maxRowsInMemory;
         memoryResultSetRows = init(queryResults);
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
+        try {
+            return merge(queryResults);
+        } catch (final SQLException | RuntimeException ex) {
+            try {
+                close();
+            } catch (final SQLException closeException) {
+                ex.addSuppressed(closeException);
+            }
+            throw ex;
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        List<SpillFileWriter> spilledPartitions = null;
         for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
-            }
+            spilledPartitions = aggregate(each, dataMap, aggregationMap, spilledPartitions, 0, maxRowsInMemory > 0);
+        }
+        if (null != spilledPartitions) {
+            return mergeSpilledPartitions(spill(dataMap, aggregationMap, spilledPartitions, 0), getColumnLabels(queryResults.get(0)));
         }
         setAggregationValueToMemoryRow(dataMap, aggregationMap);
         List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
@@ -73,13 +127,28 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result.iterator();
     }
     
+    private List<SpillFileWriter> aggregate(final QueryResult queryResult, final Map<GroupByValue, MemoryQueryResultRow> dataMap, 
+                                            final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap, 
+                                            final List<SpillFileWriter> spilledPartitions, final int depth, final boolean spillable) throws SQLException {
+        List<SpillFileWriter> result = spilledPartitions;
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, selectStatement.getGroupByItems());
+            initForFirstGroupByValue(queryResult, groupByValue, dataMap, aggregationMap);
+            aggregate(queryResult, groupByValue, aggregationMap);
+            if (spillable && dataMap.size() >= maxRowsInMemory) {
+                result = spill(dataMap, aggregationMap, result, depth);
+            }
+        }
+        return result;
+    }
+    
     private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
                                           final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
         if (!dataMap.containsKey(groupByValue)) {
             dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
         }
         if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
+            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(getAggregationSelectItemsToMerge(), new Function<AggregationSelectItem, AggregationUnit>() {
                 
                 @Override
                 public AggregationUnit apply(final AggregationSelectItem input) {
@@ -90,17 +159,29 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
     }
     
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
+    private List<AggregationSelectItem> getAggregationSelectItemsToMerge() {
+        if (0 == maxRowsInMemory) {
+            return selectStatement.getAggregationSelectItems();
+        }
+        List<AggregationSelectItem> result = new ArrayList<>(selectStatement.getAggregationSelectItems());
         for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+            result.addAll(each.getDerivedAggregationSelectItems());
+        }
+        return result;
+    }
+    
+    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
+        for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationMap.get(groupByValue).entrySet()) {
+            AggregationSelectItem aggregationSelectItem = entry.getKey();
+            aggregationValues.clear();
+            if (aggregationSelectItem.getDerivedAggregationSelectItems().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, aggregationSelectItem));
             } else {
-                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                for (AggregationSelectItem derived : aggregationSelectItem.getDerivedAggregationSelectItems()) {
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            entry.getValue().merge(aggregationValues);
         }
     }
     
@@ -112,8 +193,8 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            for (Entry<AggregationSelectItem, AggregationUnit> each : aggregationMap.get(entry.getKey()).entrySet()) {
+                entry.getValue().setCell(each.getKey().getIndex(), each.getValue().getResult());
             }
         }
     }
@@ -124,6 +205,103 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result;
     }
     
+    private List<SpillFileWriter> spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap,
+                                        final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap, final List<SpillFileWriter> spilledPartitions, final int depth) {
+        setAggregationValueToMemoryRow(dataMap, aggregationMap);
+        try {
+            List<SpillFileWriter> result = null == spilledPartitions ? createSpillPartitions() : spilledPartitions;
+            for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+                result.get(getPartitionIndex(entry.getKey(), depth)).write(entry.getValue().getData());
+            }
+            dataMap.clear();
+            aggregationMap.clear();
+            return result;
+        } catch (final IOException ex) {
+            throw new ShardingException("Spill group by rows failure", ex);
+        }
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return (hash >>> (depth * SPILL_PARTITION_BITS)) & (SPILL_PARTITION_COUNT - 1);
+    }
+    
+    private List<SpillFileWriter> createSpillPartitions() throws IOException {
+        List<SpillFileWriter> result = new ArrayList<>(SPILL_PARTITION_COUNT);
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            result.add(createSpillFileWriter());
+        }
+        return result;
+    }
+    
+    private List<String> getColumnLabels(final QueryResult queryResult) throws SQLException {
+        List<String> result = new ArrayList<>(queryResult.getColumnCount());
+        for (int i = 1; i <= queryResult.getColumnCount(); i++) {
+            result.add(queryResult.getColumnLabel(i));
+        }
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergeSpilledPartitions(final List<SpillFileWriter> spilledPartitions, final List<String> columnLabels) throws SQLException {
+        List<Iterator<MemoryQueryResultRow>> sortedRuns = new LinkedList<>();
+        try {
+            aggregateSpilledPartitions(spilledPartitions, columnLabels, 0, sortedRuns);
+        } catch (final IOException ex) {
+            throw new ShardingException("Merge spilled group by rows failure", ex);
+        }
+        PeekingIterator<MemoryQueryResultRow> result = Iterators.peekingIterator(Iterators.mergeSorted(sortedRuns, new GroupByRowComparator(selectStatement)));
+        if (result.hasNext()) {
+            setCurrentResultSetRow(result.peek());
+        }
+        return result;
+    }
+    
+    private void aggregateSpilledPartitions(final List<SpillFileWriter> spilledPartitions, final List<String> columnLabels, 
+                                            final int depth, final List<Iterator<MemoryQueryResultRow>> sortedRuns) throws SQLException, IOException {
+        for (SpillFileWriter each : spilledPartitions) {
+            List<SpillFileWriter> subPartitions = null;
+            try (SpillFileReader reader = each.openReader(columnLabels.size())) {
+                if (0 == each.getRowCount()) {
+                    continue;
+                }
+                boolean spillable = each.getRowCount() > maxRowsInMemory && depth + 1 < MAX_SPILL_DEPTH;
+                Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+                Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+                subPartitions = aggregate(new SpilledQueryResult(reader, columnLabels), dataMap, aggregationMap, null, depth + 1, spillable);
+                if (null == subPartitions) {
+                    setAggregationValueToMemoryRow(dataMap, aggregationMap);
+                    sortedRuns.add(spillSortedRun(getMemoryResultSetRows(dataMap), columnLabels));
+                } else {
+                    subPartitions = spill(dataMap, aggregationMap, subPartitions, depth + 1);
+                }
+            }
+            if (null != subPartitions) {
+                aggregateSpilledPartitions(subPartitions, columnLabels, depth + 1, sortedRuns);
+            }
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> spillSortedRun(final List<MemoryQueryResultRow> sortedRows, final List<String> columnLabels) throws IOException {
+        SpillFileWriter writer = createSpillFileWriter();
+        for (MemoryQueryResultRow each : sortedRows) {
+            writer.write(each.getData());
+        }
+        SpilledRowIterator result = new SpilledRowIterator(writer.openReader(columnLabels.size()), columnLabels);
+        sortedRuns.add(result);
+        return result;
+    }
+    
+    private SpillFileWriter createSpillFileWriter() throws IOException {
+        SpillFileWriter result = new SpillFileWriter();
+        spillFileWriters.add(result);
+        return result;
+    }
+    
     @Override
     public boolean next() {
         if (memoryResultSetRows.hasNext()) {
@@ -132,4 +310,24 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
         return false;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        IOException closeException = null;
+        for (SpilledRowIterator each : sortedRuns) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                closeException = ex;
+            }
+        }
+        sortedRuns.clear();
+        for (SpillFileWriter each : spillFileWriters) {
+            each.discard();
+        }
+        spillFileWriters.clear();
+        if (null != closeException) {
+            throw new SQLException(closeException);
+        }
+    }
 }
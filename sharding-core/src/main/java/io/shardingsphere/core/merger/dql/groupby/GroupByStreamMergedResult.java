@@ -48,6 +48,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(
@@ -56,13 +58,13 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         this.labelAndIndexMap = labelAndIndexMap;
         this.selectStatement = selectStatement;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
+        currentGroupByValues = getOrderByValueLoserTree().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
     }
     
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValueLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -97,15 +99,15 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private void aggregate(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) throws SQLException {
         for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            aggregationValues.clear();
             if (entry.getKey().getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+                aggregationValues.add(getAggregationValue(entry.getKey()));
             } else {
                 for (AggregationSelectItem each : entry.getKey().getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(each));
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            entry.getValue().merge(aggregationValues);
         }
     }
     
@@ -18,7 +18,6 @@
 package io.shardingsphere.core.merger.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -26,28 +25,93 @@ import java.util.List;
 /**
  * Accumulation aggregation unit.
  * 
+ * <p>
+ * Integral values are accumulated as long and double values are accumulated as double,
+ * accumulation falls back to big decimal when value types are mixed, unknown or long overflows.
+ * </p>
+ * 
  * @author zhangliang
  */
 @RequiredArgsConstructor
-@Slf4j
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private AccumulationType accumulationType;
+    
+    private long longResult;
+    
+    private double doubleResult;
+    
+    private BigDecimal decimalResult;
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (null == result) {
-            result = new BigDecimal("0");
+        accumulate(values.get(0));
+    }
+    
+    void accumulate(final Comparable<?> value) {
+        if (isIntegral(value) && (null == accumulationType || AccumulationType.LONG == accumulationType)) {
+            accumulateLong(((Number) value).longValue());
+        } else if (value instanceof Double && (null == accumulationType || AccumulationType.DOUBLE == accumulationType)) {
+            accumulationType = AccumulationType.DOUBLE;
+            doubleResult += (Double) value;
+        } else {
+            switchToDecimal();
+            decimalResult = decimalResult.add(toDecimal(value));
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
-        log.trace("Accumulation result: {}", result.toString());
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private void accumulateLong(final long value) {
+        long sum = longResult + value;
+        if (((longResult ^ sum) & (value ^ sum)) < 0) {
+            switchToDecimal();
+            decimalResult = decimalResult.add(BigDecimal.valueOf(value));
+            return;
+        }
+        accumulationType = AccumulationType.LONG;
+        longResult = sum;
+    }
+    
+    private void switchToDecimal() {
+        if (AccumulationType.DECIMAL != accumulationType) {
+            decimalResult = null == accumulationType ? BigDecimal.ZERO : getResult();
+            accumulationType = AccumulationType.DECIMAL;
+        }
+    }
+    
+    private BigDecimal toDecimal(final Comparable<?> value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (isIntegral(value)) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value.toString());
     }
     
     @Override
-    public Comparable<?> getResult() {
-        return result;
+    public BigDecimal getResult() {
+        if (null == accumulationType) {
+            return null;
+        }
+        switch (accumulationType) {
+            case LONG:
+                return BigDecimal.valueOf(longResult);
+            case DOUBLE:
+                return BigDecimal.valueOf(doubleResult);
+            default:
+                return decimalResult;
+        }
+    }
+    
+    private enum AccumulationType {
+        
+        LONG, DOUBLE, DECIMAL
     }
 }
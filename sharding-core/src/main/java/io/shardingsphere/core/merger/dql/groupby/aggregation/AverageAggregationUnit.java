@@ -18,7 +18,6 @@
 package io.shardingsphere.core.merger.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -29,35 +28,28 @@ import java.util.List;
  * @author gaohongtao
  */
 @RequiredArgsConstructor
-@Slf4j
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final AccumulationAggregationUnit count = new AccumulationAggregationUnit();
     
-    private BigDecimal sum;
+    private final AccumulationAggregationUnit sum = new AccumulationAggregationUnit();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (null == count) {
-            count = new BigDecimal("0");
-        }
-        if (null == sum) {
-            sum = new BigDecimal("0");
-        }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
-        log.trace("AVG result COUNT: {} SUM: {}", count, sum);
+        count.accumulate(values.get(0));
+        sum.accumulate(values.get(1));
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
-            return count;
+        BigDecimal countResult = count.getResult();
+        if (null == countResult || 0 == countResult.signum()) {
+            return countResult;
         }
         // TODO 通过metadata获取数据库的浮点数精度值
-        return sum.divide(count, 4, BigDecimal.ROUND_HALF_UP);
+        return sum.getResult().divide(countResult, 4, BigDecimal.ROUND_HALF_UP);
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Input stream which reads file by memory mapped regions in sequence.
+ */
+public final class MappedFileInputStream extends InputStream {
+    
+    private static final long REGION_SIZE = 64 * 1024 * 1024;
+    
+    private final RandomAccessFile file;
+    
+    private final long size;
+    
+    private long position;
+    
+    private MappedByteBuffer buffer;
+    
+    public MappedFileInputStream(final File file) throws IOException {
+        this.file = new RandomAccessFile(file, "r");
+        size = this.file.length();
+    }
+    
+    @Override
+    public int read() throws IOException {
+        return mapNextRegionIfNecessary() ? buffer.get() & 0xff : -1;
+    }
+    
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (0 == length) {
+            return 0;
+        }
+        if (!mapNextRegionIfNecessary()) {
+            return -1;
+        }
+        int result = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, result);
+        return result;
+    }
+    
+    private boolean mapNextRegionIfNecessary() throws IOException {
+        if (null != buffer && buffer.hasRemaining()) {
+            return true;
+        }
+        if (position >= size) {
+            return false;
+        }
+        long regionSize = Math.min(REGION_SIZE, size - position);
+        buffer = file.getChannel().map(MapMode.READ_ONLY, position, regionSize);
+        position += regionSize;
+        return true;
+    }
+    
+    @Override
+    public int available() {
+        return null == buffer ? 0 : buffer.remaining();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        file.close();
+    }
+}
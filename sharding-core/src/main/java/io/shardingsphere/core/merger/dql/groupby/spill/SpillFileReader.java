@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reader of rows spilled to temporary file, the file is deleted after closed.
+ */
+public final class SpillFileReader implements Closeable {
+    
+    private final File file;
+    
+    private final int rowCount;
+    
+    private final int columnCount;
+    
+    private final DataInputStream input;
+    
+    private int readRowCount;
+    
+    public SpillFileReader(final File file, final int rowCount, final int columnCount) throws IOException {
+        this.file = file;
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        input = new DataInputStream(new MappedFileInputStream(file));
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows have been read
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        if (readRowCount >= rowCount) {
+            return null;
+        }
+        readRowCount++;
+        return SpillRowCodec.read(input, columnCount);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            input.close();
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Writer of rows spilled to temporary file.
+ */
+public final class SpillFileWriter implements Closeable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    @Getter
+    private final File file;
+    
+    private final DataOutputStream output;
+    
+    @Getter
+    private int rowCount;
+    
+    public SpillFileWriter() throws IOException {
+        file = File.createTempFile("sharding-spill-", ".tmp");
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            file.delete();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        SpillRowCodec.write(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Close writer and open reader for written rows.
+     *
+     * @param columnCount column count
+     * @return spill file reader
+     * @throws IOException IO exception
+     */
+    public SpillFileReader openReader(final int columnCount) throws IOException {
+        close();
+        return new SpillFileReader(file, rowCount, columnCount);
+    }
+    
+    /**
+     * Close writer and delete file, rows written are discarded.
+     */
+    public void discard() {
+        try {
+            output.close();
+        } catch (final IOException ignore) {
+        } finally {
+            file.delete();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
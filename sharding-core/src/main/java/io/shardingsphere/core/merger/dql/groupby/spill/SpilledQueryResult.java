@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result for rows spilled to temporary file.
+ */
+public final class SpilledQueryResult implements QueryResult {
+    
+    private final SpillFileReader reader;
+    
+    private final List<String> columnLabels;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public SpilledQueryResult(final SpillFileReader reader, final List<String> columnLabels) {
+        this.reader = reader;
+        this.columnLabels = columnLabels;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        try {
+            currentRow = reader.read();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        return null != currentRow;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getValue(columnLabels.indexOf(columnLabel) + 1, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import com.google.common.collect.AbstractIterator;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Iterator of rows spilled to temporary file, rows are read lazily and the file is deleted after all rows read or iterator closed.
+ */
+public final class SpilledRowIterator extends AbstractIterator<MemoryQueryResultRow> implements Closeable {
+    
+    private final SpillFileReader reader;
+    
+    private final SpilledQueryResult queryResult;
+    
+    public SpilledRowIterator(final SpillFileReader reader, final List<String> columnLabels) {
+        this.reader = reader;
+        queryResult = new SpilledQueryResult(reader, columnLabels);
+    }
+    
+    @Override
+    protected MemoryQueryResultRow computeNext() {
+        try {
+            if (queryResult.next()) {
+                return new MemoryQueryResultRow(queryResult);
+            }
+            reader.close();
+        } catch (final SQLException | IOException ex) {
+            throw new ShardingException(ex);
+        }
+        return endOfData();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -24,13 +24,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
  *
+ * <p>
+ * Query results are merged by loser tree.
+ * </p>
+ *
  * @author zhangliang
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
@@ -38,45 +41,42 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     private final List<OrderItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByValueLoserTree orderByValueLoserTree;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final List<OrderItem> orderByItems) throws SQLException {
         this.orderByItems = orderByItems;
-        this.orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults);
+        this.orderByValueLoserTree = createOrderByValueLoserTree(queryResults);
+        setCurrentQueryResult(orderByValueLoserTree.isEmpty() ? queryResults.get(0) : orderByValueLoserTree.peek().getQueryResult());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults) throws SQLException {
+    private OrderByValueLoserTree createOrderByValueLoserTree(final List<QueryResult> queryResults) throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
             OrderByValue orderByValue = new OrderByValue(each, orderByItems);
             if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
+                orderByValues.add(orderByValue);
             }
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return new OrderByValueLoserTree(orderByValues);
     }
     
     @Override
     public boolean next() throws SQLException {
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByValueLoserTree.isEmpty()) {
             return false;
         }
         if (isFirstNext) {
             isFirstNext = false;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
-        }
-        if (orderByValuesQueue.isEmpty()) {
+        if (!orderByValueLoserTree.next()) {
             return false;
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        setCurrentQueryResult(orderByValueLoserTree.peek().getQueryResult());
         return true;
     }
 }
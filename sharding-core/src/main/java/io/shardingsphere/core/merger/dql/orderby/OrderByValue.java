@@ -18,22 +18,23 @@
 package io.shardingsphere.core.merger.dql.orderby;
 
 import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Order by value.
  * 
+ * <p>
+ * Order values are extracted once per row, single integral order value is compared as long.
+ * </p>
+ * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
@@ -41,7 +42,17 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<OrderItem> orderByItems;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
+    
+    private boolean longOrderValue;
+    
+    private long longValue;
+    
+    public OrderByValue(final QueryResult queryResult, final List<OrderItem> orderByItems) {
+        this.queryResult = queryResult;
+        this.orderByItems = orderByItems;
+        orderValues = new Comparable<?>[orderByItems.size()];
+    }
     
     /**
      * iterate next data.
@@ -51,25 +62,33 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            fillOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void fillOrderValues() throws SQLException {
+        for (int i = 0; i < orderValues.length; i++) {
+            Object value = queryResult.getValue(orderByItems.get(i).getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+        }
+        longOrderValue = 1 == orderValues.length && (orderValues[0] instanceof Long || orderValues[0] instanceof Integer || orderValues[0] instanceof Short);
+        if (longOrderValue) {
+            longValue = ((Number) orderValues[0]).longValue();
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        for (int i = 0; i < orderByItems.size(); i++) {
+        if (longOrderValue && o.longOrderValue) {
+            int result = Long.compare(longValue, o.longValue);
+            return OrderDirection.ASC == orderByItems.get(0).getOrderDirection() ? result : -result;
+        }
+        for (int i = 0; i < orderValues.length; i++) {
             OrderItem thisOrderBy = orderByItems.get(i);
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
+            int result = CompareUtil.compareTo(orderValues[i], o.orderValues[i], thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
             if (0 != result) {
                 return result;
             }
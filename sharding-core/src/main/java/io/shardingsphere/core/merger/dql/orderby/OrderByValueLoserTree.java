@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values for k-way merging.
+ *
+ * <p>
+ * Each internal node keeps the loser of its sub tree and the root keeps the winner,
+ * so advancing the winner costs log2(k) comparisons along a single leaf to root path.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        exhausted = new boolean[leaves.length];
+        losers = new int[leaves.length];
+        if (0 != leaves.length) {
+            build();
+        }
+    }
+    
+    private void build() {
+        int[] winners = new int[leaves.length * 2];
+        for (int i = 0; i < leaves.length; i++) {
+            winners[leaves.length + i] = i;
+        }
+        for (int node = leaves.length - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (beats(right, left)) {
+                winners[node] = right;
+                losers[node] = left;
+            } else {
+                winners[node] = left;
+                losers[node] = right;
+            }
+        }
+        losers[0] = 1 == leaves.length ? 0 : winners[1];
+    }
+    
+    private boolean beats(final int challenger, final int defender) {
+        if (exhausted[challenger]) {
+            return false;
+        }
+        return exhausted[defender] || leaves[challenger].compareTo(leaves[defender]) < 0;
+    }
+    
+    /**
+     * Judge all order by values are exhausted or not.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || exhausted[losers[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value
+     */
+    public OrderByValue peek() {
+        return leaves[losers[0]];
+    }
+    
+    /**
+     * Move winner order by value to next row and replay the tournament.
+     *
+     * @return has next order by value or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        int winner = losers[0];
+        exhausted[winner] = !leaves[winner].next();
+        for (int node = (winner + leaves.length) / 2; node > 0; node /= 2) {
+            if (beats(losers[node], winner)) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+        return !exhausted[winner];
+    }
+}
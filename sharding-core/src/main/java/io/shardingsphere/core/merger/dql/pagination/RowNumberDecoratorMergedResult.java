@@ -20,6 +20,7 @@ package io.shardingsphere.core.merger.dql.pagination;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.dql.common.DecoratorMergedResult;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import lombok.Getter;
 
 import java.sql.SQLException;
 
@@ -28,7 +29,7 @@ import java.sql.SQLException;
  *
  * @author zhangliang
  */
-public final class RowNumberDecoratorMergedResult extends DecoratorMergedResult {
+public final class RowNumberDecoratorMergedResult extends DecoratorMergedResult implements PaginationMergedResult {
     
     private final Limit limit;
     
@@ -36,6 +37,9 @@ public final class RowNumberDecoratorMergedResult extends DecoratorMergedResult
     
     private int rowNumber;
     
+    @Getter
+    private boolean rowCountReached;
+    
     public RowNumberDecoratorMergedResult(final MergedResult mergedResult, final Limit limit) throws SQLException {
         super(mergedResult);
         this.limit = limit;
@@ -67,8 +71,16 @@ public final class RowNumberDecoratorMergedResult extends DecoratorMergedResult
             return getMergedResult().next();
         }
         if (limit.getRowCount().isBoundOpened()) {
-            return rowNumber++ <= limit.getRowCountValue() && getMergedResult().next();
+            if (rowNumber++ <= limit.getRowCountValue()) {
+                return getMergedResult().next();
+            }
+            rowCountReached = true;
+            return false;
         }
-        return rowNumber++ < limit.getRowCountValue() && getMergedResult().next();
+        if (rowNumber++ < limit.getRowCountValue()) {
+            return getMergedResult().next();
+        }
+        rowCountReached = true;
+        return false;
     }
 }
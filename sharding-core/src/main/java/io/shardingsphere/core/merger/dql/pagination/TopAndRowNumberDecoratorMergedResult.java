@@ -20,6 +20,7 @@ package io.shardingsphere.core.merger.dql.pagination;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.dql.common.DecoratorMergedResult;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import lombok.Getter;
 
 import java.sql.SQLException;
 
@@ -28,7 +29,7 @@ import java.sql.SQLException;
  *
  * @author zhangliang
  */
-public final class TopAndRowNumberDecoratorMergedResult extends DecoratorMergedResult {
+public final class TopAndRowNumberDecoratorMergedResult extends DecoratorMergedResult implements PaginationMergedResult {
     
     private final Limit limit;
     
@@ -36,6 +37,9 @@ public final class TopAndRowNumberDecoratorMergedResult extends DecoratorMergedR
     
     private int rowNumber;
     
+    @Getter
+    private boolean rowCountReached;
+    
     public TopAndRowNumberDecoratorMergedResult(final MergedResult mergedResult, final Limit limit) throws SQLException {
         super(mergedResult);
         this.limit = limit;
@@ -66,6 +70,10 @@ public final class TopAndRowNumberDecoratorMergedResult extends DecoratorMergedR
         if (limit.getRowCountValue() < 0) {
             return getMergedResult().next();
         }
-        return rowNumber++ <= limit.getRowCountValue() && getMergedResult().next();
+        if (rowNumber++ <= limit.getRowCountValue()) {
+            return getMergedResult().next();
+        }
+        rowCountReached = true;
+        return false;
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.parsing;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.lexer.token.Token;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL which literals are replaced by placeholders.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ParameterizedSQL {
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    @Getter(AccessLevel.NONE)
+    private final List<String> originalLiterals;
+    
+    @Getter(AccessLevel.NONE)
+    private final boolean containsNonPlaceholderQuestionMark;
+    
+    /**
+     * Restore placeholders of SQL derived from parameterized SQL to original literals.
+     * 
+     * <p>
+     * Derived SQL is lexed only if original SQL contains question mark in literals or comments, otherwise every question mark is a placeholder.
+     * </p>
+     *
+     * @param derivedSQL SQL derived from parameterized SQL, such as rewritten SQL
+     * @param derivedParameters parameters bound to placeholders of derived SQL
+     * @return SQL without placeholders
+     */
+    public String restore(final String derivedSQL, final List<Object> derivedParameters) {
+        List<Integer> placeholderPositions = getPlaceholderPositions(derivedSQL);
+        if (placeholderPositions.size() > derivedParameters.size()) {
+            throw new ShardingException("Placeholders of SQL '%s' are more than parameters '%s'.", derivedSQL, derivedParameters);
+        }
+        if (placeholderPositions.size() < derivedParameters.size()) {
+            throw new ShardingException("Placeholders of SQL '%s' are less than parameters '%s'.", derivedSQL, derivedParameters);
+        }
+        StringBuilder result = new StringBuilder(derivedSQL.length());
+        int index = 0;
+        int parameterIndex = 0;
+        int lastPosition = 0;
+        for (int each : placeholderPositions) {
+            Object derivedParameter = derivedParameters.get(index++);
+            int originalIndex = indexOfParameter(derivedParameter, parameterIndex);
+            result.append(derivedSQL, lastPosition, each).append(-1 == originalIndex ? getLiterals(derivedParameter) : originalLiterals.get(originalIndex));
+            parameterIndex = -1 == originalIndex ? parameterIndex : originalIndex + 1;
+            lastPosition = each + 1;
+        }
+        return result.append(derivedSQL.substring(lastPosition)).toString();
+    }
+    
+    private List<Integer> getPlaceholderPositions(final String derivedSQL) {
+        List<Integer> result = new ArrayList<>(parameters.size());
+        if (!containsNonPlaceholderQuestionMark) {
+            for (int i = derivedSQL.indexOf('?'); -1 != i; i = derivedSQL.indexOf('?', i + 1)) {
+                result.add(i);
+            }
+            return result;
+        }
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, derivedSQL);
+        for (lexerEngine.nextToken(); !lexerEngine.isEnd(); lexerEngine.nextToken()) {
+            Token token = lexerEngine.getCurrentToken();
+            if (Symbol.QUESTION == token.getType()) {
+                result.add(token.getEndPosition() - token.getLiterals().length());
+            }
+        }
+        return result;
+    }
+    
+    private int indexOfParameter(final Object derivedParameter, final int fromIndex) {
+        for (int i = fromIndex; i < parameters.size(); i++) {
+            if (derivedParameter == parameters.get(i)) {
+                return i;
+            }
+        }
+        for (int i = 0; i < fromIndex && i < parameters.size(); i++) {
+            if (derivedParameter == parameters.get(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private String getLiterals(final Object parameter) {
+        return parameter instanceof Number ? parameter.toString() : "'" + String.valueOf(parameter).replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.parsing;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Literals;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.lexer.token.Token;
+import io.shardingsphere.core.parsing.lexer.token.TokenType;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
+import io.shardingsphere.core.util.NumberUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * SQL parameterize engine.
+ *
+ * <p>
+ * Replace literals which compared with columns, or listed in IN and VALUES, to placeholders,
+ * so that SQL different only in those literals can share one cached parsing result.
+ * Chars literals with backslash are not replaced, because their values depend on SQL mode of database.
+ * Chars literals prefixed by identifier, such as charset introducer {@code _utf8mb4'x'} or {@code N'x'}, are not replaced too.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLParameterizeEngine {
+    
+    private static final Collection<Symbol> COMPARISON_SYMBOLS = Arrays.asList(
+            Symbol.EQ, Symbol.GT, Symbol.LT, Symbol.LT_EQ, Symbol.GT_EQ, Symbol.LT_EQ_GT, Symbol.LT_GT, Symbol.BANG_EQ, Symbol.BANG_GT, Symbol.BANG_LT);
+    
+    private static final Collection<String> PAGINATION_LITERALS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    
+    static {
+        PAGINATION_LITERALS.addAll(Arrays.asList("LIMIT", "OFFSET", "TOP", "FETCH", "ROWNUM", "ROW_NUMBER"));
+    }
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    /**
+     * Parameterize SQL.
+     *
+     * @return parameterized SQL, absent if SQL does not contain literals can be parameterized or SQL is not supported
+     */
+    public Optional<ParameterizedSQL> parameterize() {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        lexerEngine.nextToken();
+        if (!DQLStatement.isDQL(lexerEngine.getCurrentToken().getType()) && !DMLStatement.isDML(lexerEngine.getCurrentToken().getType())) {
+            return Optional.absent();
+        }
+        StringBuilder parameterizedSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        List<String> originalLiterals = new ArrayList<>();
+        LinkedList<Boolean> parenthesesOfList = new LinkedList<>();
+        int valuesDepth = -1;
+        TokenType previousTokenType = null;
+        int lastPosition = 0;
+        for (; !lexerEngine.isEnd(); lexerEngine.nextToken()) {
+            Token token = lexerEngine.getCurrentToken();
+            TokenType tokenType = token.getType();
+            if (Symbol.QUESTION == tokenType || PAGINATION_LITERALS.contains(token.getLiterals())) {
+                return Optional.absent();
+            }
+            if (DefaultKeyword.VALUES == tokenType) {
+                valuesDepth = parenthesesOfList.size();
+            } else if (Symbol.LEFT_PAREN == tokenType) {
+                parenthesesOfList.push(DefaultKeyword.IN == previousTokenType || valuesDepth == parenthesesOfList.size());
+            } else if (Symbol.RIGHT_PAREN == tokenType && !parenthesesOfList.isEmpty()) {
+                parenthesesOfList.pop();
+            } else if (valuesDepth == parenthesesOfList.size() && Symbol.COMMA != tokenType) {
+                valuesDepth = -1;
+            }
+            if (isParameterizable(token, previousTokenType, parenthesesOfList)) {
+                int beginPosition = getBeginPosition(token);
+                parameterizedSQL.append(sql, lastPosition, beginPosition).append(Symbol.QUESTION.getLiterals());
+                parameters.add(getParameter(token, beginPosition));
+                originalLiterals.add(sql.substring(beginPosition, token.getEndPosition()));
+                lastPosition = token.getEndPosition();
+            }
+            previousTokenType = tokenType;
+        }
+        if (parameters.isEmpty()) {
+            return Optional.absent();
+        }
+        parameterizedSQL.append(sql.substring(lastPosition));
+        return Optional.of(new ParameterizedSQL(databaseType, parameterizedSQL.toString(), parameters, originalLiterals, -1 != sql.indexOf(Symbol.QUESTION.getLiterals())));
+    }
+    
+    private boolean isParameterizable(final Token token, final TokenType previousTokenType, final LinkedList<Boolean> parenthesesOfList) {
+        if (Literals.INT != token.getType() && Literals.FLOAT != token.getType() && Literals.CHARS != token.getType()) {
+            return false;
+        }
+        if (token.getLiterals().startsWith("-") || Literals.CHARS == token.getType() && (isPrefixedChars(token) || token.getLiterals().contains("\\"))) {
+            return false;
+        }
+        return COMPARISON_SYMBOLS.contains(previousTokenType)
+                || (Symbol.LEFT_PAREN == previousTokenType || Symbol.COMMA == previousTokenType) && !parenthesesOfList.isEmpty() && parenthesesOfList.peek();
+    }
+    
+    private boolean isPrefixedChars(final Token token) {
+        int beginPosition = getBeginPosition(token);
+        return 0 != beginPosition && isIdentifierChar(sql.charAt(beginPosition - 1));
+    }
+    
+    private boolean isIdentifierChar(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private int getBeginPosition(final Token token) {
+        return Literals.CHARS == token.getType() ? token.getEndPosition() - token.getLiterals().length() - 2 : token.getEndPosition() - token.getLiterals().length();
+    }
+    
+    private Object getParameter(final Token token, final int beginPosition) {
+        if (Literals.INT == token.getType()) {
+            return NumberUtil.getExactlyNumber(token.getLiterals(), 10);
+        }
+        if (Literals.FLOAT == token.getType()) {
+            return Double.parseDouble(token.getLiterals());
+        }
+        String quote = sql.substring(beginPosition, beginPosition + 1);
+        return token.getLiterals().replace(quote + quote, quote);
+    }
+}
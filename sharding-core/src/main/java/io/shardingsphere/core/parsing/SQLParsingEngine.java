@@ -44,6 +44,8 @@ public final class SQLParsingEngine {
     
     private final ShardingTableMetaData shardingTableMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
     /**
      * Parse SQL.
      * 
@@ -59,12 +61,12 @@ public final class SQLParsingEngine {
         lexerEngine.nextToken();
         SQLStatement result = SQLParserFactory.newInstance(dbType, lexerEngine.getCurrentToken().getType(), shardingRule, lexerEngine, shardingTableMetaData).parse();
         if (useCache) {
-            ParsingResultCache.getInstance().put(sql, result);
+            parsingResultCache.put(sql, result);
         }
         return result;
     }
     
     private Optional<SQLStatement> getSQLStatementFromCache(final boolean useCache) {
-        return useCache ? Optional.fromNullable(ParsingResultCache.getInstance().getSQLStatement(sql)) : Optional.<SQLStatement>absent();
+        return useCache ? Optional.fromNullable(parsingResultCache.getSQLStatement(sql)) : Optional.<SQLStatement>absent();
     }
 }
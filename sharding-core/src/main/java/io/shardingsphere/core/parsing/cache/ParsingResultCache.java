@@ -17,32 +17,57 @@
 
 package io.shardingsphere.core.parsing.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Parsing result cache.
  *
+ * <p>
+ * Bounded and thread safe, one instance is held by each sharding runtime context.
+ * Entries are evicted by count or by total SQL length, and optionally after a period without access.
+ * </p>
+ *
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class ParsingResultCache {
     
-    private static final ParsingResultCache INSTANCE = new ParsingResultCache();
+    private final Cache<String, SQLStatement> cache;
     
-    private final Map<String, SQLStatement> cache = new WeakHashMap<>(65535, 1);
+    public ParsingResultCache() {
+        this(new ShardingProperties(new Properties()));
+    }
     
-    /**
-     * Get parsing result cache instance.
-     * 
-     * @return parsing result cache instance
-     */
-    public static ParsingResultCache getInstance() {
-        return INSTANCE;
+    public ParsingResultCache(final ShardingProperties shardingProperties) {
+        long maxSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_SIZE);
+        long maxWeight = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_WEIGHT);
+        long expireAfterAccessSeconds = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_EXPIRE_AFTER_ACCESS_SECONDS);
+        cache = createCache(maxSize, maxWeight, expireAfterAccessSeconds);
+    }
+    
+    private Cache<String, SQLStatement> createCache(final long maxSize, final long maxWeight, final long expireAfterAccessSeconds) {
+        CacheBuilder<Object, Object> result = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats();
+        if (expireAfterAccessSeconds > 0) {
+            result.expireAfterAccess(expireAfterAccessSeconds, TimeUnit.SECONDS);
+        }
+        if (maxWeight > 0) {
+            return result.maximumWeight(maxWeight).weigher(new Weigher<String, SQLStatement>() {
+                
+                @Override
+                public int weigh(final String sql, final SQLStatement sqlStatement) {
+                    return sql.length();
+                }
+            }).build();
+        }
+        return result.maximumSize(maxSize).build();
     }
     
     /**
@@ -62,13 +87,31 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Get count of cached SQL statements.
+     *
+     * @return count of cached SQL statements
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get hit, miss and eviction statistics.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
@@ -24,45 +24,52 @@ import io.shardingsphere.core.parsing.lexer.token.Assist;
 import io.shardingsphere.core.parsing.lexer.token.Token;
 import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Lexical analysis.
  * 
+ * <p>Only one tokenizer is created for whole input, it is moved forward to scan each token.</p>
+ *
  * @author zhangliang 
  */
-@RequiredArgsConstructor
 public class Lexer {
     
     @Getter
     private final String input;
     
-    private final Dictionary dictionary;
+    private final Tokenizer tokenizer;
     
     private int offset;
     
     @Getter
     private Token currentToken;
     
+    public Lexer(final String input, final Dictionary dictionary) {
+        this.input = input;
+        tokenizer = new Tokenizer(input, dictionary, 0);
+    }
+    
     /**
      * Analyse next token.
      */
     public final void nextToken() {
         skipIgnoredToken();
+        tokenizer.moveTo(offset);
         if (isVariableBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanVariable();
+            currentToken = tokenizer.scanVariable();
         } else if (isNCharBegin()) {
-            currentToken = new Tokenizer(input, dictionary, ++offset).scanChars();
+            tokenizer.moveTo(++offset);
+            currentToken = tokenizer.scanChars();
         } else if (isIdentifierBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanIdentifier();
+            currentToken = tokenizer.scanIdentifier();
         } else if (isHexDecimalBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanHexDecimal();
+            currentToken = tokenizer.scanHexDecimal();
         } else if (isNumberBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanNumber();
+            currentToken = tokenizer.scanNumber();
         } else if (isSymbolBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanSymbol();
+            currentToken = tokenizer.scanSymbol();
         } else if (isCharsBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanChars();
+            currentToken = tokenizer.scanChars();
         } else if (isEnd()) {
             currentToken = new Token(Assist.END, "", offset);
         } else {
@@ -72,17 +79,24 @@ public class Lexer {
     }
     
     private void skipIgnoredToken() {
-        offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        skipWhitespace();
         while (isHintBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipHint();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            tokenizer.moveTo(offset);
+            offset = tokenizer.skipHint();
+            skipWhitespace();
         }
         while (isCommentBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipComment();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            tokenizer.moveTo(offset);
+            offset = tokenizer.skipComment();
+            skipWhitespace();
         }
     }
     
+    private void skipWhitespace() {
+        tokenizer.moveTo(offset);
+        offset = tokenizer.skipWhitespace();
+    }
+    
     protected boolean isHintBegin() {
         return false;
     }
@@ -23,39 +23,75 @@ import io.shardingsphere.core.parsing.lexer.token.TokenType;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Token dictionary.
  *
+ * <p>Keywords are looked up by span of input case insensitively, without cutting or upper casing literals.</p>
+ *
  * @author zhangliang
  */
 public final class Dictionary {
     
-    private final Map<String, Keyword> tokens = new HashMap<>(1024);
+    private final String[] keys;
+    
+    private final Keyword[] values;
+    
+    private int maxKeyLength;
     
     public Dictionary(final Keyword... dialectKeywords) {
-        fill(dialectKeywords);
+        Map<String, Keyword> tokens = getTokens(dialectKeywords);
+        int capacity = Integer.highestOneBit(tokens.size() * 4);
+        keys = new String[capacity];
+        values = new Keyword[capacity];
+        fill(tokens);
     }
     
-    private void fill(final Keyword... dialectKeywords) {
+    private Map<String, Keyword> getTokens(final Keyword... dialectKeywords) {
+        Map<String, Keyword> result = new HashMap<>(1024);
         for (DefaultKeyword each : DefaultKeyword.values()) {
-            tokens.put(each.name(), each);
+            result.put(each.name(), each);
         }
         for (Keyword each : dialectKeywords) {
-            tokens.put(each.toString(), each);
+            result.put(each.toString(), each);
+        }
+        return result;
+    }
+    
+    private void fill(final Map<String, Keyword> tokens) {
+        for (Entry<String, Keyword> entry : tokens.entrySet()) {
+            String key = entry.getKey();
+            int index = hashIgnoreCase(key, 0, key.length()) & (keys.length - 1);
+            while (null != keys[index]) {
+                index = (index + 1) & (keys.length - 1);
+            }
+            keys[index] = key;
+            values[index] = entry.getValue();
+            maxKeyLength = Math.max(maxKeyLength, key.length());
         }
     }
     
-    TokenType findTokenType(final String literals, final TokenType defaultTokenType) {
-        String key = null == literals ? null : literals.toUpperCase();
-        return tokens.containsKey(key) ? tokens.get(key) : defaultTokenType;
+    private int hashIgnoreCase(final String input, final int beginPosition, final int endPosition) {
+        int result = 0;
+        for (int i = beginPosition; i < endPosition; i++) {
+            result = 31 * result + Character.toUpperCase(input.charAt(i));
+        }
+        return result;
     }
     
-    TokenType findTokenType(final String literals) {
-        String key = null == literals ? null : literals.toUpperCase();
-        if (tokens.containsKey(key)) {
-            return tokens.get(key);
+    TokenType findTokenType(final String input, final int beginPosition, final int endPosition, final TokenType defaultTokenType) {
+        int length = endPosition - beginPosition;
+        if (length > maxKeyLength) {
+            return defaultTokenType;
+        }
+        int index = hashIgnoreCase(input, beginPosition, endPosition) & (keys.length - 1);
+        while (null != keys[index]) {
+            if (length == keys[index].length() && keys[index].regionMatches(true, 0, input, beginPosition, length)) {
+                return values[index];
+            }
+            index = (index + 1) & (keys.length - 1);
         }
-        throw new IllegalArgumentException();
+        return defaultTokenType;
     }
 }
@@ -22,14 +22,16 @@ import io.shardingsphere.core.parsing.lexer.token.Literals;
 import io.shardingsphere.core.parsing.lexer.token.Symbol;
 import io.shardingsphere.core.parsing.lexer.token.Token;
 import io.shardingsphere.core.parsing.lexer.token.TokenType;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 
 /**
  * Tokenizer.
  *
+ * <p>One tokenizer can be reused to scan the whole input by moving its offset.</p>
+ *
  * @author zhangliang
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 public final class Tokenizer {
     
     private static final int MYSQL_SPECIAL_COMMENT_BEGIN_SYMBOL_LENGTH = 1;
@@ -46,7 +48,16 @@ public final class Tokenizer {
     
     private final Dictionary dictionary;
     
-    private final int offset;
+    private int offset;
+    
+    /**
+     * Move to offset for next scanning.
+     *
+     * @param offset offset of input
+     */
+    public void moveTo(final int offset) {
+        this.offset = offset;
+    }
     
     /**
      * skip whitespace.
@@ -136,7 +147,7 @@ public final class Tokenizer {
         while (isVariableChar(charAt(offset + length))) {
             length++;
         }
-        return new Token(Literals.VARIABLE, input.substring(offset, offset + length), offset + length);
+        return new Token(Literals.VARIABLE, input, offset, offset + length, offset + length);
     }
     
     private boolean isVariableChar(final char ch) {
@@ -151,25 +162,24 @@ public final class Tokenizer {
     public Token scanIdentifier() {
         if ('`' == charAt(offset)) {
             int length = getLengthUntilTerminatedChar('`');
-            return new Token(Literals.IDENTIFIER, input.substring(offset, offset + length), offset + length);
+            return new Token(Literals.IDENTIFIER, input, offset, offset + length, offset + length);
         }
         if ('"' == charAt(offset)) {
             int length = getLengthUntilTerminatedChar('"');
-            return new Token(Literals.IDENTIFIER, input.substring(offset, offset + length), offset + length);
+            return new Token(Literals.IDENTIFIER, input, offset, offset + length, offset + length);
         }
         if ('[' == charAt(offset)) {
             int length = getLengthUntilTerminatedChar(']');
-            return new Token(Literals.IDENTIFIER, input.substring(offset, offset + length), offset + length);
+            return new Token(Literals.IDENTIFIER, input, offset, offset + length, offset + length);
         }
         int length = 0;
         while (isIdentifierChar(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
-        if (isAmbiguousIdentifier(literals)) {
-            return new Token(processAmbiguousIdentifier(offset + length, literals), literals, offset + length);
+        if (isAmbiguousIdentifier(length)) {
+            return new Token(processAmbiguousIdentifier(offset + length), input, offset, offset + length, offset + length);
         }
-        return new Token(dictionary.findTokenType(literals, Literals.IDENTIFIER), literals, offset + length);
+        return new Token(dictionary.findTokenType(input, offset, offset + length, Literals.IDENTIFIER), input, offset, offset + length, offset + length);
     }
     
     private int getLengthUntilTerminatedChar(final char terminatedChar) {
@@ -194,17 +204,21 @@ public final class Tokenizer {
         return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch || '#' == ch;
     }
     
-    private boolean isAmbiguousIdentifier(final String literals) {
-        return DefaultKeyword.ORDER.name().equalsIgnoreCase(literals) || DefaultKeyword.GROUP.name().equalsIgnoreCase(literals);
+    private boolean isAmbiguousIdentifier(final int length) {
+        return isKeywordAt(DefaultKeyword.ORDER, offset, length) || isKeywordAt(DefaultKeyword.GROUP, offset, length);
+    }
+    
+    private boolean isKeywordAt(final DefaultKeyword keyword, final int offset, final int length) {
+        return keyword.name().length() == length && keyword.name().regionMatches(true, 0, input, offset, length);
     }
     
-    private TokenType processAmbiguousIdentifier(final int offset, final String literals) {
+    private TokenType processAmbiguousIdentifier(final int endPosition) {
         int i = 0;
-        while (CharType.isWhitespace(charAt(offset + i))) {
+        while (CharType.isWhitespace(charAt(endPosition + i))) {
             i++;
         }
-        if (DefaultKeyword.BY.name().equalsIgnoreCase(String.valueOf(new char[] {charAt(offset + i), charAt(offset + i + 1)}))) {
-            return dictionary.findTokenType(literals);
+        if (isKeywordAt(DefaultKeyword.BY, endPosition + i, 2)) {
+            return dictionary.findTokenType(input, offset, endPosition, Literals.IDENTIFIER);
         }
         return Literals.IDENTIFIER;
     }
@@ -222,7 +236,7 @@ public final class Tokenizer {
         while (isHex(charAt(offset + length))) {
             length++;
         }
-        return new Token(Literals.HEX, input.substring(offset, offset + length), offset + length);
+        return new Token(Literals.HEX, input, offset, offset + length, offset + length);
     }
     
     private boolean isHex(final char ch) {
@@ -258,7 +272,7 @@ public final class Tokenizer {
             isFloat = true;
             length++;
         }
-        return new Token(isFloat ? Literals.FLOAT : Literals.INT, input.substring(offset, offset + length), offset + length);
+        return new Token(isFloat ? Literals.FLOAT : Literals.INT, input, offset, offset + length, offset + length);
     }
     
     private int getDigitalLength(final int offset) {
@@ -290,7 +304,7 @@ public final class Tokenizer {
     
     private Token scanChars(final char terminatedChar) {
         int length = getLengthUntilTerminatedChar(terminatedChar);
-        return new Token(Literals.CHARS, input.substring(offset + 1, offset + length - 1), offset + length);
+        return new Token(Literals.CHARS, input, offset + 1, offset + length - 1, offset + length);
     }
     
     /**
@@ -303,12 +317,11 @@ public final class Tokenizer {
         while (CharType.isSymbol(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
         Symbol symbol;
-        while (null == (symbol = Symbol.literalsOf(literals))) {
-            literals = input.substring(offset, offset + --length);
+        while (null == (symbol = Symbol.literalsOf(input, offset, length))) {
+            length--;
         }
-        return new Token(symbol, literals, offset + length);
+        return new Token(symbol, symbol.getLiterals(), offset + length);
     }
     
     private char charAt(final int index) {
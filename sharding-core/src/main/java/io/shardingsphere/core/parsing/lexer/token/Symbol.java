@@ -20,7 +20,9 @@ package io.shardingsphere.core.parsing.lexer.token;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -75,12 +77,21 @@ public enum Symbol implements TokenType, Keyword {
     
     private static Map<String, Symbol> symbols = new HashMap<>(128);
     
+    private static Symbol[] singleCharSymbols = new Symbol[128];
+    
+    private static List<Symbol> multipleCharsSymbols = new ArrayList<>();
+    
     @Getter
     private static Symbol[] operators;
     
     static {
         for (Symbol each : Symbol.values()) {
             symbols.put(each.getLiterals(), each);
+            if (1 == each.getLiterals().length()) {
+                singleCharSymbols[each.getLiterals().charAt(0)] = each;
+            } else {
+                multipleCharsSymbols.add(each);
+            }
         }
         operators = new Symbol[]
             {PLUS, SUB, STAR, SLASH, EQ, GT, LT, CARET, PERCENT, LT_EQ, GT_EQ, LT_EQ_GT, LT_GT, BANG_EQ, BANG_GT, BANG_LT, AMP, BAR, DOUBLE_AMP, DOUBLE_BAR, DOUBLE_LT, DOUBLE_GT};
@@ -97,4 +108,25 @@ public enum Symbol implements TokenType, Keyword {
     public static Symbol literalsOf(final String literals) {
         return symbols.get(literals);
     }
+    
+    /**
+     * Find symbol via literals in input without cutting it.
+     *
+     * @param input input
+     * @param beginPosition begin position of literals in input
+     * @param length length of literals
+     * @return symbol, return {@code null} if not found
+     */
+    public static Symbol literalsOf(final String input, final int beginPosition, final int length) {
+        if (1 == length) {
+            char ch = input.charAt(beginPosition);
+            return ch < singleCharSymbols.length ? singleCharSymbols[ch] : null;
+        }
+        for (Symbol each : multipleCharsSymbols) {
+            if (length == each.getLiterals().length() && input.startsWith(each.getLiterals(), beginPosition)) {
+                return each;
+            }
+        }
+        return null;
+    }
 }
@@ -17,21 +17,57 @@
 
 package io.shardingsphere.core.parsing.lexer.token;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Token.
  *
+ * <p>Token holds the span of literals in input only, literals will be cut from input on first access.</p>
+ *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 @Getter
 public final class Token {
     
     private final TokenType type;
     
-    private final String literals;
+    @Getter(AccessLevel.NONE)
+    private final String input;
+    
+    @Getter(AccessLevel.NONE)
+    private final int literalsBeginPosition;
+    
+    @Getter(AccessLevel.NONE)
+    private final int literalsEndPosition;
     
     private final int endPosition;
+    
+    @Getter(AccessLevel.NONE)
+    private String literals;
+    
+    public Token(final TokenType type, final String literals, final int endPosition) {
+        this(type, literals, 0, literals.length(), endPosition);
+        this.literals = literals;
+    }
+    
+    public Token(final TokenType type, final String input, final int literalsBeginPosition, final int literalsEndPosition, final int endPosition) {
+        this.type = type;
+        this.input = input;
+        this.literalsBeginPosition = literalsBeginPosition;
+        this.literalsEndPosition = literalsEndPosition;
+        this.endPosition = endPosition;
+    }
+    
+    /**
+     * Get literals.
+     *
+     * @return literals
+     */
+    public String getLiterals() {
+        if (null == literals) {
+            literals = input.substring(literalsBeginPosition, literalsEndPosition);
+        }
+        return literals;
+    }
 }
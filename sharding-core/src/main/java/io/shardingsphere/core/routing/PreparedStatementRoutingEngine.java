@@ -18,14 +18,30 @@
 package io.shardingsphere.core.routing;
 
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.event.ShardingEventBusInstance;
+import io.shardingsphere.core.event.routing.RoutingEvent;
+import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
+import io.shardingsphere.core.routing.router.sharding.ParsingSQLRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.util.SQLLogger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -42,13 +58,22 @@ public final class PreparedStatementRoutingEngine {
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
+    private final boolean showSQL;
+    
+    private final RouteResultCache routeResultCache;
+    
     private SQLStatement sqlStatement;
     
+    private List<Integer> shardingParameterIndexes;
+    
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, 
-                                          final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+                                          final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData,
+                                          final ParsingResultCache parsingResultCache, final RouteResultCache routeResultCache) {
         this.logicSQL = logicSQL;
-        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        this.showSQL = showSQL;
+        this.routeResultCache = routeResultCache;
     }
     
     /**
@@ -56,6 +81,11 @@ public final class PreparedStatementRoutingEngine {
      * 
      * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
      * 
+     * <p>
+     * If route result cache is enabled, route units of DQL without limit and DML except insert are cached by the values of sharding parameters,
+     * same sharding values will skip routing and rewriting, but routing event is still posted.
+     * </p>
+     *
      * @param parameters parameters of SQL placeholder
      * @return route result
      */
@@ -63,6 +93,88 @@ public final class PreparedStatementRoutingEngine {
         if (null == sqlStatement) {
             sqlStatement = shardingRouter.parse(logicSQL, true);
         }
-        return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, sqlStatement));
+        if (!isRouteResultCacheable()) {
+            return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, sqlStatement));
+        }
+        List<Object> cacheKey = getRouteResultCacheKey(parameters);
+        Collection<RouteUnit> cachedRouteUnits = routeResultCache.getRouteUnits(cacheKey);
+        if (null != cachedRouteUnits) {
+            return masterSlaveRouter.route(routeByCachedRouteUnits(cachedRouteUnits, parameters));
+        }
+        SQLRouteResult result = shardingRouter.route(logicSQL, parameters, sqlStatement);
+        routeResultCache.put(cacheKey, getRouteUnitsWithoutParameters(result));
+        return masterSlaveRouter.route(result);
+    }
+    
+    private boolean isRouteResultCacheable() {
+        if (!routeResultCache.isEnabled() || null != HintManagerHolder.get() || !(shardingRouter instanceof ParsingSQLRouter)) {
+            return false;
+        }
+        if (SQLType.DQL == sqlStatement.getType()) {
+            return sqlStatement instanceof SelectStatement && null == ((SelectStatement) sqlStatement).getLimit();
+        }
+        return SQLType.DML == sqlStatement.getType() && !(sqlStatement instanceof InsertStatement);
+    }
+    
+    private List<Object> getRouteResultCacheKey(final List<Object> parameters) {
+        if (null == shardingParameterIndexes) {
+            shardingParameterIndexes = getShardingParameterIndexes();
+        }
+        List<Object> result = new ArrayList<>(shardingParameterIndexes.size() + 1);
+        result.add(logicSQL);
+        for (int each : shardingParameterIndexes) {
+            result.add(parameters.get(each));
+        }
+        return result;
+    }
+    
+    private List<Integer> getShardingParameterIndexes() {
+        List<Integer> result = new LinkedList<>();
+        for (AndCondition each : sqlStatement.getConditions().getOrCondition().getAndConditions()) {
+            for (Condition condition : each.getConditions()) {
+                result.addAll(condition.getPositionIndexMap().values());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<RouteUnit> getRouteUnitsWithoutParameters(final SQLRouteResult sqlRouteResult) {
+        Collection<RouteUnit> result = new ArrayList<>(sqlRouteResult.getRouteUnits().size());
+        for (RouteUnit each : sqlRouteResult.getRouteUnits()) {
+            result.add(new RouteUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), Collections.<List<Object>>emptyList())));
+        }
+        return result;
+    }
+    
+    private SQLRouteResult routeByCachedRouteUnits(final Collection<RouteUnit> cachedRouteUnits, final List<Object> parameters) {
+        if (!ShardingEventBusInstance.getInstance().isSubscribed(RoutingEvent.class)) {
+            return createSQLRouteResult(cachedRouteUnits, parameters);
+        }
+        RoutingEvent event = new RoutingEvent(logicSQL);
+        ShardingEventBusInstance.getInstance().post(event);
+        try {
+            SQLRouteResult result = createSQLRouteResult(cachedRouteUnits, parameters);
+            event.setRouteUnitsSize(result.getRouteUnits().size());
+            event.setExecuteSuccess();
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            event.setExecuteFailure(ex);
+            throw ex;
+        } finally {
+            ShardingEventBusInstance.getInstance().post(event);
+        }
+    }
+    
+    private SQLRouteResult createSQLRouteResult(final Collection<RouteUnit> cachedRouteUnits, final List<Object> parameters) {
+        SQLRouteResult result = new SQLRouteResult(sqlStatement);
+        for (RouteUnit each : cachedRouteUnits) {
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(Collections.singleton(parameters)))));
+        }
+        if (showSQL) {
+            SQLLogger.logSQL(logicSQL, sqlStatement, result.getRouteUnits());
+        }
+        return result;
     }
 }
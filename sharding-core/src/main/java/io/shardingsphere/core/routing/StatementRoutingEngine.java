@@ -17,15 +17,21 @@
 
 package io.shardingsphere.core.routing;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.ParameterizedSQL;
+import io.shardingsphere.core.parsing.SQLParameterizeEngine;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
 import io.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
 import java.util.Collections;
 
 /**
@@ -36,24 +42,56 @@ import java.util.Collections;
  */
 public final class StatementRoutingEngine {
     
+    private final DatabaseType databaseType;
+    
     private final ShardingRouter shardingRouter;
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
-                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData,
+                                  final ParsingResultCache parsingResultCache) {
+        this.databaseType = databaseType;
+        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
     /**
      * SQL route.
+     * 
+     * <p>Literals of SQL will be parameterized if possible, SQL different only in literals will reuse same parsed result.
+     * Original SQL is parsed instead if parameterized SQL can not be parsed or placeholders are not all recognized.</p>
      *
      * @param logicSQL logic SQL
      * @return route result
      */
     public SQLRouteResult route(final String logicSQL) {
+        Optional<ParameterizedSQL> parameterizedSQL = new SQLParameterizeEngine(databaseType, logicSQL).parameterize();
+        if (parameterizedSQL.isPresent()) {
+            Optional<SQLStatement> sqlStatement = parseParameterizedSQL(parameterizedSQL.get());
+            if (sqlStatement.isPresent() && sqlStatement.get().getParametersIndex() == parameterizedSQL.get().getParameters().size()) {
+                return masterSlaveRouter.route(route(parameterizedSQL.get(), sqlStatement.get()));
+            }
+        }
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    private Optional<SQLStatement> parseParameterizedSQL(final ParameterizedSQL parameterizedSQL) {
+        try {
+            return Optional.of(shardingRouter.parse(parameterizedSQL.getSql(), true));
+        } catch (final SQLParsingException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private SQLRouteResult route(final ParameterizedSQL parameterizedSQL, final SQLStatement sqlStatement) {
+        SQLRouteResult routeResult = shardingRouter.route(parameterizedSQL.getSql(), new ArrayList<>(parameterizedSQL.getParameters()), sqlStatement);
+        SQLRouteResult result = new SQLRouteResult(routeResult.getSqlStatement(), routeResult.getGeneratedKey());
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            String actualSQL = parameterizedSQL.restore(each.getSqlUnit().getSql(), each.getSqlUnit().getParameterSets().get(0));
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), new SQLUnit(actualSQL, new ArrayList<>(Collections.singleton(Collections.emptyList())))));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.routing.RouteUnit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Route result cache.
+ *
+ * <p>
+ * Hold route units without parameters, keyed by logic SQL and the values of sharding parameters.
+ * One instance is held by each sharding runtime context, and should be cleared after sharding rule or table meta data changed.
+ * </p>
+ */
+public final class RouteResultCache {
+    
+    private final long maxSize;
+    
+    private final Cache<List<Object>, Collection<RouteUnit>> cache;
+    
+    public RouteResultCache() {
+        this(new ShardingProperties(new Properties()));
+    }
+    
+    public RouteResultCache(final ShardingProperties shardingProperties) {
+        maxSize = shardingProperties.getValue(ShardingPropertiesConstant.ROUTE_RESULT_CACHE_MAX_SIZE);
+        cache = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats().maximumSize(maxSize).build();
+    }
+    
+    /**
+     * Judge is route result cache enabled or not.
+     *
+     * @return is route result cache enabled or not
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+    
+    /**
+     * Put route units into cache.
+     *
+     * @param key logic SQL and values of sharding parameters
+     * @param routeUnits route units without parameters
+     */
+    public void put(final List<Object> key, final Collection<RouteUnit> routeUnits) {
+        cache.put(key, routeUnits);
+    }
+    
+    /**
+     * Get route units.
+     *
+     * @param key logic SQL and values of sharding parameters
+     * @return route units without parameters, null if absent
+     */
+    public Collection<RouteUnit> getRouteUnits(final List<Object> key) {
+        return cache.getIfPresent(key);
+    }
+    
+    /**
+     * Get count of cached route results.
+     *
+     * @return count of cached route results
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get hit, miss and eviction statistics.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -21,11 +21,13 @@ import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.core.event.parsing.ParsingEvent;
+import io.shardingsphere.core.event.routing.RoutingEvent;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.parsing.parser.context.condition.GeneratedKeyCondition;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
@@ -82,12 +84,17 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
+        if (!ShardingEventBusInstance.getInstance().isSubscribed(ParsingEvent.class)) {
+            return new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
+        }
         ParsingEvent event = new ParsingEvent(logicSQL);
         ShardingEventBusInstance.getInstance().post(event);
         try {
-            SQLStatement sqlStatement = new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData).parse(useCache);
+            SQLStatement sqlStatement = new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
             event.setExecuteSuccess();
             return sqlStatement;
             // CHECKSTYLE:OFF
@@ -102,6 +109,27 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     @Override
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
+        if (!ShardingEventBusInstance.getInstance().isSubscribed(RoutingEvent.class)) {
+            return route0(logicSQL, parameters, sqlStatement);
+        }
+        RoutingEvent event = new RoutingEvent(logicSQL);
+        ShardingEventBusInstance.getInstance().post(event);
+        try {
+            SQLRouteResult result = route0(logicSQL, parameters, sqlStatement);
+            event.setRouteUnitsSize(result.getRouteUnits().size());
+            event.setExecuteSuccess();
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            event.setExecuteFailure(ex);
+            throw ex;
+        } finally {
+            ShardingEventBusInstance.getInstance().post(event);
+        }
+    }
+    
+    private SQLRouteResult route0(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
         GeneratedKey generatedKey = null;
         if (sqlStatement instanceof InsertStatement) {
             generatedKey = getGenerateKey(shardingRule, (InsertStatement) sqlStatement, parameters);
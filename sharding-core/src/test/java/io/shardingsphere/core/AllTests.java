@@ -19,6 +19,7 @@ package io.shardingsphere.core;
 
 import io.shardingsphere.core.api.AllApiTests;
 import io.shardingsphere.core.constant.AllConstantsTests;
+import io.shardingsphere.core.event.AllEventTests;
 import io.shardingsphere.core.executor.AllExecutorTests;
 import io.shardingsphere.core.hint.AllHintTests;
 import io.shardingsphere.core.merger.AllMergerTests;
@@ -43,6 +44,7 @@ import org.junit.runners.Suite.SuiteClasses;
         AllOptimizerTests.class, 
         AllRewriteTests.class, 
         AllRoutingTests.class,
+        AllEventTests.class, 
         AllExecutorTests.class, 
         AllMergerTests.class, 
         AllHintTests.class, 
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.event;
+
+import com.google.common.eventbus.Subscribe;
+import io.shardingsphere.core.event.connection.GetConnectionEvent;
+import io.shardingsphere.core.event.executor.sql.DMLExecutionEvent;
+import io.shardingsphere.core.event.executor.sql.SQLExecutionEvent;
+import io.shardingsphere.core.event.parsing.ParsingEvent;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingEventBusTest {
+    
+    @Test
+    public void assertIsSubscribedWithoutSubscriber() {
+        assertFalse(new ShardingEventBus().isSubscribed(ParsingEvent.class));
+    }
+    
+    @Test
+    public void assertIsSubscribedAfterRegister() {
+        ShardingEventBus actual = new ShardingEventBus();
+        actual.register(new ParsingEventListener());
+        assertTrue(actual.isSubscribed(ParsingEvent.class));
+        assertFalse(actual.isSubscribed(GetConnectionEvent.class));
+    }
+    
+    @Test
+    public void assertIsSubscribedWithSuperType() {
+        ShardingEventBus actual = new ShardingEventBus();
+        actual.register(new ShardingEventListener());
+        assertTrue(actual.isSubscribed(ParsingEvent.class));
+        assertTrue(actual.isSubscribed(GetConnectionEvent.class));
+    }
+    
+    @Test
+    public void assertIsSubscribedWithSubType() {
+        ShardingEventBus actual = new ShardingEventBus();
+        actual.register(new DMLExecutionEventListener());
+        assertTrue(actual.isSubscribed(SQLExecutionEvent.class));
+        assertFalse(actual.isSubscribed(ParsingEvent.class));
+    }
+    
+    @Test
+    public void assertIsSubscribedAfterUnregister() {
+        ShardingEventBus actual = new ShardingEventBus();
+        ParsingEventListener listener1 = new ParsingEventListener();
+        ParsingEventListener listener2 = new ParsingEventListener();
+        actual.register(listener1);
+        actual.register(listener2);
+        actual.unregister(listener1);
+        assertTrue(actual.isSubscribed(ParsingEvent.class));
+        actual.unregister(listener2);
+        assertFalse(actual.isSubscribed(ParsingEvent.class));
+    }
+    
+    public static final class ParsingEventListener {
+        
+        @Subscribe
+        public void listen(final ParsingEvent event) {
+        }
+    }
+    
+    public static final class ShardingEventListener {
+        
+        @Subscribe
+        public void listen(final ShardingEvent event) {
+        }
+    }
+    
+    public static final class DMLExecutionEventListener {
+        
+        @Subscribe
+        public void listen(final DMLExecutionEvent event) {
+        }
+    }
+}
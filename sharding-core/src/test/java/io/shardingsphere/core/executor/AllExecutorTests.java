@@ -17,11 +17,20 @@
 
 package io.shardingsphere.core.executor;
 
+import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResultTest;
+import io.shardingsphere.core.executor.sql.prepare.ConnectionModeSelectorTest;
+import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplateTest;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses(ExecutorExceptionHandlerTest.class)
+@Suite.SuiteClasses({
+        ShardingExecuteEngineTest.class, 
+        ExecutorExceptionHandlerTest.class, 
+        MemoryQueryResultTest.class, 
+        SQLExecutePrepareTemplateTest.class, 
+        ConnectionModeSelectorTest.class
+})
 public final class AllExecutorTests {
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ShardingExecuteEngineTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(4);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertAsyncExecute() throws InterruptedException, ExecutionException {
+        final List<Integer> completedResults = new CopyOnWriteArrayList<>();
+        ListenableFuture<List<Integer>> actual = executeEngine.asyncExecute(Arrays.asList(1, 2, 3), new ShardingExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Integer execute(final Integer input) {
+                return input * 10;
+            }
+        }, new FutureCallback<Integer>() {
+            
+            @Override
+            public void onSuccess(final Integer result) {
+                completedResults.add(result);
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+            }
+        }, 0L);
+        assertThat(actual.get(), is(Arrays.asList(10, 20, 30)));
+        assertThat(completedResults.size(), is(3));
+        assertTrue(completedResults.containsAll(Arrays.asList(10, 20, 30)));
+    }
+    
+    @Test
+    public void assertAsyncExecuteWithFailure() throws InterruptedException {
+        ListenableFuture<List<Integer>> actual = executeEngine.asyncExecute(Arrays.asList(1, 2), new ShardingExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Integer execute(final Integer input) throws SQLException {
+                if (1 == input) {
+                    throw new SQLException("failure");
+                }
+                return input;
+            }
+        });
+        try {
+            actual.get();
+            fail("Expected execution exception");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+    }
+    
+    @Test
+    public void assertAsyncExecuteWithTimeout() throws InterruptedException {
+        ListenableFuture<List<Integer>> actual = executeEngine.asyncExecute(Collections.singletonList(1), new ShardingExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Integer execute(final Integer input) throws SQLException {
+                try {
+                    Thread.sleep(10000L);
+                } catch (final InterruptedException ex) {
+                    throw new SQLException(ex);
+                }
+                return input;
+            }
+        }, null, 100L);
+        try {
+            actual.get();
+            fail("Expected cancellation");
+        } catch (final CancellationException | ExecutionException ex) {
+            assertTrue(actual.isDone());
+        }
+    }
+    
+    @Test
+    public void assertAsyncGroupExecute() throws InterruptedException, ExecutionException {
+        List<ShardingExecuteGroup<Integer>> inputGroups = Arrays.asList(new ShardingExecuteGroup<>(Arrays.asList(1, 2)), new ShardingExecuteGroup<>(Collections.singletonList(3)));
+        ListenableFuture<List<Integer>> actual = executeEngine.asyncGroupExecute(inputGroups, new ShardingGroupExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Collection<Integer> execute(final Collection<Integer> inputs) {
+                return inputs;
+            }
+        });
+        assertThat(actual.get(), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertExecuteWithBoundedQueue() throws SQLException {
+        ShardingExecuteEngine boundedExecuteEngine = new ShardingExecuteEngine(1, 1, false, false);
+        try {
+            assertThat(boundedExecuteEngine.execute(Arrays.asList(1, 2, 3, 4, 5), new ShardingExecuteCallback<Integer, Integer>() {
+                
+                @Override
+                public Integer execute(final Integer input) {
+                    return input;
+                }
+            }), is(Arrays.asList(1, 2, 3, 4, 5)));
+            assertThat(boundedExecuteEngine.getQueuedTaskCount(), is(0L));
+        } finally {
+            boundedExecuteEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithWorkStealing() throws SQLException {
+        ShardingExecuteEngine workStealingExecuteEngine = new ShardingExecuteEngine(2, 0, true, false);
+        try {
+            assertThat(workStealingExecuteEngine.execute(Arrays.asList(1, 2, 3), new ShardingExecuteCallback<Integer, Integer>() {
+                
+                @Override
+                public Integer execute(final Integer input) {
+                    return input;
+                }
+            }), is(Arrays.asList(1, 2, 3)));
+        } finally {
+            workStealingExecuteEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithVirtualThread() throws SQLException {
+        ShardingExecuteEngine virtualThreadExecuteEngine = new ShardingExecuteEngine(0, 0, false, true);
+        try {
+            assertThat(virtualThreadExecuteEngine.execute(Arrays.asList(1, 2, 3), new ShardingExecuteCallback<Integer, Integer>() {
+                
+                @Override
+                public Integer execute(final Integer input) {
+                    return input;
+                }
+            }), is(Arrays.asList(1, 2, 3)));
+        } finally {
+            virtualThreadExecuteEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertGetActiveThreadCount() {
+        assertThat(executeEngine.getActiveThreadCount(), is(0));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryQueryResultTest {
+    
+    private ResultSet resultSet;
+    
+    private ResultSetMetaData resultSetMetaData;
+    
+    private int currentRow;
+    
+    private boolean wasNull;
+    
+    @Before
+    public void setUp() throws SQLException {
+        resultSet = mock(ResultSet.class);
+        resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(3);
+        mockColumn(1, "order_id", Types.INTEGER, Integer.class.getName());
+        mockColumn(2, "user_id", Types.BIGINT, Long.class.getName());
+        mockColumn(3, "status", Types.VARCHAR, String.class.getName());
+    }
+    
+    private void mockColumn(final int columnIndex, final String columnLabel, final int columnType, final String columnClassName) throws SQLException {
+        when(resultSetMetaData.getColumnLabel(columnIndex)).thenReturn(columnLabel);
+        when(resultSetMetaData.getColumnType(columnIndex)).thenReturn(columnType);
+        when(resultSetMetaData.getColumnClassName(columnIndex)).thenReturn(columnClassName);
+    }
+    
+    private void mockRows(final int rowCount) throws SQLException {
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++currentRow <= rowCount;
+            }
+        });
+        when(resultSet.getInt(1)).thenAnswer(new Answer<Integer>() {
+            
+            @Override
+            public Integer answer(final InvocationOnMock invocation) {
+                wasNull = false;
+                return currentRow;
+            }
+        });
+        when(resultSet.getLong(2)).thenAnswer(new Answer<Long>() {
+            
+            @Override
+            public Long answer(final InvocationOnMock invocation) {
+                wasNull = 0 == currentRow % 2;
+                return wasNull ? 0L : (long) currentRow * 10;
+            }
+        });
+        when(resultSet.wasNull()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return wasNull;
+            }
+        });
+        when(resultSet.getObject(3)).thenReturn("init");
+    }
+    
+    @Test
+    public void assertNextAndGetValue() throws SQLException {
+        mockRows(2);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) 10L));
+        assertFalse(actual.wasNull());
+        assertThat(actual.getValue(3, Object.class), is((Object) "init"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByColumnLabel() throws SQLException {
+        mockRows(1);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue("order_id", Object.class), is((Object) 1));
+        assertThat(actual.getValue("user_id", Object.class), is((Object) 10L));
+        assertThat(actual.getCalendarValue("status", Object.class, null), is((Object) "init"));
+    }
+    
+    @Test
+    public void assertLoadRowsMoreThanOneChunk() throws SQLException {
+        mockRows(3000);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        for (int i = 1; i <= 3000; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) i));
+            if (0 == i % 2) {
+                assertNull(actual.getValue(2, Object.class));
+            } else {
+                assertThat(actual.getValue(2, Object.class), is((Object) (i * 10L)));
+            }
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueWhenColumnClassIsNotPrimitiveWrapper() throws SQLException {
+        mockColumn(2, "user_id", Types.BIGINT, BigInteger.class.getName());
+        mockRows(1);
+        when(resultSet.getObject(2)).thenReturn(BigInteger.TEN);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is((Object) BigInteger.TEN));
+    }
+    
+    @Test
+    public void assertGetColumnLabel() throws SQLException {
+        mockRows(0);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertThat(actual.getColumnCount(), is(3));
+        assertThat(actual.getColumnLabel(2), is("user_id"));
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetColumnLabelWithIndexOutOfRange() throws SQLException {
+        mockRows(0);
+        new MemoryQueryResult(resultSet).getColumnLabel(4);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionModeSelectorTest {
+    
+    private final Collection<RouteUnit> routeUnits = Arrays.asList(
+            createRouteUnit("ds_0", "SELECT * FROM t_order_0"), createRouteUnit("ds_0", "SELECT * FROM t_order_1"), createRouteUnit("ds_1", "SELECT * FROM t_order_0"));
+    
+    @Test
+    public void assertSelectWithConfiguredConnectionMode() {
+        assertThat(ConnectionModeSelector.select(ConnectionMode.MEMORY_STRICTLY, routeUnits, 1), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(ConnectionModeSelector.select(ConnectionMode.CONNECTION_STRICTLY, routeUnits, 2), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    public void assertSelectMemoryStrictlyWithinMaxConnectionsSizePerQuery() {
+        assertThat(ConnectionModeSelector.select(ConnectionMode.ADAPTIVE, routeUnits, 2), is(ConnectionMode.MEMORY_STRICTLY));
+    }
+    
+    @Test
+    public void assertSelectConnectionStrictlyBeyondMaxConnectionsSizePerQuery() {
+        assertThat(ConnectionModeSelector.select(ConnectionMode.ADAPTIVE, routeUnits, 1), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    public void assertSelectConnectionStrictlyBeyondAvailableConnectionSize() {
+        assertThat(ConnectionModeSelector.select(ConnectionMode.ADAPTIVE, routeUnits, 2, Collections.singletonMap("ds_0", 1)), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    public void assertSelectMemoryStrictlyWithinAvailableConnectionSize() {
+        assertThat(ConnectionModeSelector.select(ConnectionMode.ADAPTIVE, routeUnits, 2, Collections.singletonMap("ds_0", 2)), is(ConnectionMode.MEMORY_STRICTLY));
+    }
+    
+    private RouteUnit createRouteUnit(final String dataSourceName, final String sql) {
+        return new RouteUnit(dataSourceName, new SQLUnit(sql, Collections.<List<Object>>emptyList()));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLExecutePrepareTemplateTest {
+    
+    private SQLExecutePrepareCallback callback;
+    
+    private Connection connection0;
+    
+    private Connection connection1;
+    
+    @Before
+    public void setUp() throws SQLException {
+        callback = mock(SQLExecutePrepareCallback.class);
+        connection0 = mock(Connection.class);
+        connection1 = mock(Connection.class);
+        when(callback.getConnections("ds_0", 2)).thenReturn(Arrays.asList(connection0, connection1));
+        when(callback.getConnections("ds_1", 1)).thenReturn(Collections.singletonList(connection0));
+        when(callback.createSQLExecuteUnit(any(Connection.class), any(RouteUnit.class))).thenReturn(mock(SQLExecuteUnit.class));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupsAcquireConnectionsOncePerDataSource() throws SQLException {
+        Collection<RouteUnit> routeUnits = new LinkedList<>();
+        routeUnits.add(createRouteUnit("ds_0", "SELECT * FROM t_order_0"));
+        routeUnits.add(createRouteUnit("ds_0", "SELECT * FROM t_order_1"));
+        routeUnits.add(createRouteUnit("ds_1", "SELECT * FROM t_order_0"));
+        Collection<ShardingExecuteGroup<SQLExecuteUnit>> actual = new SQLExecutePrepareTemplate(2).getExecuteUnitGroups(routeUnits, callback);
+        assertThat(actual.size(), is(3));
+        verify(callback, times(1)).getConnections("ds_0", 2);
+        verify(callback, times(1)).getConnections("ds_1", 1);
+        verify(callback).createSQLExecuteUnit(connection0, createRouteUnit("ds_0", "SELECT * FROM t_order_0"));
+        verify(callback).createSQLExecuteUnit(connection1, createRouteUnit("ds_0", "SELECT * FROM t_order_1"));
+        verify(callback).createSQLExecuteUnit(connection0, createRouteUnit("ds_1", "SELECT * FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupsWithOneConnectionPerDataSource() throws SQLException {
+        when(callback.getConnections("ds_0", 1)).thenReturn(Collections.singletonList(connection1));
+        Collection<RouteUnit> routeUnits = new LinkedList<>();
+        routeUnits.add(createRouteUnit("ds_0", "SELECT * FROM t_order_0"));
+        routeUnits.add(createRouteUnit("ds_0", "SELECT * FROM t_order_1"));
+        Collection<ShardingExecuteGroup<SQLExecuteUnit>> actual = new SQLExecutePrepareTemplate(1).getExecuteUnitGroups(routeUnits, callback);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getInputs().size(), is(2));
+        verify(callback, times(1)).getConnections("ds_0", 1);
+        verify(callback).createSQLExecuteUnit(connection1, createRouteUnit("ds_0", "SELECT * FROM t_order_0"));
+        verify(callback).createSQLExecuteUnit(connection1, createRouteUnit("ds_0", "SELECT * FROM t_order_1"));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupsAcquireConnectionsInOrderOfDataSourceName() throws SQLException {
+        Collection<RouteUnit> routeUnits = new LinkedList<>();
+        routeUnits.add(createRouteUnit("ds_1", "SELECT * FROM t_order_0"));
+        routeUnits.add(createRouteUnit("ds_0", "SELECT * FROM t_order_0"));
+        routeUnits.add(createRouteUnit("ds_0", "SELECT * FROM t_order_1"));
+        new SQLExecutePrepareTemplate(2).getExecuteUnitGroups(routeUnits, callback);
+        InOrder inOrder = inOrder(callback);
+        inOrder.verify(callback).getConnections("ds_0", 2);
+        inOrder.verify(callback).getConnections("ds_1", 1);
+    }
+    
+    private RouteUnit createRouteUnit(final String dataSourceName, final String sql) {
+        return new RouteUnit(dataSourceName, new SQLUnit(sql, Collections.<List<Object>>emptyList()));
+    }
+}
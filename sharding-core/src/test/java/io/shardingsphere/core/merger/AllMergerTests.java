@@ -32,9 +32,11 @@ import io.shardingsphere.core.merger.dql.groupby.GroupByRowComparatorTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByValueTest;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AllAggregationTests;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpillRowCodecTest;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.orderby.CompareUtilTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResultTest;
+import io.shardingsphere.core.merger.dql.orderby.OrderByValueLoserTreeTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByValueTest;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResultTest;
@@ -51,12 +53,14 @@ import org.junit.runners.Suite;
         MemoryQueryResultRowTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        OrderByValueLoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
         GroupByRowComparatorTest.class, 
         GroupByStreamMergedResultTest.class, 
         GroupByMemoryMergedResultTest.class, 
+        SpillRowCodecTest.class, 
         AllAggregationTests.class, 
         LimitDecoratorMergedResultTest.class,
         RowNumberDecoratorMergedResultTest.class,
@@ -21,6 +21,9 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.AggregationType;
 import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.DQLMergeEngine;
@@ -30,18 +33,29 @@ import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelec
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.io.File;
+import java.io.FilenameFilter;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -129,4 +143,132 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.GROUP_BY_MEMORY_MERGE_MAX_ROWS.getKey(), "1");
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, new ShardingProperties(props));
+        mockRow(resultSets.get(0), 20, 2, 2, 20);
+        mockRow(resultSets.get(1), 30, 3, 3, 30);
+        mockRow(resultSets.get(2), 20, 2, 2, 20);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpillForGroupsFarAboveSpillPartitionsOfMaxRows() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.GROUP_BY_MEMORY_MERGE_MAX_ROWS.getKey(), "4");
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, new ShardingProperties(props));
+        for (ResultSet each : resultSets) {
+            mockRows(each, 200);
+        }
+        Set<File> expectedSpillFiles = getSpillFiles();
+        MergedResult actual = mergeEngine.merge();
+        for (int id = 199; id >= 0; id--) {
+            assertTrue(actual.next());
+            assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(3)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+            assertThat((Integer) actual.getValue(3, Object.class), is(id));
+            assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+            assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        }
+        assertFalse(actual.next());
+        assertThat(getSpillFiles(), is(expectedSpillFiles));
+    }
+    
+    @Test
+    public void assertCloseWithSpillBeforeAllRowsRead() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.GROUP_BY_MEMORY_MERGE_MAX_ROWS.getKey(), "1");
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, new ShardingProperties(props));
+        mockRow(resultSets.get(0), 20, 2, 2, 20);
+        mockRow(resultSets.get(1), 30, 3, 3, 30);
+        mockRow(resultSets.get(2), 20, 2, 2, 20);
+        Set<File> expectedSpillFiles = getSpillFiles();
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertTrue(actual instanceof CloseableMergedResult);
+        ((CloseableMergedResult) actual).close();
+        ((CloseableMergedResult) actual).close();
+        assertThat(getSpillFiles(), is(expectedSpillFiles));
+    }
+    
+    @Test
+    public void assertMergeFailureWithSpill() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.GROUP_BY_MEMORY_MERGE_MAX_ROWS.getKey(), "1");
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, new ShardingProperties(props));
+        mockRow(resultSets.get(0), 20, 2, 2, 20);
+        mockRow(resultSets.get(1), 30, 3, 3, 30);
+        when(resultSets.get(2).next()).thenThrow(new SQLException("test"));
+        Set<File> expectedSpillFiles = getSpillFiles();
+        try {
+            mergeEngine.merge();
+            fail("SQLException expected.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("test"));
+        }
+        assertThat(getSpillFiles(), is(expectedSpillFiles));
+    }
+    
+    private Set<File> getSpillFiles() {
+        File[] files = new File(System.getProperty("java.io.tmpdir")).listFiles(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-spill-");
+            }
+        });
+        return null == files ? Collections.<File>emptySet() : new HashSet<>(Arrays.asList(files));
+    }
+    
+    private void mockRows(final ResultSet resultSet, final int rowCount) throws SQLException {
+        final int[] currentRow = new int[1];
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++currentRow[0] <= rowCount;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                switch ((Integer) invocation.getArguments()[0]) {
+                    case 2:
+                        return 0;
+                    case 3:
+                        return currentRow[0] - 1;
+                    case 5:
+                        return 10;
+                    default:
+                        return 1;
+                }
+            }
+        });
+    }
+    
+    private void mockRow(final ResultSet resultSet, final int count, final int id, final int derivedCount, final int derivedSum) throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1)).thenReturn(count);
+        when(resultSet.getObject(2)).thenReturn(0);
+        when(resultSet.getObject(3)).thenReturn(id);
+        when(resultSet.getObject(4)).thenReturn(derivedCount);
+        when(resultSet.getObject(5)).thenReturn(derivedSum);
+    }
 }
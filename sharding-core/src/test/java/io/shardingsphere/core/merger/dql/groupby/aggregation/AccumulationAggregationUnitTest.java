@@ -19,6 +19,7 @@ package io.shardingsphere.core.merger.dql.groupby.aggregation;
 
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -36,4 +37,29 @@ public final class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    public void assertAccumulationAggregationWithLongOverflow() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1));
+        assertThat(accumulationAggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithDouble() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1.5D));
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(2.5D));
+        assertThat(accumulationAggregationUnit.getResult(), is(BigDecimal.valueOf(4.0D)));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithMixedTypes() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1));
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(new BigDecimal("1.25")));
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(0.5D));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("2.75")));
+    }
 }
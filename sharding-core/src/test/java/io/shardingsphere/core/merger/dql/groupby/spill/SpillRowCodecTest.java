@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = new Object[] {null, 1, 2L, 1.5D, "测试", new BigDecimal("12.340"), new byte[] {1, 2}, timestamp, new Date(2000L), BigInteger.TEN};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(bytes), expected);
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), expected.length);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertWriteWithNotSerializableValue() throws IOException {
+        SpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[] {new Object()});
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.fixture.TestQueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        OrderByValue orderByValue1 = createOrderByValue(1, 4, 7);
+        OrderByValue orderByValue2 = createOrderByValue(2, 5);
+        OrderByValue orderByValue3 = createOrderByValue(3, 6, 8);
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Arrays.asList(orderByValue1, orderByValue2, orderByValue3));
+        List<OrderByValue> expected = Arrays.asList(orderByValue1, orderByValue2, orderByValue3, orderByValue1, orderByValue2, orderByValue3, orderByValue1);
+        for (OrderByValue each : expected) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek(), is(each));
+            assertTrue(actual.next());
+        }
+        assertThat(actual.peek(), is(orderByValue3));
+        assertFalse(actual.next());
+        assertTrue(actual.isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final Integer first, final Integer... others) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        Boolean[] nextResults = new Boolean[others.length + 1];
+        for (int i = 0; i < others.length; i++) {
+            nextResults[i] = true;
+        }
+        nextResults[others.length] = false;
+        when(resultSet.next()).thenReturn(true, nextResults);
+        when(resultSet.getObject(1)).thenReturn(first, (Object[]) others);
+        OrderByValue result = new OrderByValue(new TestQueryResult(resultSet), Collections.singletonList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC)));
+        assertTrue(result.next());
+        return result;
+    }
+}
@@ -85,6 +85,7 @@ public final class LimitDecoratorMergedResultTest {
             assertTrue(actual.next());
         }
         assertFalse(actual.next());
+        assertFalse(((PaginationMergedResult) actual).isRowCountReached());
     }
     
     @Test
@@ -97,6 +98,8 @@ public final class LimitDecoratorMergedResultTest {
         MergedResult actual = mergeEngine.merge();
         assertTrue(actual.next());
         assertTrue(actual.next());
+        assertFalse(((PaginationMergedResult) actual).isRowCountReached());
         assertFalse(actual.next());
+        assertTrue(((PaginationMergedResult) actual).isRowCountReached());
     }
 }
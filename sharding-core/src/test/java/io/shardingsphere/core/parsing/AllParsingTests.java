@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.parsing;
 
+import io.shardingsphere.core.parsing.cache.ParsingResultCacheTest;
 import io.shardingsphere.core.parsing.integrate.AllParsingIntegrateTests;
 import io.shardingsphere.core.parsing.lexer.AllLexerTests;
 import io.shardingsphere.core.parsing.parser.constant.DerivedColumnTest;
@@ -32,9 +33,11 @@ import org.junit.runners.Suite;
         AllStatementParserTests.class, 
         AllSQLTests.class, 
         SQLJudgeEngineTest.class, 
+        SQLParameterizeEngineTest.class, 
         OrderItemTest.class,
         DerivedColumnTest.class, 
-        AllParsingIntegrateTests.class
+        AllParsingIntegrateTests.class, 
+        ParsingResultCacheTest.class
     })
 public final class AllParsingTests {
 }
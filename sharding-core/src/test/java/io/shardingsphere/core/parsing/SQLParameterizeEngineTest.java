@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.parsing;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.exception.ShardingException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParameterizeEngineTest {
+    
+    @Test
+    public void assertParameterizeForComparison() {
+        Optional<ParameterizedSQL> actual = new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = 1001 AND status<>'OK' AND price > 1.5").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status<>? AND price > ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1001, "OK", 1.5d)));
+    }
+    
+    @Test
+    public void assertParameterizeForInAndValues() {
+        Optional<ParameterizedSQL> actual = new SQLParameterizeEngine(DatabaseType.MySQL, "INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, 'b')").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        actual = new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id IN (1, 2) AND user_id = abs(3)").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?, ?) AND user_id = abs(3)"));
+    }
+    
+    @Test
+    public void assertParameterizeForEscapedChars() {
+        Optional<ParameterizedSQL> actual = new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE status = 'it''s' AND remark = \"say \"\"hi\"\"\"").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("it's", "say \"hi\"")));
+    }
+    
+    @Test
+    public void assertParameterizeForCharsWithIntroducer() {
+        Optional<ParameterizedSQL> actual = new SQLParameterizeEngine(
+                DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = 1 AND status = _utf8mb4'OK' AND remark = _latin1'a' AND name = N'b' AND tag = $x'c'").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status = _utf8mb4'OK' AND remark = _latin1'a' AND name = N'b' AND tag = $x'c'"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(1)));
+        actual = new SQLParameterizeEngine(DatabaseType.MySQL, "INSERT INTO t_order (order_id, status) VALUES (1, _utf8mb4'a')").parameterize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, _utf8mb4'a')"));
+    }
+    
+    @Test
+    public void assertNotParameterize() {
+        assertFalse(new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = ?").parameterize().isPresent());
+        assertFalse(new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = 1 LIMIT 10").parameterize().isPresent());
+        assertFalse(new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = -1").parameterize().isPresent());
+        assertFalse(new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order ORDER BY 1").parameterize().isPresent());
+        assertFalse(new SQLParameterizeEngine(DatabaseType.MySQL, "SHOW TABLES LIKE 'a'").parameterize().isPresent());
+        assertFalse(new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE status = 'a\\\\b'").parameterize().isPresent());
+    }
+    
+    @Test
+    public void assertRestore() {
+        ParameterizedSQL actual = new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = 01 AND status = 'it''s ?'").parameterize().get();
+        assertThat(actual.restore("SELECT * FROM t_order_1 WHERE order_id = ? AND status = ?", actual.getParameters()), is("SELECT * FROM t_order_1 WHERE order_id = 01 AND status = 'it''s ?'"));
+        actual = new SQLParameterizeEngine(DatabaseType.MySQL, "INSERT INTO t_order (user_id) VALUES (10)").parameterize().get();
+        assertThat(actual.restore("INSERT INTO t_order_1 (user_id, order_id) VALUES (?, ?)", Arrays.<Object>asList(actual.getParameters().get(0), 100L)),
+                is("INSERT INTO t_order_1 (user_id, order_id) VALUES (10, 100)"));
+    }
+    
+    @Test
+    public void assertRestoreWithEqualParameters() {
+        ParameterizedSQL actual = new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = 01 AND user_id = 1").parameterize().get();
+        assertThat(actual.restore("SELECT * FROM t_order_1 WHERE order_id = ? AND user_id = ?", actual.getParameters()), is("SELECT * FROM t_order_1 WHERE order_id = 01 AND user_id = 1"));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertRestoreWithLessParameters() {
+        ParameterizedSQL actual = new SQLParameterizeEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = 1").parameterize().get();
+        actual.restore("SELECT * FROM t_order_1 WHERE order_id = ?", Collections.emptyList());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        SQLStatement sqlStatement = new SelectStatement();
+        parsingResultCache.put("SELECT 1", sqlStatement);
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), is(sqlStatement));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 2"));
+        assertThat(parsingResultCache.getStats().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictByMaxSize() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_SIZE.getKey(), "1");
+        ParsingResultCache parsingResultCache = new ParsingResultCache(new ShardingProperties(props));
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 2", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertThat(parsingResultCache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictByMaxWeight() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_WEIGHT.getKey(), "10");
+        ParsingResultCache parsingResultCache = new ParsingResultCache(new ShardingProperties(props));
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 10", new SelectStatement());
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+        assertThat(parsingResultCache.size(), is(1L));
+        assertThat(parsingResultCache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.clear();
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+    }
+}
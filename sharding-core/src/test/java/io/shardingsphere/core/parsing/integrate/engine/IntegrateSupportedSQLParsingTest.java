@@ -19,6 +19,7 @@ package io.shardingsphere.core.parsing.integrate.engine;
 
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.integrate.asserts.ParserResultSetLoader;
 import io.shardingsphere.core.parsing.integrate.asserts.SQLStatementAssert;
 import io.shardingsphere.test.sql.SQLCaseType;
@@ -55,6 +56,6 @@ public final class IntegrateSupportedSQLParsingTest extends AbstractBaseIntegrat
     @Test
     public void assertSupportedSQL() {
         String sql = sqlCasesLoader.getSupportedSQL(sqlCaseId, sqlCaseType, parserResultSetLoader.getParserResult(sqlCaseId).getParameters());
-        new SQLStatementAssert(new SQLParsingEngine(databaseType, sql, getShardingRule(), getShardingTableMetaData()).parse(false), sqlCaseId, sqlCaseType).assertSQLStatement();
+        new SQLStatementAssert(new SQLParsingEngine(databaseType, sql, getShardingRule(), getShardingTableMetaData(), new ParsingResultCache()).parse(false), sqlCaseId, sqlCaseType).assertSQLStatement();
     }
 }
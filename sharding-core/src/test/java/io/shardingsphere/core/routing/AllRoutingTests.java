@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.routing;
 
+import io.shardingsphere.core.routing.cache.RouteResultCacheTest;
 import io.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -24,7 +25,9 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         DatabaseTest.class,
-        DatabaseHintSQLRouterTest.class
+        DatabaseHintSQLRouterTest.class,
+        PreparedStatementRoutingEngineTest.class,
+        RouteResultCacheTest.class
 })
 public final class AllRoutingTests {
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.routing;
+
+import com.google.common.eventbus.Subscribe;
+import io.shardingsphere.core.api.HintManager;
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.event.ShardingEventBusInstance;
+import io.shardingsphere.core.event.ShardingEventType;
+import io.shardingsphere.core.event.routing.RoutingEvent;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PreparedStatementRoutingEngineTest {
+    
+    private ShardingRule shardingRule;
+    
+    private RouteResultCache routeResultCache;
+    
+    @Before
+    public void setUp() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.ROUTE_RESULT_CACHE_MAX_SIZE.getKey(), "10");
+        routeResultCache = new RouteResultCache(new ShardingProperties(props));
+    }
+    
+    @Test
+    public void assertRouteWithCache() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ? AND status = ?";
+        assertRoute(sql, Arrays.<Object>asList(1, 2, "init"), "ds_1", "SELECT * FROM t_order_0 WHERE user_id = ? AND order_id = ? AND status = ?");
+        assertRoute(sql, Arrays.<Object>asList(1, 2, "finish"), "ds_1", "SELECT * FROM t_order_0 WHERE user_id = ? AND order_id = ? AND status = ?");
+        assertRoute(sql, Arrays.<Object>asList(2, 3, "init"), "ds_0", "SELECT * FROM t_order_1 WHERE user_id = ? AND order_id = ? AND status = ?");
+        assertThat(routeResultCache.size(), is(2L));
+        assertThat(routeResultCache.getStats().hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRouteWithCachePostsRoutingEvent() {
+        RoutingEventCounter routingEventCounter = new RoutingEventCounter();
+        ShardingEventBusInstance.getInstance().register(routingEventCounter);
+        try {
+            String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?";
+            assertRoute(sql, Arrays.<Object>asList(1, 2), "ds_1", "SELECT * FROM t_order_0 WHERE user_id = ? AND order_id = ?");
+            assertRoute(sql, Arrays.<Object>asList(1, 2), "ds_1", "SELECT * FROM t_order_0 WHERE user_id = ? AND order_id = ?");
+            assertThat(routeResultCache.getStats().hitCount(), is(1L));
+            assertThat(routingEventCounter.count, is(2));
+        } finally {
+            ShardingEventBusInstance.getInstance().unregister(routingEventCounter);
+        }
+    }
+    
+    @Test
+    public void assertRouteWithoutCacheForLimit() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ? LIMIT ?";
+        assertRoute(sql, Arrays.<Object>asList(1, 2, 10), "ds_1", "SELECT * FROM t_order_0 WHERE user_id = ? AND order_id = ? LIMIT ?");
+        assertThat(routeResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertRouteWithoutCacheForInsert() {
+        String sql = "INSERT INTO t_order (user_id, order_id) VALUES (?, ?)";
+        assertRoute(sql, Arrays.<Object>asList(1, 2), "ds_1", "INSERT INTO t_order_0 (user_id, order_id) VALUES (?, ?)");
+        assertThat(routeResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertRouteWithoutCacheForHint() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setMasterRouteOnly();
+            assertRoute("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList("init", 1, 2), "ds_1", "UPDATE t_order_0 SET status = ? WHERE user_id = ? AND order_id = ?");
+        }
+        assertThat(routeResultCache.size(), is(0L));
+    }
+    
+    private void assertRoute(final String sql, final List<Object> parameters, final String expectedDataSourceName, final String expectedSQL) {
+        SQLRouteResult actual = new PreparedStatementRoutingEngine(sql, shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(), routeResultCache).route(parameters);
+        assertThat(actual.getRouteUnits().size(), is(1));
+        RouteUnit actualRouteUnit = actual.getRouteUnits().iterator().next();
+        assertThat(actualRouteUnit.getDataSourceName(), is(expectedDataSourceName));
+        assertThat(actualRouteUnit.getSqlUnit().getSql(), is(expectedSQL));
+        assertThat(actualRouteUnit.getSqlUnit().getParameterSets(), is(Collections.singletonList(parameters)));
+    }
+    
+    public static final class RoutingEventCounter {
+        
+        private int count;
+        
+        /**
+         * Count routing events which are executed successfully.
+         *
+         * @param event routing event
+         */
+        @Subscribe
+        public void listen(final RoutingEvent event) {
+            if (ShardingEventType.EXECUTE_SUCCESS == event.getEventType()) {
+                count++;
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+
+package io.shardingsphere.core.routing.cache;
+
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RouteResultCacheTest {
+    
+    @Test
+    public void assertIsEnabled() {
+        assertFalse(new RouteResultCache().isEnabled());
+        assertTrue(createRouteResultCache(1).isEnabled());
+    }
+    
+    @Test
+    public void assertGetRouteUnits() {
+        RouteResultCache routeResultCache = createRouteResultCache(10);
+        Collection<RouteUnit> routeUnits = createRouteUnits("ds_0");
+        routeResultCache.put(Arrays.<Object>asList("SELECT * FROM t_order WHERE order_id = ?", 1), routeUnits);
+        assertThat(routeResultCache.getRouteUnits(Arrays.<Object>asList("SELECT * FROM t_order WHERE order_id = ?", 1)), is(routeUnits));
+        assertNull(routeResultCache.getRouteUnits(Arrays.<Object>asList("SELECT * FROM t_order WHERE order_id = ?", 2)));
+        assertThat(routeResultCache.getStats().hitCount(), is(1L));
+        assertThat(routeResultCache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictByMaxSize() {
+        RouteResultCache routeResultCache = createRouteResultCache(1);
+        routeResultCache.put(Arrays.<Object>asList("SELECT * FROM t_order WHERE order_id = ?", 1), createRouteUnits("ds_0"));
+        routeResultCache.put(Arrays.<Object>asList("SELECT * FROM t_order WHERE order_id = ?", 2), createRouteUnits("ds_1"));
+        assertThat(routeResultCache.size(), is(1L));
+        assertThat(routeResultCache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        RouteResultCache routeResultCache = createRouteResultCache(10);
+        routeResultCache.put(Arrays.<Object>asList("SELECT * FROM t_order WHERE order_id = ?", 1), createRouteUnits("ds_0"));
+        routeResultCache.clear();
+        assertNull(routeResultCache.getRouteUnits(Arrays.<Object>asList("SELECT * FROM t_order WHERE order_id = ?", 1)));
+    }
+    
+    private RouteResultCache createRouteResultCache(final int maxSize) {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.ROUTE_RESULT_CACHE_MAX_SIZE.getKey(), String.valueOf(maxSize));
+        return new RouteResultCache(new ShardingProperties(props));
+    }
+    
+    private Collection<RouteUnit> createRouteUnits(final String dataSourceName) {
+        return Collections.singletonList(new RouteUnit(dataSourceName, new SQLUnit("SELECT * FROM t_order_1 WHERE order_id = ?", Collections.<List<Object>>emptyList())));
+    }
+}
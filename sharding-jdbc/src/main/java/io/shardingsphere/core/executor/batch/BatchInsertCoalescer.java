@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.batch;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.parser.context.insertvalue.InsertValue;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Coalescer to rewrite batch insert rows routed to same actual table into multiple rows insert.
+ * 
+ * <p>
+ * Only single row {@code INSERT ... VALUES (...)} without trailing clause is coalescible,
+ * and multiple rows insert is only supported by MySQL, PostgreSQL and H2.
+ * </p>
+ */
+public final class BatchInsertCoalescer {
+    
+    private static final int MAX_PARAMETERS_COUNT = 65535;
+    
+    @Getter
+    private final boolean coalescible;
+    
+    private final String insertValueExpression;
+    
+    private final int maxRows;
+    
+    private final int maxSQLLength;
+    
+    private final Map<RouteUnit, RoutedRows> routedRowsMap = new LinkedHashMap<>();
+    
+    public BatchInsertCoalescer(final DatabaseType databaseType, final SQLStatement sqlStatement, final String sql, final int maxRows, final int maxSQLLength) {
+        coalescible = maxRows > 1 && isSupportedDatabaseType(databaseType) && isSingleValuesInsert(sqlStatement, sql);
+        insertValueExpression = coalescible ? ((InsertStatement) sqlStatement).getInsertValues().getInsertValues().get(0).getExpression() : null;
+        this.maxRows = maxRows;
+        this.maxSQLLength = maxSQLLength;
+    }
+    
+    private boolean isSupportedDatabaseType(final DatabaseType databaseType) {
+        return DatabaseType.MySQL == databaseType || DatabaseType.PostgreSQL == databaseType || DatabaseType.H2 == databaseType;
+    }
+    
+    private boolean isSingleValuesInsert(final SQLStatement sqlStatement, final String sql) {
+        if (!(sqlStatement instanceof InsertStatement)) {
+            return false;
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        List<InsertValue> insertValues = insertStatement.getInsertValues().getInsertValues();
+        return 1 == insertValues.size() && DefaultKeyword.VALUES == insertValues.get(0).getType() && sql.substring(insertStatement.getInsertValuesListLastPosition()).trim().isEmpty();
+    }
+    
+    /**
+     * Add route units of one row.
+     * 
+     * @param routeUnits route units of row
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     */
+    public void add(final Collection<RouteUnit> routeUnits, final int jdbcAddBatchTimes) {
+        for (RouteUnit each : routeUnits) {
+            RoutedRows routedRows = routedRowsMap.get(each);
+            if (null == routedRows) {
+                routedRows = new RoutedRows();
+                routedRowsMap.put(each, routedRows);
+            }
+            routedRows.getParameterSets().add(each.getSqlUnit().getParameterSets().get(0));
+            routedRows.getJdbcAddBatchTimes().add(jdbcAddBatchTimes);
+        }
+    }
+    
+    /**
+     * Coalesce added rows.
+     * 
+     * @return coalesced batch insert units
+     */
+    public List<CoalescedBatchInsertUnit> coalesce() {
+        List<CoalescedBatchInsertUnit> result = new LinkedList<>();
+        for (Entry<RouteUnit, RoutedRows> entry : routedRowsMap.entrySet()) {
+            result.addAll(coalesce(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+    
+    private List<CoalescedBatchInsertUnit> coalesce(final RouteUnit routeUnit, final RoutedRows routedRows) {
+        String actualSQL = routeUnit.getSqlUnit().getSql().trim();
+        Optional<String> actualInsertValueExpression = findActualInsertValueExpression(actualSQL);
+        if (!actualInsertValueExpression.isPresent()) {
+            return Collections.singletonList(createCoalescedBatchInsertUnit(routeUnit.getDataSourceName(), routeUnit.getSqlUnit().getSql(), "", 
+                    Lists.partition(routedRows.getParameterSets(), 1), Lists.partition(routedRows.getJdbcAddBatchTimes(), 1), 1));
+        }
+        String insertPrefix = actualSQL.substring(0, actualSQL.length() - actualInsertValueExpression.get().length());
+        int rowsPerInsert = getRowsPerInsert(insertPrefix, actualInsertValueExpression.get(), routedRows.getParameterSets().get(0).size());
+        List<List<List<Object>>> parameterSetsPartitions = Lists.partition(routedRows.getParameterSets(), rowsPerInsert);
+        List<List<Integer>> jdbcAddBatchTimesPartitions = Lists.partition(routedRows.getJdbcAddBatchTimes(), rowsPerInsert);
+        List<CoalescedBatchInsertUnit> result = new LinkedList<>();
+        int fullPartitionsCount = routedRows.getParameterSets().size() / rowsPerInsert;
+        if (fullPartitionsCount > 0) {
+            result.add(createCoalescedBatchInsertUnit(routeUnit.getDataSourceName(), insertPrefix, actualInsertValueExpression.get(), 
+                    parameterSetsPartitions.subList(0, fullPartitionsCount), jdbcAddBatchTimesPartitions.subList(0, fullPartitionsCount), rowsPerInsert));
+        }
+        if (parameterSetsPartitions.size() > fullPartitionsCount) {
+            result.add(createCoalescedBatchInsertUnit(routeUnit.getDataSourceName(), insertPrefix, actualInsertValueExpression.get(), parameterSetsPartitions.subList(fullPartitionsCount, 
+                    fullPartitionsCount + 1), jdbcAddBatchTimesPartitions.subList(fullPartitionsCount, fullPartitionsCount + 1), parameterSetsPartitions.get(fullPartitionsCount).size()));
+        }
+        return result;
+    }
+    
+    private Optional<String> findActualInsertValueExpression(final String actualSQL) {
+        if (actualSQL.endsWith(insertValueExpression)) {
+            return Optional.of(insertValueExpression);
+        }
+        String insertValueExpressionWithGeneratedKey = insertValueExpression.substring(0, insertValueExpression.lastIndexOf(")")) + ", ?)";
+        return actualSQL.endsWith(insertValueExpressionWithGeneratedKey) ? Optional.of(insertValueExpressionWithGeneratedKey) : Optional.<String>absent();
+    }
+    
+    private int getRowsPerInsert(final String insertPrefix, final String actualInsertValueExpression, final int parametersCount) {
+        int result = Math.min(maxRows, (maxSQLLength - insertPrefix.length() + 2) / (actualInsertValueExpression.length() + 2));
+        if (parametersCount > 0) {
+            result = Math.min(result, MAX_PARAMETERS_COUNT / parametersCount);
+        }
+        return Math.max(result, 1);
+    }
+    
+    private CoalescedBatchInsertUnit createCoalescedBatchInsertUnit(final String dataSourceName, final String insertPrefix, final String actualInsertValueExpression, 
+                                                                    final List<List<List<Object>>> parameterSetsPartitions, final List<List<Integer>> jdbcAddBatchTimesPartitions, 
+                                                                    final int rowsPerInsert) {
+        StringBuilder sql = new StringBuilder(insertPrefix);
+        for (int i = 0; i < rowsPerInsert; i++) {
+            if (0 != i) {
+                sql.append(", ");
+            }
+            sql.append(actualInsertValueExpression);
+        }
+        List<List<Object>> parameterSets = new ArrayList<>(parameterSetsPartitions.size());
+        for (List<List<Object>> each : parameterSetsPartitions) {
+            List<Object> parameters = new ArrayList<>(each.size() * each.get(0).size());
+            for (List<Object> rowParameters : each) {
+                parameters.addAll(rowParameters);
+            }
+            parameterSets.add(parameters);
+        }
+        return new CoalescedBatchInsertUnit(new RouteUnit(dataSourceName, new SQLUnit(sql.toString(), parameterSets)), new ArrayList<>(jdbcAddBatchTimesPartitions));
+    }
+    
+    /**
+     * Clear added rows.
+     */
+    public void clear() {
+        routedRowsMap.clear();
+    }
+    
+    @Getter
+    private static final class RoutedRows {
+        
+        private final List<List<Object>> parameterSets = new ArrayList<>();
+        
+        private final List<Integer> jdbcAddBatchTimes = new ArrayList<>();
+    }
+}
@@ -24,7 +24,10 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -42,6 +45,9 @@ public final class BatchPreparedStatementExecuteUnit implements SQLExecuteUnit {
     
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, Integer> actualAddBatchCallTimesAndRowsCountMap = new HashMap<>();
+    
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
@@ -53,4 +59,33 @@ public final class BatchPreparedStatementExecuteUnit implements SQLExecuteUnit {
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
+    
+    /**
+     * Map times of use JDBC API call addBatch and times of actual call addBatch for rows coalesced into one actual call.
+     * 
+     * @param jdbcAddBatchTimesList times of use JDBC API call addBatch of coalesced rows
+     */
+    public void mapAddBatchCount(final List<Integer> jdbcAddBatchTimesList) {
+        for (int each : jdbcAddBatchTimesList) {
+            jdbcAndActualAddBatchCallTimesMap.put(each, actualCallAddBatchTimes);
+        }
+        actualAddBatchCallTimesAndRowsCountMap.put(actualCallAddBatchTimes++, jdbcAddBatchTimesList.size());
+    }
+    
+    /**
+     * Get update count of one row.
+     * 
+     * <p>Update count of coalesced rows is 1 for each row if all rows are updated, otherwise unknown.</p>
+     * 
+     * @param actualAddBatchTimes times of actual call addBatch
+     * @param actualUpdateCount update count of actual call addBatch
+     * @return update count of row
+     */
+    public int getRowUpdateCount(final int actualAddBatchTimes, final int actualUpdateCount) {
+        Integer rowsCount = actualAddBatchCallTimesAndRowsCountMap.get(actualAddBatchTimes);
+        if (null == rowsCount || 1 == rowsCount) {
+            return actualUpdateCount;
+        }
+        return rowsCount == actualUpdateCount ? 1 : Statement.SUCCESS_NO_INFO;
+    }
 }
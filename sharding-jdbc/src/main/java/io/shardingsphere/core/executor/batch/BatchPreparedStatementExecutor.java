@@ -26,6 +26,7 @@ import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorException
 import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -70,8 +71,8 @@ public abstract class BatchPreparedStatementExecutor {
         int count = 0;
         for (BatchPreparedStatementExecuteUnit each : getBatchPreparedStatementUnitGroups()) {
             for (Entry<Integer, Integer> entry : each.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
-                int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                if (DatabaseType.Oracle == dbType) {
+                int value = null == results.get(count) ? 0 : each.getRowUpdateCount(entry.getValue(), results.get(count)[entry.getValue()]);
+                if (DatabaseType.Oracle == dbType || Statement.SUCCESS_NO_INFO == value) {
                     result[entry.getKey()] = value;
                 } else {
                     result[entry.getKey()] += value;
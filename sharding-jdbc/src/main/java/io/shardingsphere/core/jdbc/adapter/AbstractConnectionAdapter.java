@@ -73,19 +73,13 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
      * @throws SQLException SQL exception
      */
     public final Connection getConnection(final String dataSourceName) throws SQLException {
+        if (!ShardingEventBusInstance.getInstance().isSubscribed(GetConnectionEvent.class)) {
+            return getCachedConnection(dataSourceName);
+        }
         GetConnectionEvent event = new GetConnectionEvent(dataSourceName);
         ShardingEventBusInstance.getInstance().post(event);
         try {
-            if (cachedConnections.containsKey(dataSourceName)) {
-                event.setUrl(cachedConnections.get(dataSourceName).getMetaData().getURL());
-                event.setExecuteSuccess();
-                return cachedConnections.get(dataSourceName);
-            }
-            DataSource dataSource = getDataSourceMap().get(dataSourceName);
-            Preconditions.checkState(null != dataSource, "Missing the data source name: '%s'", dataSourceName);
-            Connection result = dataSource.getConnection();
-            cachedConnections.put(dataSourceName, result);
-            replayMethodsInvocation(result);
+            Connection result = getCachedConnection(dataSourceName);
             event.setUrl(result.getMetaData().getURL());
             event.setExecuteSuccess();
             return result;
@@ -99,12 +93,31 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         }
     }
     
+    private Connection getCachedConnection(final String dataSourceName) throws SQLException {
+        Connection result = cachedConnections.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        DataSource dataSource = getDataSourceMap().get(dataSourceName);
+        Preconditions.checkState(null != dataSource, "Missing the data source name: '%s'", dataSourceName);
+        result = dataSource.getConnection();
+        cachedConnections.put(dataSourceName, result);
+        replayMethodsInvocation(result);
+        return result;
+    }
+    
     protected abstract Map<String, DataSource> getDataSourceMap();
     
     protected final void removeCache(final Connection connection) {
         cachedConnections.values().remove(connection);
     }
     
+    /**
+     * Close statements cached by connection before closing database connections.
+     */
+    protected void closeCachedStatements() {
+    }
+    
     @Override
     public final boolean getAutoCommit() {
         return autoCommit;
@@ -163,30 +176,38 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         HintManagerHolder.clear();
         MasterVisitedManager.clear();
         TransactionTypeHolder.clear();
+        closeCachedStatements();
         forceExecuteTemplateForClose.execute(cachedConnections.entrySet(), new ForceExecuteCallback<Map.Entry<String, Connection>>() {
             
             @Override
             public void execute(final Map.Entry<String, Connection> cachedConnectionsEntrySet) throws SQLException {
                 Connection connection = cachedConnectionsEntrySet.getValue();
-                if (!connection.isClosed()) {
-                    ConnectionCloseEvent event = new ConnectionCloseEvent(cachedConnectionsEntrySet.getKey(), connection.getMetaData().getURL());
+                if (connection.isClosed()) {
+                    return;
+                }
+                if (!ShardingEventBusInstance.getInstance().isSubscribed(ConnectionCloseEvent.class)) {
+                    connection.close();
+                    return;
+                }
+                ConnectionCloseEvent event = new ConnectionCloseEvent(cachedConnectionsEntrySet.getKey(), connection.getMetaData().getURL());
+                ShardingEventBusInstance.getInstance().post(event);
+                try {
+                    connection.close();
+                    event.setExecuteSuccess();
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    event.setExecuteFailure(ex);
+                    throw ex;
+                } finally {
                     ShardingEventBusInstance.getInstance().post(event);
-                    try {
-                        connection.close();
-                        event.setExecuteSuccess();
-                        // CHECKSTYLE:OFF
-                    } catch (final Exception ex) {
-                        // CHECKSTYLE:ON
-                        event.setExecuteFailure(ex);
-                        throw ex;
-                    } finally {
-                        ShardingEventBusInstance.getInstance().post(event);
-                    }
                 }
             }
         });
-        overallExecutionEventThreadLocal.setExecuteSuccess();
-        ShardingEventBusInstance.getInstance().post(overallExecutionEventThreadLocal);
+        if (ShardingEventBusInstance.getInstance().isSubscribed(OverallExecutionEvent.class)) {
+            overallExecutionEventThreadLocal.setExecuteSuccess();
+            ShardingEventBusInstance.getInstance().post(overallExecutionEventThreadLocal);
+        }
     }
     
     @Override
@@ -48,6 +48,8 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     private boolean closed;
     
+    private boolean released;
+    
     private final ForceExecuteTemplate<ResultSet> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
     public AbstractResultSetAdapter(final List<ResultSet> resultSets, final Statement statement) {
@@ -67,9 +69,34 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     }
     
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
+        closeResultSets(getOpenResultSets());
+    }
+    
+    /**
+     * Release underlying result sets, they can be closed before this result set if rows left in them are not needed any more.
+     * 
+     * <p>
+     * The first result set is kept open until this result set is closed, meta data and properties of this result set are delegated to it.
+     * </p>
+     * 
+     * @throws SQLException SQL exception
+     */
+    protected final void releaseResultSets() throws SQLException {
+        if (released) {
+            return;
+        }
+        released = true;
+        closeResultSets(resultSets.subList(1, resultSets.size()));
+    }
+    
+    private List<ResultSet> getOpenResultSets() {
+        return released ? resultSets.subList(0, 1) : resultSets;
+    }
+    
+    private void closeResultSets(final List<ResultSet> targets) throws SQLException {
+        forceExecuteTemplate.execute(targets, new ForceExecuteCallback<ResultSet>() {
             
             @Override
             public void execute(final ResultSet resultSet) throws SQLException {
@@ -85,7 +112,7 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     @Override
     public final void setFetchDirection(final int direction) throws SQLException {
-        forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
+        forceExecuteTemplate.execute(getOpenResultSets(), new ForceExecuteCallback<ResultSet>() {
             
             @Override
             public void execute(final ResultSet resultSet) throws SQLException {
@@ -101,7 +128,7 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     @Override
     public final void setFetchSize(final int rows) throws SQLException {
-        forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
+        forceExecuteTemplate.execute(getOpenResultSets(), new ForceExecuteCallback<ResultSet>() {
             
             @Override
             public void execute(final ResultSet resultSet) throws SQLException {
@@ -132,7 +159,7 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     @Override
     public final void clearWarnings() throws SQLException {
-        forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
+        forceExecuteTemplate.execute(getOpenResultSets(), new ForceExecuteCallback<ResultSet>() {
             
             @Override
             public void execute(final ResultSet resultSet) throws SQLException {
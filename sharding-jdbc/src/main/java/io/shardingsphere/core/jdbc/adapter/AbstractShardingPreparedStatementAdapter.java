@@ -17,10 +17,9 @@
 
 package io.shardingsphere.core.jdbc.adapter;
 
-import io.shardingsphere.core.exception.ShardingException;
-import io.shardingsphere.core.jdbc.adapter.invocation.SetParameterMethodInvocation;
+import io.shardingsphere.core.jdbc.adapter.parameter.ParameterType;
+import io.shardingsphere.core.jdbc.adapter.parameter.TypedParameterBuffer;
 import io.shardingsphere.core.jdbc.unsupported.AbstractUnsupportedOperationPreparedStatement;
-import lombok.Getter;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -30,12 +29,11 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -46,242 +44,218 @@ import java.util.List;
  */
 public abstract class AbstractShardingPreparedStatementAdapter extends AbstractUnsupportedOperationPreparedStatement {
     
-    private final List<SetParameterMethodInvocation> setParameterMethodInvocations = new LinkedList<>();
-    
-    @Getter
-    private final List<Object> parameters = new ArrayList<>();
+    private final TypedParameterBuffer parameterBuffer = new TypedParameterBuffer();
     
     @Override
     public final void setNull(final int parameterIndex, final int sqlType) {
-        setParameter(parameterIndex, null);
+        parameterBuffer.set(parameterIndex, null, ParameterType.NULL, sqlType);
     }
     
     @Override
     public final void setNull(final int parameterIndex, final int sqlType, final String typeName) {
-        setParameter(parameterIndex, null);
+        parameterBuffer.set(parameterIndex, null, ParameterType.NULL, sqlType, typeName);
     }
     
     @Override
     public final void setBoolean(final int parameterIndex, final boolean x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BOOLEAN);
     }
     
     @Override
     public final void setByte(final int parameterIndex, final byte x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BYTE);
     }
     
     @Override
     public final void setShort(final int parameterIndex, final short x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.SHORT);
     }
     
     @Override
     public final void setInt(final int parameterIndex, final int x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.INT);
     }
     
     @Override
     public final void setLong(final int parameterIndex, final long x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.LONG);
     }
     
     @Override
     public final void setFloat(final int parameterIndex, final float x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.FLOAT);
     }
     
     @Override
     public final void setDouble(final int parameterIndex, final double x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.DOUBLE);
     }
     
     @Override
     public final void setString(final int parameterIndex, final String x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.STRING);
     }
     
     @Override
     public final void setBigDecimal(final int parameterIndex, final BigDecimal x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BIG_DECIMAL);
     }
     
     @Override
     public final void setDate(final int parameterIndex, final Date x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.DATE);
     }
     
     @Override
     public final void setDate(final int parameterIndex, final Date x, final Calendar cal) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.DATE, cal);
     }
     
     @Override
     public final void setTime(final int parameterIndex, final Time x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.TIME);
     }
     
     @Override
     public final void setTime(final int parameterIndex, final Time x, final Calendar cal) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.TIME, cal);
     }
     
     @Override
     public final void setTimestamp(final int parameterIndex, final Timestamp x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.TIMESTAMP);
     }
     
     @Override
     public final void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.TIMESTAMP, cal);
     }
     
     @Override
     public final void setBytes(final int parameterIndex, final byte[] x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BYTES);
     }
     
     @Override
     public final void setBlob(final int parameterIndex, final Blob x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BLOB);
     }
     
     @Override
     public final void setBlob(final int parameterIndex, final InputStream x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BLOB);
     }
     
     @Override
     public final void setBlob(final int parameterIndex, final InputStream x, final long length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BLOB, length);
     }
     
     @Override
     public final void setClob(final int parameterIndex, final Clob x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.CLOB);
     }
     
     @Override
     public final void setClob(final int parameterIndex, final Reader x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.CLOB);
     }
     
     @Override
     public final void setClob(final int parameterIndex, final Reader x, final long length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.CLOB, length);
     }
     
     @Override
     public final void setAsciiStream(final int parameterIndex, final InputStream x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.ASCII_STREAM);
     }
     
     @Override
     public final void setAsciiStream(final int parameterIndex, final InputStream x, final int length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.ASCII_STREAM, length);
     }
     
     @Override
     public final void setAsciiStream(final int parameterIndex, final InputStream x, final long length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.ASCII_STREAM, length);
     }
     
     @Override
     public final void setUnicodeStream(final int parameterIndex, final InputStream x, final int length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.UNICODE_STREAM, length);
     }
     
     @Override
     public final void setBinaryStream(final int parameterIndex, final InputStream x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BINARY_STREAM);
     }
     
     @Override
     public final void setBinaryStream(final int parameterIndex, final InputStream x, final int length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BINARY_STREAM, length);
     }
     
     @Override
     public final void setBinaryStream(final int parameterIndex, final InputStream x, final long length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.BINARY_STREAM, length);
     }
     
     @Override
     public final void setCharacterStream(final int parameterIndex, final Reader x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.CHARACTER_STREAM);
     }
     
     @Override
     public final void setCharacterStream(final int parameterIndex, final Reader x, final int length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.CHARACTER_STREAM, length);
     }
     
     @Override
     public final void setCharacterStream(final int parameterIndex, final Reader x, final long length) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.CHARACTER_STREAM, length);
     }
     
     @Override
     public final void setURL(final int parameterIndex, final URL x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.URL);
     }
     
     @Override
     public final void setSQLXML(final int parameterIndex, final SQLXML x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.SQL_XML);
     }
     
     @Override
     public final void setObject(final int parameterIndex, final Object x) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.OBJECT);
     }
     
     @Override
     public final void setObject(final int parameterIndex, final Object x, final int targetSqlType) {
-        setParameter(parameterIndex, x);
+        parameterBuffer.set(parameterIndex, x, ParameterType.OBJECT, targetSqlType);
     }
     
     @Override
     public final void setObject(final int parameterIndex, final Object x, final int targetSqlType, final int scaleOrLength) {
-        setParameter(parameterIndex, x);
-    }
-    
-    private void setParameter(final int parameterIndex, final Object value) {
-        if (parameters.size() == parameterIndex - 1) {
-            parameters.add(value);
-            return;
-        }
-        for (int i = parameters.size(); i <= parameterIndex - 1; i++) {
-            parameters.add(null);
-        }
-        parameters.set(parameterIndex - 1, value);
-    }
-    
-    private void recordSetParameter(final String methodName, final Class[] argumentTypes, final Object... arguments) {
-        try {
-            setParameterMethodInvocations.add(new SetParameterMethodInvocation(PreparedStatement.class.getMethod(methodName, argumentTypes), arguments, arguments[1]));
-        } catch (final NoSuchMethodException ex) {
-            throw new ShardingException(ex);
-        }
+        parameterBuffer.set(parameterIndex, x, ParameterType.OBJECT, targetSqlType, scaleOrLength);
     }
     
-    protected final void replaySetParameter(final PreparedStatement preparedStatement, final List<Object> parameters) {
-        setParameterMethodInvocations.clear();
-        addParameters(parameters);
-        for (SetParameterMethodInvocation each : setParameterMethodInvocations) {
-            each.invoke(preparedStatement);
-        }
+    /**
+     * Get parameters.
+     *
+     * @return parameters
+     */
+    public final List<Object> getParameters() {
+        return parameterBuffer.getValues();
     }
     
-    private void addParameters(final List<Object> parameters) {
-        for (int i = 0; i < parameters.size(); i++) {
-            recordSetParameter("setObject", new Class[]{int.class, Object.class}, i + 1, parameters.get(i));
-        }
+    protected final void replaySetParameter(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
+        parameterBuffer.bind(preparedStatement, parameters);
     }
     
     @Override
     public final void clearParameters() {
-        parameters.clear();
-        setParameterMethodInvocations.clear();
+        parameterBuffer.clear();
     }
 }
@@ -46,23 +46,32 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     private final ForceExecuteTemplate<Statement> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
-    @SuppressWarnings("unchecked")
     @Override
     public final void close() throws SQLException {
         closed = true;
         try {
-            forceExecuteTemplate.execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
-        
-                @Override
-                public void execute(final Statement statement) throws SQLException {
-                    statement.close();
-                }
-            });
+            closeRoutedStatements();
         } finally {
             getRoutedStatements().clear();
         }
     }
     
+    /**
+     * Close routed statements.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    protected void closeRoutedStatements() throws SQLException {
+        forceExecuteTemplate.execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
+            
+            @Override
+            public void execute(final Statement statement) throws SQLException {
+                statement.close();
+            }
+        });
+    }
+    
     @Override
     public final boolean isClosed() {
         return closed;
@@ -64,6 +64,15 @@ public abstract class WrapperAdapter implements Wrapper {
         }
     }
     
+    /**
+     * Judge is any method invocation recorded or not.
+     * 
+     * @return is any method invocation recorded or not
+     */
+    protected final boolean isMethodsInvocationRecorded() {
+        return !jdbcMethodInvocations.isEmpty();
+    }
+    
     /**
      * Replay methods invocation.
      * 
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.jdbc.adapter.parameter;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * Type of parameter set to {@code PreparedStatement}.
+ *
+ * <p>
+ * Each type binds parameter by the typed setter of {@code PreparedStatement} directly.
+ * Options are the extra arguments of setter, such as SQL type of null, calendar of date time and length of stream.
+ * </p>
+ */
+public enum ParameterType {
+    
+    NULL {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (1 == options.length) {
+                preparedStatement.setNull(parameterIndex, (Integer) options[0]);
+            } else {
+                preparedStatement.setNull(parameterIndex, (Integer) options[0], (String) options[1]);
+            }
+        }
+    },
+    
+    BOOLEAN {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setBoolean(parameterIndex, (Boolean) value);
+        }
+    },
+    
+    BYTE {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setByte(parameterIndex, (Byte) value);
+        }
+    },
+    
+    SHORT {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setShort(parameterIndex, (Short) value);
+        }
+    },
+    
+    INT {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setInt(parameterIndex, (Integer) value);
+        }
+    },
+    
+    LONG {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setLong(parameterIndex, (Long) value);
+        }
+    },
+    
+    FLOAT {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setFloat(parameterIndex, (Float) value);
+        }
+    },
+    
+    DOUBLE {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setDouble(parameterIndex, (Double) value);
+        }
+    },
+    
+    STRING {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setString(parameterIndex, (String) value);
+        }
+    },
+    
+    BIG_DECIMAL {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setBigDecimal(parameterIndex, (BigDecimal) value);
+        }
+    },
+    
+    DATE {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (0 == options.length) {
+                preparedStatement.setDate(parameterIndex, (Date) value);
+            } else {
+                preparedStatement.setDate(parameterIndex, (Date) value, (Calendar) options[0]);
+            }
+        }
+    },
+    
+    TIME {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (0 == options.length) {
+                preparedStatement.setTime(parameterIndex, (Time) value);
+            } else {
+                preparedStatement.setTime(parameterIndex, (Time) value, (Calendar) options[0]);
+            }
+        }
+    },
+    
+    TIMESTAMP {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (0 == options.length) {
+                preparedStatement.setTimestamp(parameterIndex, (Timestamp) value);
+            } else {
+                preparedStatement.setTimestamp(parameterIndex, (Timestamp) value, (Calendar) options[0]);
+            }
+        }
+    },
+    
+    BYTES {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setBytes(parameterIndex, (byte[]) value);
+        }
+    },
+    
+    BLOB {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (value instanceof Blob) {
+                preparedStatement.setBlob(parameterIndex, (Blob) value);
+            } else if (0 == options.length) {
+                preparedStatement.setBlob(parameterIndex, (InputStream) value);
+            } else {
+                preparedStatement.setBlob(parameterIndex, (InputStream) value, (Long) options[0]);
+            }
+        }
+    },
+    
+    CLOB {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (value instanceof Clob) {
+                preparedStatement.setClob(parameterIndex, (Clob) value);
+            } else if (0 == options.length) {
+                preparedStatement.setClob(parameterIndex, (Reader) value);
+            } else {
+                preparedStatement.setClob(parameterIndex, (Reader) value, (Long) options[0]);
+            }
+        }
+    },
+    
+    ASCII_STREAM {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (0 == options.length) {
+                preparedStatement.setAsciiStream(parameterIndex, (InputStream) value);
+            } else if (options[0] instanceof Integer) {
+                preparedStatement.setAsciiStream(parameterIndex, (InputStream) value, (Integer) options[0]);
+            } else {
+                preparedStatement.setAsciiStream(parameterIndex, (InputStream) value, (Long) options[0]);
+            }
+        }
+    },
+    
+    UNICODE_STREAM {
+        
+        @Override
+        @SuppressWarnings("deprecation")
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setUnicodeStream(parameterIndex, (InputStream) value, (Integer) options[0]);
+        }
+    },
+    
+    BINARY_STREAM {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (0 == options.length) {
+                preparedStatement.setBinaryStream(parameterIndex, (InputStream) value);
+            } else if (options[0] instanceof Integer) {
+                preparedStatement.setBinaryStream(parameterIndex, (InputStream) value, (Integer) options[0]);
+            } else {
+                preparedStatement.setBinaryStream(parameterIndex, (InputStream) value, (Long) options[0]);
+            }
+        }
+    },
+    
+    CHARACTER_STREAM {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (0 == options.length) {
+                preparedStatement.setCharacterStream(parameterIndex, (Reader) value);
+            } else if (options[0] instanceof Integer) {
+                preparedStatement.setCharacterStream(parameterIndex, (Reader) value, (Integer) options[0]);
+            } else {
+                preparedStatement.setCharacterStream(parameterIndex, (Reader) value, (Long) options[0]);
+            }
+        }
+    },
+    
+    URL {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setURL(parameterIndex, (java.net.URL) value);
+        }
+    },
+    
+    SQL_XML {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            preparedStatement.setSQLXML(parameterIndex, (SQLXML) value);
+        }
+    },
+    
+    OBJECT {
+        
+        @Override
+        public void bind(final PreparedStatement preparedStatement, final int parameterIndex, final Object value, final Object[] options) throws SQLException {
+            if (0 == options.length) {
+                preparedStatement.setObject(parameterIndex, value);
+            } else if (1 == options.length) {
+                preparedStatement.setObject(parameterIndex, value, (Integer) options[0]);
+            } else {
+                preparedStatement.setObject(parameterIndex, value, (Integer) options[0], (Integer) options[1]);
+            }
+        }
+    };
+    
+    /**
+     * Bind parameter to prepared statement.
+     *
+     * @param preparedStatement prepared statement
+     * @param parameterIndex parameter index, start from 1
+     * @param value parameter value
+     * @param options extra arguments of setter
+     * @throws SQLException SQL exception
+     */
+    public abstract void bind(PreparedStatement preparedStatement, int parameterIndex, Object value, Object[] options) throws SQLException;
+    
+    /**
+     * Get parameter type via value.
+     *
+     * <p>
+     * Used for parameters which are rewritten or generated by routing, {@code null} is bound by {@code setObject}.
+     * </p>
+     *
+     * @param value parameter value
+     * @return parameter type
+     */
+    public static ParameterType valueFrom(final Object value) {
+        if (value instanceof String) {
+            return STRING;
+        }
+        if (value instanceof Integer) {
+            return INT;
+        }
+        if (value instanceof Long) {
+            return LONG;
+        }
+        if (value instanceof BigDecimal) {
+            return BIG_DECIMAL;
+        }
+        if (value instanceof Timestamp) {
+            return TIMESTAMP;
+        }
+        if (value instanceof Date) {
+            return DATE;
+        }
+        if (value instanceof Time) {
+            return TIME;
+        }
+        if (value instanceof Boolean) {
+            return BOOLEAN;
+        }
+        if (value instanceof Short) {
+            return SHORT;
+        }
+        if (value instanceof Byte) {
+            return BYTE;
+        }
+        if (value instanceof Double) {
+            return DOUBLE;
+        }
+        if (value instanceof Float) {
+            return FLOAT;
+        }
+        if (value instanceof byte[]) {
+            return BYTES;
+        }
+        return OBJECT;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.jdbc.adapter.parameter;
+
+import lombok.Getter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffer of parameters set to {@code PreparedStatement} with their types.
+ *
+ * <p>
+ * Logic parameters are bound to routed {@code PreparedStatement} by typed setters without reflection.
+ * Routed parameter which is not the logic parameter of same index, such as rewritten pagination or generated key, is bound by the type of its value.
+ * </p>
+ */
+public final class TypedParameterBuffer {
+    
+    private static final Object[] NO_OPTIONS = new Object[0];
+    
+    @Getter
+    private final List<Object> values = new ArrayList<>();
+    
+    private final List<ParameterType> types = new ArrayList<>();
+    
+    private final List<Object[]> options = new ArrayList<>();
+    
+    /**
+     * Set parameter.
+     *
+     * @param parameterIndex parameter index, start from 1
+     * @param value parameter value
+     * @param type parameter type
+     */
+    public void set(final int parameterIndex, final Object value, final ParameterType type) {
+        set(parameterIndex, value, type, NO_OPTIONS);
+    }
+    
+    /**
+     * Set parameter with extra arguments of setter.
+     *
+     * @param parameterIndex parameter index, start from 1
+     * @param value parameter value
+     * @param type parameter type
+     * @param options extra arguments of setter
+     */
+    public void set(final int parameterIndex, final Object value, final ParameterType type, final Object... options) {
+        if (values.size() == parameterIndex - 1) {
+            values.add(value);
+            types.add(type);
+            this.options.add(options);
+            return;
+        }
+        for (int i = values.size(); i <= parameterIndex - 1; i++) {
+            values.add(null);
+            types.add(ParameterType.OBJECT);
+            this.options.add(NO_OPTIONS);
+        }
+        values.set(parameterIndex - 1, value);
+        types.set(parameterIndex - 1, type);
+        this.options.set(parameterIndex - 1, options);
+    }
+    
+    /**
+     * Bind routed parameters to prepared statement.
+     *
+     * @param preparedStatement routed prepared statement
+     * @param parameters routed parameters
+     * @throws SQLException SQL exception
+     */
+    public void bind(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
+        int index = 0;
+        for (Object each : parameters) {
+            if (index < values.size() && each == values.get(index)) {
+                types.get(index).bind(preparedStatement, index + 1, each, options.get(index));
+            } else {
+                ParameterType.valueFrom(each).bind(preparedStatement, index + 1, each, NO_OPTIONS);
+            }
+            index++;
+        }
+    }
+    
+    /**
+     * Clear parameters.
+     */
+    public void clear() {
+        values.clear();
+        types.clear();
+        options.clear();
+    }
+}
@@ -23,6 +23,8 @@ import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
 
@@ -56,19 +58,27 @@ public final class ShardingContext implements AutoCloseable {
     
     private boolean showSQL;
     
-    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, 
-                           final ShardingExecuteEngine executeEngine, final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery, final boolean showSQL) {
-        init(dataSourceMap, shardingRule, databaseType, executeEngine, connectionMode, maxConnectionsSizePerQuery, showSQL);
+    private ParsingResultCache parsingResultCache;
+    
+    private RouteResultCache routeResultCache;
+    
+    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final ShardingExecuteEngine executeEngine,
+                           final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery, final boolean showSQL, final ParsingResultCache parsingResultCache,
+                           final RouteResultCache routeResultCache) {
+        init(dataSourceMap, shardingRule, databaseType, executeEngine, connectionMode, maxConnectionsSizePerQuery, showSQL, parsingResultCache, routeResultCache);
     }
     
-    private void init(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, 
-                      final ShardingExecuteEngine executeEngine, final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery, final boolean showSQL) {
+    private void init(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final ShardingExecuteEngine executeEngine,
+                      final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery, final boolean showSQL, final ParsingResultCache parsingResultCache,
+                      final RouteResultCache routeResultCache) {
         this.shardingRule = shardingRule;
         this.executeEngine = executeEngine;
         this.databaseType = databaseType;
         this.connectionMode = connectionMode;
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
         this.showSQL = showSQL;
+        this.parsingResultCache = parsingResultCache;
+        this.routeResultCache = routeResultCache;
         metaData = new ShardingMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType, executeEngine, new JDBCTableMetaDataConnectionManager(dataSourceMap), maxConnectionsSizePerQuery);
     }
     
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.jdbc.core.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of routed prepared statements for sharding connection.
+ *
+ * <p>
+ * Routed prepared statements are keyed by database connection, actual SQL and options of statement.
+ * Each cached prepared statement is used by one sharding prepared statement until it is released,
+ * least recently released prepared statement is closed if idle prepared statements exceed max size.
+ * </p>
+ */
+public final class RoutedPreparedStatementCache {
+    
+    private final int maxSize;
+    
+    private final Map<PreparedStatementKey, PreparedStatement> idlePreparedStatements;
+    
+    private final Map<PreparedStatement, PreparedStatementKey> usedPreparedStatements = new IdentityHashMap<>();
+    
+    public RoutedPreparedStatementCache(final int maxSize) {
+        this.maxSize = maxSize;
+        idlePreparedStatements = new LinkedHashMap<PreparedStatementKey, PreparedStatement>(16, 0.75f, true) {
+            
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<PreparedStatementKey, PreparedStatement> eldest) {
+                if (size() <= RoutedPreparedStatementCache.this.maxSize) {
+                    return false;
+                }
+                close(eldest.getValue());
+                return true;
+            }
+        };
+    }
+    
+    /**
+     * Judge is routed prepared statements reused or not.
+     *
+     * @return is routed prepared statements reused or not
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+    
+    /**
+     * Get cached prepared statement or prepare a new one.
+     *
+     * @param connection database connection
+     * @param sql actual SQL
+     * @param resultSetType result set type
+     * @param resultSetConcurrency result set concurrency
+     * @param resultSetHoldability result set holdability
+     * @param returnGeneratedKeys is return generated keys or not
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement getPreparedStatement(final Connection connection, final String sql, 
+                                                  final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys) throws SQLException {
+        PreparedStatementKey key = new PreparedStatementKey(connection, sql, resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys);
+        PreparedStatement result = idlePreparedStatements.remove(key);
+        if (null == result || result.isClosed()) {
+            result = returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+        usedPreparedStatements.put(result, key);
+        return result;
+    }
+    
+    /**
+     * Release prepared statements.
+     *
+     * <p>
+     * Released prepared statements are kept for reuse if reusable, otherwise closed.
+     * </p>
+     *
+     * @param preparedStatements prepared statements to be released
+     * @param reusable is prepared statements reusable or not
+     */
+    public void release(final Collection<PreparedStatement> preparedStatements, final boolean reusable) {
+        for (PreparedStatement each : preparedStatements) {
+            PreparedStatementKey key = usedPreparedStatements.remove(each);
+            if (null != key && reusable && !idlePreparedStatements.containsKey(key) && reset(each)) {
+                idlePreparedStatements.put(key, each);
+            } else {
+                close(each);
+            }
+        }
+    }
+    
+    private boolean reset(final PreparedStatement preparedStatement) {
+        try {
+            if (preparedStatement.isClosed()) {
+                return false;
+            }
+            ResultSet resultSet = preparedStatement.getResultSet();
+            if (null != resultSet) {
+                resultSet.close();
+            }
+            preparedStatement.clearParameters();
+            return true;
+        } catch (final SQLException ignore) {
+            return false;
+        }
+    }
+    
+    /**
+     * Evict prepared statements of database connection.
+     *
+     * @param connection database connection
+     */
+    public void evict(final Connection connection) {
+        Iterator<PreparedStatementKey> idleKeys = idlePreparedStatements.keySet().iterator();
+        while (idleKeys.hasNext()) {
+            if (idleKeys.next().connection == connection) {
+                idleKeys.remove();
+            }
+        }
+        Iterator<PreparedStatementKey> usedKeys = usedPreparedStatements.values().iterator();
+        while (usedKeys.hasNext()) {
+            if (usedKeys.next().connection == connection) {
+                usedKeys.remove();
+            }
+        }
+    }
+    
+    /**
+     * Close idle prepared statements and clear cache.
+     */
+    public void clear() {
+        for (PreparedStatement each : idlePreparedStatements.values()) {
+            close(each);
+        }
+        idlePreparedStatements.clear();
+        usedPreparedStatements.clear();
+    }
+    
+    private void close(final PreparedStatement preparedStatement) {
+        try {
+            preparedStatement.close();
+        } catch (final SQLException ignore) {
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class PreparedStatementKey {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final int resultSetType;
+        
+        private final int resultSetConcurrency;
+        
+        private final int resultSetHoldability;
+        
+        private final boolean returnGeneratedKeys;
+    }
+}
@@ -17,7 +17,9 @@
 
 package io.shardingsphere.core.jdbc.core.connection;
 
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.event.ShardingEventBusInstance;
+import io.shardingsphere.core.event.executor.overall.OverallExecutionEvent;
 import io.shardingsphere.core.jdbc.adapter.AbstractConnectionAdapter;
 import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
 import io.shardingsphere.core.jdbc.core.statement.ShardingPreparedStatement;
@@ -46,9 +48,26 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     @Getter
     private final ShardingDataSource shardingDataSource;
     
+    private RoutedPreparedStatementCache routedPreparedStatementCache;
+    
     public ShardingConnection(final ShardingDataSource shardingDataSource) {
         this.shardingDataSource = shardingDataSource;
-        ShardingEventBusInstance.getInstance().post(getOverallExecutionEventThreadLocal());
+        if (ShardingEventBusInstance.getInstance().isSubscribed(OverallExecutionEvent.class)) {
+            ShardingEventBusInstance.getInstance().post(getOverallExecutionEventThreadLocal());
+        }
+    }
+    
+    /**
+     * Get cache of routed prepared statements.
+     *
+     * @return cache of routed prepared statements
+     */
+    public RoutedPreparedStatementCache getRoutedPreparedStatementCache() {
+        if (null == routedPreparedStatementCache) {
+            routedPreparedStatementCache = new RoutedPreparedStatementCache(
+                    shardingDataSource.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PREPARED_STATEMENT_CACHE_MAX_SIZE));
+        }
+        return routedPreparedStatementCache;
     }
     
     /**
@@ -58,6 +77,9 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
      */
     public void release(final Connection connection) {
         removeCache(connection);
+        if (null != routedPreparedStatementCache) {
+            routedPreparedStatementCache.evict(connection);
+        }
         try {
             connection.close();
         } catch (final SQLException ignore) {
@@ -69,6 +91,13 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         return shardingDataSource.getDataSourceMap();
     }
     
+    @Override
+    protected void closeCachedStatements() {
+        if (null != routedPreparedStatementCache) {
+            routedPreparedStatementCache.clear();
+        }
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() throws SQLException {
         Collection<MasterSlaveRule> masterSlaveRules = shardingDataSource.getShardingContext().getShardingRule().getMasterSlaveRules();
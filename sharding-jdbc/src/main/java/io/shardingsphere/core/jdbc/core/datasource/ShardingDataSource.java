@@ -27,6 +27,8 @@ import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingsphere.core.jdbc.core.ShardingContext;
 import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
 
@@ -83,10 +85,15 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     private ShardingContext getShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule) {
         boolean showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(executorSize);
+        int executorQueueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE);
+        boolean executorWorkStealing = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_WORK_STEALING);
+        boolean executorVirtualThread = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_VIRTUAL_THREAD);
+        ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(executorSize, executorQueueSize, executorWorkStealing, executorVirtualThread);
         ConnectionMode connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
         int maxConnectionsSizePerQuery = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executeEngine, connectionMode, maxConnectionsSizePerQuery, showSQL);
+        ParsingResultCache parsingResultCache = new ParsingResultCache(shardingProperties);
+        RouteResultCache routeResultCache = new RouteResultCache(shardingProperties);
+        return new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executeEngine, connectionMode, maxConnectionsSizePerQuery, showSQL, parsingResultCache, routeResultCache);
     }
     
     @Override
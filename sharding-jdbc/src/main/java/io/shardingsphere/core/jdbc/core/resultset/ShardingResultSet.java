@@ -18,7 +18,9 @@
 package io.shardingsphere.core.jdbc.core.resultset;
 
 import io.shardingsphere.core.jdbc.adapter.AbstractResultSetAdapter;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.dql.pagination.PaginationMergedResult;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -52,7 +54,27 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     
     @Override
     public boolean next() throws SQLException {
-        return mergeResultSet.next();
+        boolean result = mergeResultSet.next();
+        if (!result && mergeResultSet instanceof PaginationMergedResult && ((PaginationMergedResult) mergeResultSet).isRowCountReached()) {
+            closeMergedResult();
+            releaseResultSets();
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            closeMergedResult();
+        } finally {
+            super.close();
+        }
+    }
+    
+    private void closeMergedResult() throws SQLException {
+        if (mergeResultSet instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergeResultSet).close();
+        }
     }
     
     @Override
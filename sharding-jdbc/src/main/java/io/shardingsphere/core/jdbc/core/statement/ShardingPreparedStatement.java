@@ -23,8 +23,12 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.batch.BatchInsertCoalescer;
 import io.shardingsphere.core.executor.batch.BatchPreparedStatementExecuteUnit;
+import io.shardingsphere.core.executor.batch.CoalescedBatchInsertUnit;
 import io.shardingsphere.core.executor.batch.ConnectionStrictlyBatchPreparedStatementExecutor;
 import io.shardingsphere.core.executor.batch.MemoryStrictlyBatchPreparedStatementExecutor;
 import io.shardingsphere.core.executor.prepared.ConnectionStrictlyPreparedStatementExecutor;
@@ -35,10 +39,12 @@ import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
 import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
+import io.shardingsphere.core.executor.sql.prepare.ConnectionModeSelector;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
 import io.shardingsphere.core.jdbc.adapter.AbstractShardingPreparedStatementAdapter;
 import io.shardingsphere.core.jdbc.core.ShardingContext;
+import io.shardingsphere.core.jdbc.core.connection.RoutedPreparedStatementCache;
 import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
 import io.shardingsphere.core.jdbc.core.resultset.GeneratedKeysResultSet;
 import io.shardingsphere.core.jdbc.core.resultset.ShardingResultSet;
@@ -65,6 +71,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -98,6 +105,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final String sql;
     
+    @Getter(AccessLevel.NONE)
+    private BatchInsertCoalescer batchInsertCoalescer;
+    
     private int batchCount;
     
     @Getter(AccessLevel.NONE)
@@ -106,6 +116,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Getter(AccessLevel.NONE)
     private SQLRouteResult routeResult;
     
+    @Getter(AccessLevel.NONE)
+    private ConnectionMode connectionMode;
+    
     @Getter(AccessLevel.NONE)
     private ResultSet currentResultSet;
     
@@ -132,19 +145,20 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.sql = sql;
         ShardingContext shardingContext = connection.getShardingDataSource().getShardingContext();
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingContext.getShardingRule(),
-            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource());
+            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource(), shardingContext.getParsingResultCache(),
+            shardingContext.getRouteResultCache());
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
-        routedStatements.clear();
+        releaseRoutedStatements();
         ResultSet result;
         try {
             sqlRoute();
             List<ResultSet> resultSets = getPreparedStatementExecutor().executeQuery();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                 connection.getShardingDataSource().getShardingContext().getShardingRule(), getQueryResults(resultSets), routeResult.getSqlStatement(),
-                connection.getShardingDataSource().getShardingContext().getMetaData().getTable());
+                connection.getShardingDataSource().getShardingContext().getMetaData().getTable(), connection.getShardingDataSource().getShardingProperties());
             result = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
         } finally {
             clearBatch();
@@ -156,7 +170,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     private List<QueryResult> getQueryResults(final List<ResultSet> resultSets) throws SQLException {
         List<QueryResult> result = new ArrayList<>(resultSets.size());
         for (ResultSet each : resultSets) {
-            if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
+            if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
                 result.add(new StreamQueryResult(each));
             } else {
                 result.add(new MemoryQueryResult(each));
@@ -167,7 +181,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     @Override
     public int executeUpdate() throws SQLException {
-        routedStatements.clear();
+        releaseRoutedStatements();
         try {
             sqlRoute();
             return getPreparedStatementExecutor().executeUpdate();
@@ -179,7 +193,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     @Override
     public boolean execute() throws SQLException {
-        routedStatements.clear();
+        releaseRoutedStatements();
         try {
             sqlRoute();
             return getPreparedStatementExecutor().execute();
@@ -189,6 +203,24 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
     }
     
+    private void releaseRoutedStatements() {
+        RoutedPreparedStatementCache routedPreparedStatementCache = connection.getRoutedPreparedStatementCache();
+        if (routedPreparedStatementCache.isEnabled()) {
+            routedPreparedStatementCache.release(routedStatements, !isMethodsInvocationRecorded());
+        }
+        routedStatements.clear();
+    }
+    
+    @Override
+    protected void closeRoutedStatements() throws SQLException {
+        RoutedPreparedStatementCache routedPreparedStatementCache = connection.getRoutedPreparedStatementCache();
+        if (routedPreparedStatementCache.isEnabled()) {
+            routedPreparedStatementCache.release(routedStatements, !isMethodsInvocationRecorded());
+        } else {
+            super.closeRoutedStatements();
+        }
+    }
+    
     // TODO refresh table meta data by SQL parse result
     private void refreshTableMetaData() throws SQLException {
         if (null != routeResult && null != connection && SQLType.DDL == routeResult.getSqlStatement().getType() && !routeResult.getSqlStatement().getTables().isEmpty()) {
@@ -198,6 +230,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
                 connection.getShardingDataSource().getShardingContext().getMaxConnectionsSizePerQuery());
             connection.getShardingDataSource().getShardingContext().getMetaData().getTable().put(
                 logicTableName, tableMetaDataLoader.load(logicTableName, connection.getShardingDataSource().getShardingContext().getShardingRule()));
+            connection.getShardingDataSource().getShardingContext().getRouteResultCache().clear();
         }
     }
     
@@ -206,15 +239,23 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         currentResultSet = null;
         clearParameters();
         batchStatementUnits.clear();
+        if (null != batchInsertCoalescer) {
+            batchInsertCoalescer.clear();
+        }
         batchCount = 0;
     }
     
     @Override
     public void addBatch() throws SQLException {
         try {
-            for (BatchPreparedStatementExecuteUnit each : routeBatch()) {
-                each.getStatement().addBatch();
-                each.mapAddBatchCount(batchCount);
+            sqlRoute();
+            if (isBatchInsertCoalescible()) {
+                batchInsertCoalescer.add(routeResult.getRouteUnits(), batchCount);
+            } else {
+                for (BatchPreparedStatementExecuteUnit each : routeBatch()) {
+                    each.getStatement().addBatch();
+                    each.mapAddBatchCount(batchCount);
+                }
             }
             batchCount++;
         } finally {
@@ -223,9 +264,19 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
     }
     
+    private boolean isBatchInsertCoalescible() {
+        if (null == batchInsertCoalescer) {
+            ShardingContext shardingContext = connection.getShardingDataSource().getShardingContext();
+            ShardingProperties shardingProperties = connection.getShardingDataSource().getShardingProperties();
+            batchInsertCoalescer = new BatchInsertCoalescer(shardingContext.getDatabaseType(), routeResult.getSqlStatement(), sql, 
+                    shardingProperties.<Integer>getValue(ShardingPropertiesConstant.BATCH_INSERT_COALESCE_MAX_ROWS), 
+                    shardingProperties.<Integer>getValue(ShardingPropertiesConstant.BATCH_INSERT_COALESCE_MAX_SQL_LENGTH));
+        }
+        return batchInsertCoalescer.isCoalescible();
+    }
+    
     private List<BatchPreparedStatementExecuteUnit> routeBatch() throws SQLException {
         List<BatchPreparedStatementExecuteUnit> result = new ArrayList<>();
-        sqlRoute();
         for (RouteUnit each : routeResult.getRouteUnits()) {
             BatchPreparedStatementExecuteUnit batchStatementUnit = getBatchPreparedStatementExecuteUnit(each);
             replaySetParameter(batchStatementUnit.getStatement(), each.getSqlUnit().getParameterSets().get(0));
@@ -235,12 +286,14 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private void sqlRoute() {
-        routeResult = routingEngine.route(getParameters());
+        routeResult = routingEngine.route(new ArrayList<>(getParameters()));
+        ShardingContext shardingContext = connection.getShardingDataSource().getShardingContext();
+        connectionMode = ConnectionModeSelector.select(shardingContext.getConnectionMode(), routeResult.getRouteUnits(), shardingContext.getMaxConnectionsSizePerQuery());
     }
     
     private PreparedStatementExecutor getPreparedStatementExecutor() throws SQLException {
         SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(connection.getShardingDataSource().getShardingContext().getExecuteEngine());
-        if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
+        if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
             return new MemoryStrictlyPreparedStatementExecutor(routeResult.getSqlStatement().getType(), sqlExecuteTemplate, getExecuteUnitsForMemoryStrictly());
         }
         return new ConnectionStrictlyPreparedStatementExecutor(routeResult.getSqlStatement().getType(), sqlExecuteTemplate, getExecuteUnitsForConnectionStrictly());
@@ -260,8 +313,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return (Collection) sqlExecutePrepareTemplate.getExecuteUnitGroups(routeResult.getRouteUnits(), new SQLExecutePrepareCallback() {
             
             @Override
-            public Connection getConnection(final String dataSourceName) throws SQLException {
-                return ShardingPreparedStatement.this.connection.getConnection(dataSourceName);
+            public List<Connection> getConnections(final String dataSourceName, final int connectionSize) throws SQLException {
+                return Collections.nCopies(connectionSize, ShardingPreparedStatement.this.connection.getConnection(dataSourceName));
             }
             
             @Override
@@ -272,7 +325,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private PreparedStatementExecuteUnit getPreparedStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit) throws SQLException {
-        PreparedStatement preparedStatement = createPreparedStatement(connection, routeUnit.getSqlUnit().getSql());
+        PreparedStatement preparedStatement = getRoutedPreparedStatement(connection, routeUnit.getSqlUnit().getSql());
         routedStatements.add(preparedStatement);
         replaySetParameter(preparedStatement, routeUnit.getSqlUnit().getParameterSets().get(0));
         return new PreparedStatementExecuteUnit(routeUnit, preparedStatement);
@@ -296,6 +349,14 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return result;
     }
     
+    private PreparedStatement getRoutedPreparedStatement(final Connection connection, final String sql) throws SQLException {
+        RoutedPreparedStatementCache routedPreparedStatementCache = this.connection.getRoutedPreparedStatementCache();
+        if (routedPreparedStatementCache.isEnabled()) {
+            return routedPreparedStatementCache.getPreparedStatement(connection, sql, resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys);
+        }
+        return createPreparedStatement(connection, sql);
+    }
+    
     private PreparedStatement createPreparedStatement(final Connection connection, final String sql) throws SQLException {
         return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
     }
@@ -303,8 +364,11 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Override
     public int[] executeBatch() throws SQLException {
         try {
+            if (null != batchInsertCoalescer && batchInsertCoalescer.isCoalescible()) {
+                addCoalescedBatchInsertUnits();
+            }
             SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(connection.getShardingDataSource().getShardingContext().getExecuteEngine());
-            if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
+            if (ConnectionMode.MEMORY_STRICTLY == getBatchConnectionMode()) {
                 return new MemoryStrictlyBatchPreparedStatementExecutor(connection.getShardingDataSource().getShardingContext().getDatabaseType(),
                     routeResult.getSqlStatement().getType(), batchCount, sqlExecuteTemplate, batchStatementUnits).executeBatch();
             }
@@ -315,6 +379,30 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
     }
     
+    private void addCoalescedBatchInsertUnits() throws SQLException {
+        for (CoalescedBatchInsertUnit each : batchInsertCoalescer.coalesce()) {
+            RouteUnit routeUnit = each.getRouteUnit();
+            BatchPreparedStatementExecuteUnit batchStatementUnit = new BatchPreparedStatementExecuteUnit(
+                    routeUnit, createPreparedStatement(connection.getConnection(routeUnit.getDataSourceName()), routeUnit.getSqlUnit().getSql()));
+            for (int i = 0; i < each.getJdbcAddBatchTimesList().size(); i++) {
+                replaySetParameter(batchStatementUnit.getStatement(), routeUnit.getSqlUnit().getParameterSets().get(i));
+                batchStatementUnit.getStatement().addBatch();
+                batchStatementUnit.mapAddBatchCount(each.getJdbcAddBatchTimesList().get(i));
+            }
+            batchStatementUnits.add(batchStatementUnit);
+        }
+        clearParameters();
+    }
+    
+    private ConnectionMode getBatchConnectionMode() {
+        Collection<RouteUnit> routeUnits = new LinkedList<>();
+        for (BatchPreparedStatementExecuteUnit each : batchStatementUnits) {
+            routeUnits.add(each.getRouteUnit());
+        }
+        ShardingContext shardingContext = connection.getShardingDataSource().getShardingContext();
+        return ConnectionModeSelector.select(shardingContext.getConnectionMode(), routeUnits, shardingContext.getMaxConnectionsSizePerQuery());
+    }
+    
     private List<List<BatchPreparedStatementExecuteUnit>> partitionBatchPreparedStatementUnitGroups() {
         List<List<BatchPreparedStatementExecuteUnit>> result = new LinkedList<>();
         for (List<BatchPreparedStatementExecuteUnit> each : getBatchPreparedStatementUnitGroups().values()) {
@@ -374,7 +462,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                 connection.getShardingDataSource().getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(),
-                connection.getShardingDataSource().getShardingContext().getMetaData().getTable());
+                connection.getShardingDataSource().getShardingContext().getMetaData().getTable(), connection.getShardingDataSource().getShardingProperties());
             currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
         }
         return currentResultSet;
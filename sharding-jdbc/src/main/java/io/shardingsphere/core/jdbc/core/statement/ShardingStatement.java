@@ -25,6 +25,7 @@ import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
 import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
+import io.shardingsphere.core.executor.sql.prepare.ConnectionModeSelector;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
 import io.shardingsphere.core.executor.statement.ConnectionStrictlyStatementExecutor;
@@ -58,6 +59,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -89,6 +91,9 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     @Getter(AccessLevel.NONE)
     private SQLRouteResult routeResult;
     
+    @Getter(AccessLevel.NONE)
+    private ConnectionMode connectionMode;
+    
     @Getter(AccessLevel.NONE)
     private ResultSet currentResultSet;
     
@@ -117,7 +122,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
             List<ResultSet> resultSets = getStatementExecutor().executeQuery();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                 connection.getShardingDataSource().getShardingContext().getShardingRule(), getQueryResults(resultSets),
-                routeResult.getSqlStatement(), connection.getShardingDataSource().getShardingContext().getMetaData().getTable());
+                routeResult.getSqlStatement(), connection.getShardingDataSource().getShardingContext().getMetaData().getTable(), connection.getShardingDataSource().getShardingProperties());
             result = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
         } finally {
             currentResultSet = null;
@@ -129,7 +134,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private List<QueryResult> getQueryResults(final List<ResultSet> resultSets) throws SQLException {
         List<QueryResult> result = new ArrayList<>(resultSets.size());
         for (ResultSet each : resultSets) {
-            if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
+            if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
                 result.add(new StreamQueryResult(each));
             } else {
                 result.add(new MemoryQueryResult(each));
@@ -240,7 +245,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     private StatementExecutor getStatementExecutor() throws SQLException {
         SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(connection.getShardingDataSource().getShardingContext().getExecuteEngine());
-        if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
+        if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
             return new MemoryStrictlyStatementExecutor(routeResult.getSqlStatement().getType(), sqlExecuteTemplate, getExecuteUnitsForMemoryStrictly());
         }
         return new ConnectionStrictlyStatementExecutor(routeResult.getSqlStatement().getType(), sqlExecuteTemplate, getExecuteUnitsForConnectionStrictly());
@@ -260,8 +265,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         return (Collection) sqlExecutePrepareTemplate.getExecuteUnitGroups(routeResult.getRouteUnits(), new SQLExecutePrepareCallback() {
             
             @Override
-            public Connection getConnection(final String dataSourceName) throws SQLException {
-                return ShardingStatement.this.connection.getConnection(dataSourceName);
+            public List<Connection> getConnections(final String dataSourceName, final int connectionSize) throws SQLException {
+                return Collections.nCopies(connectionSize, ShardingStatement.this.connection.getConnection(dataSourceName));
             }
             
             @Override
@@ -288,7 +293,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private void sqlRoute(final String sql) {
         ShardingContext shardingContext = connection.getShardingDataSource().getShardingContext();
         routeResult = new StatementRoutingEngine(shardingContext.getShardingRule(),
-            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource()).route(sql);
+            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource(), shardingContext.getParsingResultCache()).route(sql);
+        connectionMode = ConnectionModeSelector.select(shardingContext.getConnectionMode(), routeResult.getRouteUnits(), shardingContext.getMaxConnectionsSizePerQuery());
     }
     
     // TODO refresh table meta data by SQL parse result
@@ -300,6 +306,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
                 connection.getShardingDataSource().getShardingContext().getMaxConnectionsSizePerQuery());
             connection.getShardingDataSource().getShardingContext().getMetaData().getTable().put(
                 logicTableName, tableMetaDataLoader.load(logicTableName, connection.getShardingDataSource().getShardingContext().getShardingRule()));
+            connection.getShardingDataSource().getShardingContext().getRouteResultCache().clear();
         }
     }
     
@@ -341,7 +348,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                 connection.getShardingDataSource().getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(),
-                connection.getShardingDataSource().getShardingContext().getMetaData().getTable());
+                connection.getShardingDataSource().getShardingContext().getMetaData().getTable(), connection.getShardingDataSource().getShardingProperties());
             currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
         }
         return currentResultSet;
@@ -24,7 +24,8 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
         StatementExecutorTest.class, 
         PreparedStatementExecutorTest.class,
-        BatchPreparedStatementExecutorTest.class
+        BatchPreparedStatementExecutorTest.class, 
+        BatchInsertCoalescerTest.class
     })
 public final class AllExecutorTests {
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.executor.batch.BatchInsertCoalescer;
+import io.shardingsphere.core.executor.batch.BatchPreparedStatementExecuteUnit;
+import io.shardingsphere.core.executor.batch.CoalescedBatchInsertUnit;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.parser.context.insertvalue.InsertValue;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class BatchInsertCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)";
+    
+    private static final String ACTUAL_SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    public void assertIsCoalescible() {
+        assertTrue(new BatchInsertCoalescer(DatabaseType.MySQL, createInsertStatement(), SQL, 2, 1024).isCoalescible());
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWhenDisabled() {
+        assertFalse(new BatchInsertCoalescer(DatabaseType.MySQL, createInsertStatement(), SQL, 0, 1024).isCoalescible());
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleForOracle() {
+        assertFalse(new BatchInsertCoalescer(DatabaseType.Oracle, createInsertStatement(), SQL, 2, 1024).isCoalescible());
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleForTrailingClause() {
+        String sql = SQL + " ON DUPLICATE KEY UPDATE user_id = VALUES(user_id)";
+        assertFalse(new BatchInsertCoalescer(DatabaseType.MySQL, createInsertStatement(), sql, 2, 1024).isCoalescible());
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleForSelect() {
+        assertFalse(new BatchInsertCoalescer(DatabaseType.MySQL, new SelectStatement(), "SELECT * FROM t_order", 2, 1024).isCoalescible());
+    }
+    
+    @Test
+    public void assertCoalesceWithMaxRows() {
+        BatchInsertCoalescer coalescer = new BatchInsertCoalescer(DatabaseType.MySQL, createInsertStatement(), SQL, 2, 1024);
+        for (int i = 0; i < 5; i++) {
+            coalescer.add(Collections.singletonList(createRouteUnit(ACTUAL_SQL, i, i * 10)), i);
+        }
+        List<CoalescedBatchInsertUnit> actual = coalescer.coalesce();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get(0).getRouteUnit().getSqlUnit().getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 0, 1, 10), Arrays.<Object>asList(2, 20, 3, 30))));
+        assertThat(actual.get(0).getJdbcAddBatchTimesList(), is(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3))));
+        assertThat(actual.get(1).getRouteUnit().getSqlUnit().getSql(), is(ACTUAL_SQL));
+        assertThat(actual.get(1).getRouteUnit().getSqlUnit().getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(4, 40))));
+        assertThat(actual.get(1).getJdbcAddBatchTimesList(), is(Collections.singletonList(Collections.singletonList(4))));
+    }
+    
+    @Test
+    public void assertCoalesceWithMaxSQLLength() {
+        BatchInsertCoalescer coalescer = new BatchInsertCoalescer(DatabaseType.MySQL, createInsertStatement(), SQL, 10, ACTUAL_SQL.length() + ", (?, ?)".length());
+        for (int i = 0; i < 3; i++) {
+            coalescer.add(Collections.singletonList(createRouteUnit(ACTUAL_SQL, i, i * 10)), i);
+        }
+        List<CoalescedBatchInsertUnit> actual = coalescer.coalesce();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get(0).getJdbcAddBatchTimesList(), is(Collections.singletonList(Arrays.asList(0, 1))));
+        assertThat(actual.get(1).getJdbcAddBatchTimesList(), is(Collections.singletonList(Collections.singletonList(2))));
+    }
+    
+    @Test
+    public void assertCoalesceWithGeneratedKey() {
+        BatchInsertCoalescer coalescer = new BatchInsertCoalescer(DatabaseType.MySQL, createInsertStatement(), SQL, 10, 1024);
+        String actualSQL = "INSERT INTO t_order_0 (order_id, user_id, id) VALUES (?, ?, ?)";
+        coalescer.add(Collections.singletonList(createRouteUnit(actualSQL, 0, 0, 100)), 0);
+        coalescer.add(Collections.singletonList(createRouteUnit(actualSQL, 1, 10, 101)), 1);
+        List<CoalescedBatchInsertUnit> actual = coalescer.coalesce();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id, id) VALUES (?, ?, ?), (?, ?, ?)"));
+        assertThat(actual.get(0).getRouteUnit().getSqlUnit().getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(0, 0, 100, 1, 10, 101))));
+    }
+    
+    @Test
+    public void assertCoalesceGroupByActualTable() {
+        BatchInsertCoalescer coalescer = new BatchInsertCoalescer(DatabaseType.MySQL, createInsertStatement(), SQL, 10, 1024);
+        String otherActualSQL = "INSERT INTO t_order_1 (order_id, user_id) VALUES (?, ?)";
+        coalescer.add(Collections.singletonList(createRouteUnit(ACTUAL_SQL, 0, 0)), 0);
+        coalescer.add(Collections.singletonList(createRouteUnit(otherActualSQL, 1, 10)), 1);
+        coalescer.add(Collections.singletonList(createRouteUnit(ACTUAL_SQL, 2, 20)), 2);
+        List<CoalescedBatchInsertUnit> actual = coalescer.coalesce();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getJdbcAddBatchTimesList(), is(Collections.singletonList(Arrays.asList(0, 2))));
+        assertThat(actual.get(1).getRouteUnit().getSqlUnit().getSql(), is(otherActualSQL));
+        assertThat(actual.get(1).getJdbcAddBatchTimesList(), is(Collections.singletonList(Collections.singletonList(1))));
+        coalescer.clear();
+        assertTrue(coalescer.coalesce().isEmpty());
+    }
+    
+    @Test
+    public void assertGetRowUpdateCount() {
+        BatchPreparedStatementExecuteUnit actual = new BatchPreparedStatementExecuteUnit(createRouteUnit(ACTUAL_SQL, 0, 0), mock(PreparedStatement.class));
+        actual.mapAddBatchCount(Arrays.asList(0, 1));
+        actual.mapAddBatchCount(2);
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        assertThat(actual.getRowUpdateCount(0, 2), is(1));
+        assertThat(actual.getRowUpdateCount(0, 1), is(Statement.SUCCESS_NO_INFO));
+        assertThat(actual.getRowUpdateCount(1, 3), is(3));
+    }
+    
+    private InsertStatement createInsertStatement() {
+        InsertStatement result = new InsertStatement();
+        result.getInsertValues().getInsertValues().add(new InsertValue(DefaultKeyword.VALUES, "(?, ?)", 2));
+        result.setInsertValuesListLastPosition(SQL.length());
+        return result;
+    }
+    
+    private RouteUnit createRouteUnit(final String sql, final Object... parameters) {
+        List<List<Object>> parameterSets = new ArrayList<>();
+        parameterSets.add(Arrays.asList(parameters));
+        return new RouteUnit("ds_0", new SQLUnit(sql, parameterSets));
+    }
+}
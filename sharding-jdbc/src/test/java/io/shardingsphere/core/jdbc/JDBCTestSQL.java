@@ -31,5 +31,7 @@ public final class JDBCTestSQL {
     
     public static final String SELECT_WITH_AUTO_INCREMENT_COLUMN_SQL = "SELECT item_id from t_order_item where user_id = %d and order_id= %s and status = 'BATCH'";
     
+    public static final String SELECT_ORDER_WITH_PAGINATION_SQL = "SELECT order_id FROM t_order WHERE status = 'init' ORDER BY order_id LIMIT ?, ?";
+    
     public static final String SELECT_WITH_ALIAS_SQL = "SELECT user_id AS usr_id FROM t_order WHERE status = 'init'";
 }
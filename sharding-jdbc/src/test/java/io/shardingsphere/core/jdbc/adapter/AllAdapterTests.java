@@ -19,6 +19,7 @@ package io.shardingsphere.core.jdbc.adapter;
 
 import io.shardingsphere.core.jdbc.adapter.invocation.JdbcMethodInvocationTest;
 import io.shardingsphere.core.jdbc.adapter.invocation.SetParameterMethodInvocationTest;
+import io.shardingsphere.core.jdbc.adapter.parameter.TypedParameterBufferTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -31,7 +32,8 @@ import org.junit.runners.Suite;
         ResultSetAdapterTest.class,
         ResultSetGetterAdapterTest.class,
         JdbcMethodInvocationTest.class,
-        SetParameterMethodInvocationTest.class
+        SetParameterMethodInvocationTest.class,
+        TypedParameterBufferTest.class
     })
 public final class AllAdapterTests {
 }
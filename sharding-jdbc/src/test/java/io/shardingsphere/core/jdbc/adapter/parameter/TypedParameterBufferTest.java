@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.jdbc.adapter.parameter;
+
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Calendar;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class TypedParameterBufferTest {
+    
+    @Test
+    public void assertSet() {
+        TypedParameterBuffer actual = new TypedParameterBuffer();
+        actual.set(2, "test", ParameterType.STRING);
+        actual.set(1, 1, ParameterType.INT);
+        assertThat(actual.getValues(), is(Arrays.<Object>asList(1, "test")));
+    }
+    
+    @Test
+    public void assertBindWithTypedSetters() throws SQLException {
+        TypedParameterBuffer actual = new TypedParameterBuffer();
+        Date date = new Date(0L);
+        Calendar calendar = Calendar.getInstance();
+        InputStream inputStream = mock(InputStream.class);
+        actual.set(1, 1, ParameterType.INT);
+        actual.set(2, 2L, ParameterType.LONG);
+        actual.set(3, "test", ParameterType.STRING);
+        actual.set(4, null, ParameterType.NULL, Types.VARCHAR);
+        actual.set(5, date, ParameterType.DATE, calendar);
+        actual.set(6, inputStream, ParameterType.BINARY_STREAM, 10);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        actual.bind(preparedStatement, actual.getValues());
+        verify(preparedStatement).setInt(1, 1);
+        verify(preparedStatement).setLong(2, 2L);
+        verify(preparedStatement).setString(3, "test");
+        verify(preparedStatement).setNull(4, Types.VARCHAR);
+        verify(preparedStatement).setDate(5, date, calendar);
+        verify(preparedStatement).setBinaryStream(6, inputStream, 10);
+    }
+    
+    @Test
+    public void assertBindWithRoutedParameters() throws SQLException {
+        TypedParameterBuffer actual = new TypedParameterBuffer();
+        actual.set(1, "test", ParameterType.STRING);
+        actual.set(2, 10, ParameterType.OBJECT, Types.INTEGER);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        actual.bind(preparedStatement, Arrays.<Object>asList("test", 1000, 100L, null));
+        verify(preparedStatement).setString(1, "test");
+        verify(preparedStatement).setInt(2, 1000);
+        verify(preparedStatement).setLong(3, 100L);
+        verify(preparedStatement).setObject(4, null);
+    }
+    
+    @Test
+    public void assertClear() {
+        TypedParameterBuffer actual = new TypedParameterBuffer();
+        actual.set(1, 1, ParameterType.INT);
+        actual.clear();
+        assertTrue(actual.getValues().isEmpty());
+    }
+}
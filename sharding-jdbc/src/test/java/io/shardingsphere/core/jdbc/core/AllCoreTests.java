@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.jdbc.core;
 
+import io.shardingsphere.core.jdbc.core.connection.RoutedPreparedStatementCacheTest;
 import io.shardingsphere.core.jdbc.core.connection.ShardingConnectionTest;
 import io.shardingsphere.core.jdbc.core.datasource.MasterSlaveDataSourceTest;
 import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSourceTest;
@@ -34,6 +35,7 @@ import org.junit.runners.Suite;
         ShardingDataSourceTest.class, 
         MasterSlaveDataSourceTest.class, 
         ShardingConnectionTest.class, 
+        RoutedPreparedStatementCacheTest.class, 
         ShardingStatementTest.class, 
         ShardingPreparedStatementTest.class, 
         ShardingResultSetTest.class,
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.jdbc.core.connection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class RoutedPreparedStatementCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order_0 WHERE order_id = ?";
+    
+    private final Connection connection = mock(Connection.class);
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT)).thenAnswer(new PreparedStatementAnswer());
+    }
+    
+    @Test
+    public void assertIsEnabled() {
+        assertTrue(new RoutedPreparedStatementCache(1).isEnabled());
+        assertFalse(new RoutedPreparedStatementCache(0).isEnabled());
+    }
+    
+    @Test
+    public void assertGetReleasedPreparedStatement() throws SQLException {
+        RoutedPreparedStatementCache actual = new RoutedPreparedStatementCache(1);
+        PreparedStatement preparedStatement = getPreparedStatement(actual);
+        actual.release(Collections.singletonList(preparedStatement), true);
+        assertSame(getPreparedStatement(actual), preparedStatement);
+        verify(preparedStatement).clearParameters();
+        verify(preparedStatement, never()).close();
+        verify(connection, times(1)).prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    }
+    
+    @Test
+    public void assertGetUsedPreparedStatement() throws SQLException {
+        RoutedPreparedStatementCache actual = new RoutedPreparedStatementCache(1);
+        assertNotSame(getPreparedStatement(actual), getPreparedStatement(actual));
+    }
+    
+    @Test
+    public void assertReleaseUnreusablePreparedStatement() throws SQLException {
+        RoutedPreparedStatementCache actual = new RoutedPreparedStatementCache(1);
+        PreparedStatement preparedStatement = getPreparedStatement(actual);
+        actual.release(Collections.singletonList(preparedStatement), false);
+        verify(preparedStatement).close();
+        assertNotSame(getPreparedStatement(actual), preparedStatement);
+    }
+    
+    @Test
+    public void assertReleaseWhenIdlePreparedStatementExists() throws SQLException {
+        RoutedPreparedStatementCache actual = new RoutedPreparedStatementCache(1);
+        PreparedStatement preparedStatement1 = getPreparedStatement(actual);
+        PreparedStatement preparedStatement2 = getPreparedStatement(actual);
+        actual.release(Collections.singletonList(preparedStatement1), true);
+        actual.release(Collections.singletonList(preparedStatement2), true);
+        verify(preparedStatement1, never()).close();
+        verify(preparedStatement2).close();
+    }
+    
+    @Test
+    public void assertEvict() throws SQLException {
+        RoutedPreparedStatementCache actual = new RoutedPreparedStatementCache(1);
+        PreparedStatement preparedStatement = getPreparedStatement(actual);
+        actual.release(Collections.singletonList(preparedStatement), true);
+        actual.evict(connection);
+        assertNotSame(getPreparedStatement(actual), preparedStatement);
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        RoutedPreparedStatementCache actual = new RoutedPreparedStatementCache(1);
+        PreparedStatement preparedStatement = getPreparedStatement(actual);
+        actual.release(Collections.singletonList(preparedStatement), true);
+        actual.clear();
+        verify(preparedStatement).close();
+    }
+    
+    private PreparedStatement getPreparedStatement(final RoutedPreparedStatementCache cache) throws SQLException {
+        return cache.getPreparedStatement(connection, SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false);
+    }
+    
+    private static final class PreparedStatementAnswer implements Answer<PreparedStatement> {
+        
+        @Override
+        public PreparedStatement answer(final InvocationOnMock invocation) {
+            return mock(PreparedStatement.class);
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.jdbc.core.resultset;
 
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.dql.pagination.PaginationMergedResult;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,11 +34,13 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 
@@ -46,6 +49,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -70,6 +75,30 @@ public final class ShardingResultSetTest {
         assertTrue(shardingResultSet.next());
     }
     
+    @Test
+    public void assertNextWhenPaginationRowCountReached() throws SQLException {
+        ResultSet firstResultSet = mock(ResultSet.class);
+        ResultSet secondResultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(firstResultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("order_id");
+        PaginationMergedResult paginationMergedResult = mock(PaginationMergedResult.class);
+        when(paginationMergedResult.isRowCountReached()).thenReturn(true);
+        ShardingResultSet actual = new ShardingResultSet(Arrays.asList(firstResultSet, secondResultSet), paginationMergedResult, statement);
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(firstResultSet, never()).close();
+        verify(secondResultSet).close();
+        assertThat(actual.getMetaData().getColumnCount(), is(1));
+        actual.setFetchSize(10);
+        verify(firstResultSet).setFetchSize(10);
+        verify(secondResultSet, never()).setFetchSize(10);
+        actual.close();
+        verify(firstResultSet).close();
+        verify(secondResultSet).close();
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingResultSet.wasNull());
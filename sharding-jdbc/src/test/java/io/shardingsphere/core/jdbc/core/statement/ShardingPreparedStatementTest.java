@@ -243,4 +243,28 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
             assertThat(result.length, is(0));
         }
     }
+    
+    @Test
+    public void assertExecuteQueryWithTypedPaginationParameters() throws SQLException {
+        try (
+                Connection connection = getShardingDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(JDBCTestSQL.SELECT_ORDER_WITH_PAGINATION_SQL)) {
+            preparedStatement.setLong(1, 1L);
+            preparedStatement.setLong(2, 2L);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(1001));
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(1100));
+                assertFalse(resultSet.next());
+            }
+            preparedStatement.setLong(1, 0L);
+            preparedStatement.setLong(2, 1L);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(1000));
+                assertFalse(resultSet.next());
+            }
+        }
+    }
 }
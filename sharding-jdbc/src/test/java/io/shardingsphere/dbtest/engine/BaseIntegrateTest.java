@@ -24,7 +24,6 @@ import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaDataFactory;
-import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.dbtest.cases.assertion.IntegrateTestCasesLoader;
 import io.shardingsphere.dbtest.env.DatabaseTypeEnvironment;
 import io.shardingsphere.dbtest.env.EnvironmentPath;
@@ -209,8 +208,9 @@ public abstract class BaseIntegrateTest {
     public void tearDown() {
         if (dataSource instanceof ShardingDataSource) {
             ((ShardingDataSource) dataSource).getShardingContext().getExecuteEngine().close();
+            ((ShardingDataSource) dataSource).getShardingContext().getParsingResultCache().clear();
+            ((ShardingDataSource) dataSource).getShardingContext().getRouteResultCache().clear();
         }
-        ParsingResultCache.getInstance().clear();
     }
 }
 
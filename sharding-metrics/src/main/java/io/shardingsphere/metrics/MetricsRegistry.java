@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics;
+
+import com.google.common.base.Supplier;
+import io.shardingsphere.metrics.exporter.MetricsExporter;
+import io.shardingsphere.metrics.gauge.Gauge;
+import io.shardingsphere.metrics.gauge.GaugeType;
+import io.shardingsphere.metrics.histogram.Histogram;
+import io.shardingsphere.metrics.histogram.MetricsType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Metrics registry.
+ *
+ * <p>
+ * Histograms are created on first record, then exported by exporters loaded by SPI.
+ * Histograms are identified by metrics type, schema name and data source name, because data source names of different schemas can be same.
+ * Gauges are registered by owner of sampled values, and identified by gauge type.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsRegistry {
+    
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    
+    private final ConcurrentMap<List<String>, Histogram> histograms = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<GaugeType, Gauge> gauges = new ConcurrentHashMap<>();
+    
+    private final Collection<MetricsExporter> exporters = loadExporters();
+    
+    /**
+     * Get metrics registry instance.
+     *
+     * @return metrics registry instance
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    private static Collection<MetricsExporter> loadExporters() {
+        Collection<MetricsExporter> result = new LinkedList<>();
+        for (MetricsExporter each : ServiceLoader.load(MetricsExporter.class)) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Get histogram.
+     *
+     * @param type metrics type
+     * @param schemaName schema name, null if metrics is not for schema
+     * @param dataSourceName data source name, null if metrics is not for data source
+     * @return histogram
+     */
+    public Histogram getHistogram(final MetricsType type, final String schemaName, final String dataSourceName) {
+        List<String> key = Arrays.asList(type.getName(), schemaName, dataSourceName);
+        Histogram result = histograms.get(key);
+        if (null != result) {
+            return result;
+        }
+        Histogram histogram = new Histogram(type, schemaName, dataSourceName);
+        result = histograms.putIfAbsent(key, histogram);
+        if (null != result) {
+            return result;
+        }
+        for (MetricsExporter each : exporters) {
+            each.export(histogram);
+        }
+        return histogram;
+    }
+    
+    /**
+     * Get all histograms.
+     *
+     * @return all histograms
+     */
+    public Collection<Histogram> getHistograms() {
+        return Collections.unmodifiableCollection(histograms.values());
+    }
+    
+    /**
+     * Register gauge.
+     *
+     * <p>
+     * Gauge which is registered first is kept if gauge of same type is registered again.
+     * </p>
+     *
+     * @param type gauge type
+     * @param valueSupplier supplier of gauge value
+     * @return registered gauge
+     */
+    public Gauge registerGauge(final GaugeType type, final Supplier<? extends Number> valueSupplier) {
+        Gauge gauge = new Gauge(type, valueSupplier);
+        Gauge result = gauges.putIfAbsent(type, gauge);
+        if (null != result) {
+            return result;
+        }
+        for (MetricsExporter each : exporters) {
+            each.export(gauge);
+        }
+        return gauge;
+    }
+    
+    /**
+     * Get all gauges.
+     *
+     * @return all gauges
+     */
+    public Collection<Gauge> getGauges() {
+        return Collections.unmodifiableCollection(gauges.values());
+    }
+}
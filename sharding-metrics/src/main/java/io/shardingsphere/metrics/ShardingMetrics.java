@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics;
+
+import com.google.common.base.Supplier;
+import io.shardingsphere.core.event.ShardingEventBusInstance;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorDataMap;
+import io.shardingsphere.metrics.gauge.GaugeType;
+import io.shardingsphere.metrics.listener.MetricsEventListener;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sharding metrics.
+ *
+ * <p>
+ * Metrics are not recorded until initialized, then execution events are created only if they are subscribed.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingMetrics {
+    
+    private static final String SCHEMA_NAME_KEY = ShardingMetrics.class.getName() + ".schemaName";
+    
+    private static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+    
+    /**
+     * Initialize sharding metrics.
+     */
+    public static void init() {
+        if (INITIALIZED.compareAndSet(false, true)) {
+            ShardingEventBusInstance.getInstance().register(new MetricsEventListener());
+        }
+    }
+    
+    /**
+     * Register gauges of execute engine.
+     *
+     * @param executeEngine execute engine
+     */
+    public static void registerExecuteEngine(final ShardingExecuteEngine executeEngine) {
+        MetricsRegistry.getInstance().registerGauge(GaugeType.EXECUTOR_ACTIVE_THREADS, new Supplier<Integer>() {
+            
+            @Override
+            public Integer get() {
+                return executeEngine.getActiveThreadCount();
+            }
+        });
+        MetricsRegistry.getInstance().registerGauge(GaugeType.EXECUTOR_QUEUED_TASKS, new Supplier<Long>() {
+            
+            @Override
+            public Long get() {
+                return executeEngine.getQueuedTaskCount();
+            }
+        });
+    }
+    
+    /**
+     * Set schema name of current execution.
+     * 
+     * <p>
+     * Schema name is kept in executor data map, so metrics recorded by execution threads are qualified by it too.
+     * </p>
+     *
+     * @param schemaName schema name
+     */
+    public static void setSchemaName(final String schemaName) {
+        ExecutorDataMap.getDataMap().put(SCHEMA_NAME_KEY, schemaName);
+    }
+    
+    /**
+     * Get schema name of current execution.
+     *
+     * @return schema name, null if it is not set
+     */
+    public static String getSchemaName() {
+        return (String) ExecutorDataMap.getDataMap().get(SCHEMA_NAME_KEY);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.exporter.jmx;
+
+/**
+ * Histogram MXBean.
+ */
+public interface HistogramMXBean {
+    
+    /**
+     * Get count of recorded values.
+     *
+     * @return count of recorded values
+     */
+    long getCount();
+    
+    /**
+     * Get count of errors.
+     *
+     * @return count of errors
+     */
+    long getErrorCount();
+    
+    /**
+     * Get mean of recorded values.
+     *
+     * @return mean of recorded values
+     */
+    double getMean();
+    
+    /**
+     * Get max recorded value.
+     *
+     * @return max recorded value
+     */
+    long getMax();
+    
+    /**
+     * Get median of recorded values.
+     *
+     * @return median of recorded values
+     */
+    long getP50();
+    
+    /**
+     * Get 99th percentile of recorded values.
+     *
+     * @return 99th percentile of recorded values
+     */
+    long getP99();
+    
+    /**
+     * Get 99.9th percentile of recorded values.
+     *
+     * @return 99.9th percentile of recorded values
+     */
+    long getP999();
+}
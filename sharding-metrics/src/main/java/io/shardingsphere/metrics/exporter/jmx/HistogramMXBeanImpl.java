@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.exporter.jmx;
+
+import io.shardingsphere.metrics.histogram.Histogram;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Histogram MXBean implementation.
+ */
+@RequiredArgsConstructor
+public final class HistogramMXBeanImpl implements HistogramMXBean {
+    
+    private final Histogram histogram;
+    
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+    
+    @Override
+    public long getErrorCount() {
+        return histogram.getErrorCount();
+    }
+    
+    @Override
+    public double getMean() {
+        return histogram.getMean();
+    }
+    
+    @Override
+    public long getMax() {
+        return histogram.getMax();
+    }
+    
+    @Override
+    public long getP50() {
+        return histogram.getValueAtPercentile(50D);
+    }
+    
+    @Override
+    public long getP99() {
+        return histogram.getValueAtPercentile(99D);
+    }
+    
+    @Override
+    public long getP999() {
+        return histogram.getValueAtPercentile(99.9D);
+    }
+}
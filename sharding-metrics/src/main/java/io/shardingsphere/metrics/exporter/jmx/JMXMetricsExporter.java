@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.exporter.jmx;
+
+import io.shardingsphere.metrics.exporter.MetricsExporter;
+import io.shardingsphere.metrics.gauge.Gauge;
+import io.shardingsphere.metrics.histogram.Histogram;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Metrics exporter for JMX.
+ *
+ * <p>
+ * Each histogram is registered as {@code io.shardingsphere:type=Metrics,name=<metrics name>[,schema=<schema name>][,dataSource=<data source name>]}.
+ * Each gauge is registered as {@code io.shardingsphere:type=Metrics,name=<gauge name>}.
+ * </p>
+ */
+@Slf4j
+public final class JMXMetricsExporter implements MetricsExporter {
+    
+    @Override
+    public void export(final Histogram histogram) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new HistogramMXBeanImpl(histogram), getObjectName(histogram));
+        } catch (final JMException ex) {
+            log.warn("Cannot register metrics {} to JMX", histogram.getType().getName(), ex);
+        }
+    }
+    
+    @Override
+    public void export(final Gauge gauge) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new GaugeMXBeanImpl(gauge), new ObjectName("io.shardingsphere:type=Metrics,name=" + gauge.getType().getName()));
+        } catch (final JMException ex) {
+            log.warn("Cannot register metrics {} to JMX", gauge.getType().getName(), ex);
+        }
+    }
+    
+    private ObjectName getObjectName(final Histogram histogram) throws JMException {
+        StringBuilder result = new StringBuilder("io.shardingsphere:type=Metrics,name=").append(histogram.getType().getName());
+        if (null != histogram.getSchemaName()) {
+            result.append(",schema=").append(ObjectName.quote(histogram.getSchemaName()));
+        }
+        if (null != histogram.getDataSourceName()) {
+            result.append(",dataSource=").append(ObjectName.quote(histogram.getDataSourceName()));
+        }
+        return new ObjectName(result.toString());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.exporter.prometheus;
+
+import com.google.common.base.Joiner;
+import io.shardingsphere.metrics.gauge.Gauge;
+import io.shardingsphere.metrics.histogram.Histogram;
+import io.shardingsphere.metrics.histogram.MetricsType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+
+/**
+ * Prometheus text format of histograms and gauges.
+ *
+ * <p>
+ * Each histogram is formatted as summary, latency is in seconds. Each gauge is formatted as gauge.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrometheusTextFormat {
+    
+    /**
+     * Content type of prometheus text format.
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    private static final String PREFIX = "sharding_";
+    
+    private static final double[] QUANTILES = {0.5D, 0.9D, 0.99D, 0.999D};
+    
+    private static final double NANOSECONDS_PER_SECOND = 1000000000D;
+    
+    /**
+     * Format histograms.
+     *
+     * @param histograms histograms
+     * @return text of prometheus format
+     */
+    public static String format(final Collection<Histogram> histograms) {
+        return format(histograms, Collections.<Gauge>emptyList());
+    }
+    
+    /**
+     * Format histograms and gauges.
+     *
+     * @param histograms histograms
+     * @param gauges gauges
+     * @return text of prometheus format
+     */
+    public static String format(final Collection<Histogram> histograms, final Collection<Gauge> gauges) {
+        StringBuilder result = new StringBuilder();
+        for (MetricsType each : MetricsType.values()) {
+            Collection<Histogram> histogramsOfType = getHistograms(histograms, each);
+            if (histogramsOfType.isEmpty()) {
+                continue;
+            }
+            String name = getMetricsName(each);
+            result.append("# TYPE ").append(name).append(" summary\n");
+            for (Histogram histogram : histogramsOfType) {
+                appendSummary(result, name, histogram);
+            }
+            result.append("# TYPE ").append(name).append("_errors_total counter\n");
+            for (Histogram histogram : histogramsOfType) {
+                appendSample(result, name + "_errors_total", histogram, null, histogram.getErrorCount());
+            }
+        }
+        for (Gauge each : gauges) {
+            String name = PREFIX + each.getType().getName();
+            result.append("# TYPE ").append(name).append(" gauge\n");
+            result.append(name).append(' ').append(each.getValue()).append('\n');
+        }
+        return result.toString();
+    }
+    
+    private static Collection<Histogram> getHistograms(final Collection<Histogram> histograms, final MetricsType type) {
+        Collection<Histogram> result = new LinkedList<>();
+        for (Histogram each : histograms) {
+            if (type == each.getType()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static String getMetricsName(final MetricsType type) {
+        return type.isLatency() ? PREFIX + type.getName() + "_seconds" : PREFIX + type.getName();
+    }
+    
+    private static void appendSummary(final StringBuilder result, final String name, final Histogram histogram) {
+        for (double each : QUANTILES) {
+            appendSample(result, name, histogram, String.valueOf(each), convert(histogram, histogram.getValueAtPercentile(each * 100D)));
+        }
+        appendSample(result, name + "_sum", histogram, null, convert(histogram, histogram.getSum()));
+        appendSample(result, name + "_count", histogram, null, histogram.getCount());
+    }
+    
+    private static Number convert(final Histogram histogram, final long value) {
+        if (histogram.getType().isLatency()) {
+            return value / NANOSECONDS_PER_SECOND;
+        }
+        return value;
+    }
+    
+    private static void appendSample(final StringBuilder result, final String name, final Histogram histogram, final String quantile, final Number value) {
+        result.append(name);
+        Collection<String> labels = new LinkedList<>();
+        if (null != histogram.getSchemaName()) {
+            labels.add("schema=\"" + escape(histogram.getSchemaName()) + '"');
+        }
+        if (null != histogram.getDataSourceName()) {
+            labels.add("data_source=\"" + escape(histogram.getDataSourceName()) + '"');
+        }
+        if (null != quantile) {
+            labels.add("quantile=\"" + quantile + '"');
+        }
+        if (!labels.isEmpty()) {
+            result.append('{').append(Joiner.on(',').join(labels)).append('}');
+        }
+        result.append(' ').append(value).append('\n');
+    }
+    
+    private static String escape(final String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
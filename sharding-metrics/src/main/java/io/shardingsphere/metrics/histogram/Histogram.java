@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.histogram;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram.
+ *
+ * <p>
+ * Values are counted in buckets of power of two, each of them is divided into 8 linear sub buckets,
+ * then relative error of percentiles is less than 12.5%.
+ * Latency is recorded in nanoseconds.
+ * </p>
+ */
+public final class Histogram {
+    
+    private static final int SUB_BUCKET_BITS = 3;
+    
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    
+    @Getter
+    private final MetricsType type;
+    
+    @Getter
+    private final String schemaName;
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final AtomicLong count = new AtomicLong();
+    
+    private final AtomicLong errorCount = new AtomicLong();
+    
+    private final AtomicLong sum = new AtomicLong();
+    
+    private final AtomicLong max = new AtomicLong();
+    
+    public Histogram(final MetricsType type, final String schemaName, final String dataSourceName) {
+        this.type = type;
+        this.schemaName = schemaName;
+        this.dataSourceName = dataSourceName;
+    }
+    
+    /**
+     * Record value.
+     *
+     * @param value value to be recorded, negative value is recorded as 0
+     */
+    public void record(final long value) {
+        long actualValue = Math.max(value, 0L);
+        bucketCounts.incrementAndGet(getBucketIndex(actualValue));
+        count.incrementAndGet();
+        sum.addAndGet(actualValue);
+        long currentMax = max.get();
+        while (actualValue > currentMax && !max.compareAndSet(currentMax, actualValue)) {
+            currentMax = max.get();
+        }
+    }
+    
+    /**
+     * Record error.
+     */
+    public void recordError() {
+        errorCount.incrementAndGet();
+    }
+    
+    /**
+     * Get count of recorded values.
+     *
+     * @return count of recorded values
+     */
+    public long getCount() {
+        return count.get();
+    }
+    
+    /**
+     * Get count of errors.
+     *
+     * @return count of errors
+     */
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+    
+    /**
+     * Get sum of recorded values.
+     *
+     * @return sum of recorded values
+     */
+    public long getSum() {
+        return sum.get();
+    }
+    
+    /**
+     * Get max recorded value.
+     *
+     * @return max recorded value
+     */
+    public long getMax() {
+        return max.get();
+    }
+    
+    /**
+     * Get mean of recorded values.
+     *
+     * @return mean of recorded values
+     */
+    public double getMean() {
+        long currentCount = count.get();
+        return 0L == currentCount ? 0D : (double) sum.get() / currentCount;
+    }
+    
+    /**
+     * Get value at percentile.
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return upper bound of bucket which contains the value at percentile
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long totalCount = 0L;
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            totalCount += counts[i];
+        }
+        if (0L == totalCount) {
+            return 0L;
+        }
+        long targetCount = Math.max((long) Math.ceil(Math.min(percentile, 100D) / 100D * totalCount), 1L);
+        long accumulatedCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulatedCount += counts[i];
+            if (accumulatedCount >= targetCount) {
+                return Math.min(getBucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+    
+    static int getBucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+    
+    static long getBucketUpperBound(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.histogram;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Metrics type.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum MetricsType {
+    
+    PARSE_LATENCY("parse_latency", true),
+    
+    ROUTE_LATENCY("route_latency", true),
+    
+    ROUTE_UNITS("route_units", false),
+    
+    GET_CONNECTION_LATENCY("get_connection_latency", true),
+    
+    EXECUTE_LATENCY("execute_latency", true);
+    
+    private final String name;
+    
+    private final boolean latency;
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.listener;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import io.shardingsphere.core.event.ShardingEvent;
+import io.shardingsphere.core.event.ShardingEventType;
+import io.shardingsphere.core.event.connection.GetConnectionEvent;
+import io.shardingsphere.core.event.executor.sql.SQLExecutionEvent;
+import io.shardingsphere.core.event.parsing.ParsingEvent;
+import io.shardingsphere.core.event.routing.RoutingEvent;
+import io.shardingsphere.metrics.MetricsRegistry;
+import io.shardingsphere.metrics.ShardingMetrics;
+import io.shardingsphere.metrics.histogram.Histogram;
+import io.shardingsphere.metrics.histogram.MetricsType;
+
+/**
+ * Metrics event listener.
+ */
+public final class MetricsEventListener {
+    
+    private final MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+    
+    /**
+     * Listen parsing event.
+     *
+     * @param event parsing event
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void listen(final ParsingEvent event) {
+        recordLatency(MetricsType.PARSE_LATENCY, null, event);
+    }
+    
+    /**
+     * Listen routing event.
+     *
+     * @param event routing event
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void listen(final RoutingEvent event) {
+        recordLatency(MetricsType.ROUTE_LATENCY, null, event);
+        if (ShardingEventType.EXECUTE_SUCCESS == event.getEventType()) {
+            metricsRegistry.getHistogram(MetricsType.ROUTE_UNITS, ShardingMetrics.getSchemaName(), null).record(event.getRouteUnitsSize());
+        }
+    }
+    
+    /**
+     * Listen get connection event.
+     *
+     * @param event get connection event
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void listen(final GetConnectionEvent event) {
+        recordLatency(MetricsType.GET_CONNECTION_LATENCY, event.getDataSource(), event);
+    }
+    
+    /**
+     * Listen SQL execution event.
+     *
+     * @param event SQL execution event
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void listen(final SQLExecutionEvent event) {
+        recordLatency(MetricsType.EXECUTE_LATENCY, event.getRouteUnit().getDataSourceName(), event);
+    }
+    
+    private void recordLatency(final MetricsType type, final String dataSourceName, final ShardingEvent event) {
+        if (ShardingEventType.BEFORE_EXECUTE == event.getEventType()) {
+            return;
+        }
+        Histogram histogram = metricsRegistry.getHistogram(type, ShardingMetrics.getSchemaName(), dataSourceName);
+        histogram.record(System.nanoTime() - event.getStartNanoTime());
+        if (ShardingEventType.EXECUTE_FAILURE == event.getEventType()) {
+            histogram.recordError();
+        }
+    }
+}
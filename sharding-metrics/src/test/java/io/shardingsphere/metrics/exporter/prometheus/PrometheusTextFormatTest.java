@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.exporter.prometheus;
+
+import com.google.common.base.Suppliers;
+import io.shardingsphere.metrics.gauge.Gauge;
+import io.shardingsphere.metrics.gauge.GaugeType;
+import io.shardingsphere.metrics.histogram.Histogram;
+import io.shardingsphere.metrics.histogram.MetricsType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertTrue;
+
+public final class PrometheusTextFormatTest {
+    
+    @Test
+    public void assertFormat() {
+        Histogram executeLatency = new Histogram(MetricsType.EXECUTE_LATENCY, null, "ds_0");
+        executeLatency.record(2000000000L);
+        executeLatency.recordError();
+        Histogram routeUnits = new Histogram(MetricsType.ROUTE_UNITS, null, null);
+        routeUnits.record(2L);
+        String actual = PrometheusTextFormat.format(Arrays.asList(executeLatency, routeUnits));
+        assertTrue(actual.contains("# TYPE sharding_execute_latency_seconds summary\n"));
+        assertTrue(actual.contains("sharding_execute_latency_seconds_count{data_source=\"ds_0\"} 1\n"));
+        assertTrue(actual.contains("sharding_execute_latency_seconds_sum{data_source=\"ds_0\"} 2.0\n"));
+        assertTrue(actual.contains("sharding_execute_latency_seconds_errors_total{data_source=\"ds_0\"} 1\n"));
+        assertTrue(actual.contains("sharding_route_units{quantile=\"0.5\"} 2\n"));
+    }
+    
+    @Test
+    public void assertFormatWithSchemaName() {
+        Histogram executeLatency = new Histogram(MetricsType.EXECUTE_LATENCY, "sharding_db", "ds_0");
+        executeLatency.record(1000000000L);
+        Histogram routeLatency = new Histogram(MetricsType.ROUTE_LATENCY, "sharding_db", null);
+        routeLatency.record(1000000000L);
+        String actual = PrometheusTextFormat.format(Arrays.asList(executeLatency, routeLatency));
+        assertTrue(actual.contains("sharding_execute_latency_seconds_count{schema=\"sharding_db\",data_source=\"ds_0\"} 1\n"));
+        assertTrue(actual.contains("sharding_route_latency_seconds{schema=\"sharding_db\",quantile=\"0.5\"} "));
+    }
+    
+    @Test
+    public void assertFormatWithGauges() {
+        Gauge activeThreads = new Gauge(GaugeType.EXECUTOR_ACTIVE_THREADS, Suppliers.ofInstance(3));
+        Gauge queuedTasks = new Gauge(GaugeType.EXECUTOR_QUEUED_TASKS, Suppliers.ofInstance(10L));
+        String actual = PrometheusTextFormat.format(Collections.<Histogram>emptyList(), Arrays.asList(activeThreads, queuedTasks));
+        assertTrue(actual.contains("# TYPE sharding_executor_active_threads gauge\nsharding_executor_active_threads 3\n"));
+        assertTrue(actual.contains("# TYPE sharding_executor_queued_tasks gauge\nsharding_executor_queued_tasks 10\n"));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.histogram;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HistogramTest {
+    
+    @Test
+    public void assertGetBucketIndex() {
+        assertThat(Histogram.getBucketIndex(0L), is(0));
+        assertThat(Histogram.getBucketIndex(7L), is(7));
+        assertThat(Histogram.getBucketIndex(8L), is(8));
+        assertThat(Histogram.getBucketIndex(15L), is(15));
+        assertThat(Histogram.getBucketIndex(16L), is(16));
+        assertThat(Histogram.getBucketIndex(17L), is(16));
+        assertThat(Histogram.getBucketIndex(Long.MAX_VALUE), is(487));
+    }
+    
+    @Test
+    public void assertGetBucketUpperBound() {
+        assertThat(Histogram.getBucketUpperBound(7), is(7L));
+        assertThat(Histogram.getBucketUpperBound(16), is(17L));
+        assertThat(Histogram.getBucketUpperBound(487), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertRecord() {
+        Histogram actual = new Histogram(MetricsType.EXECUTE_LATENCY, null, "ds_0");
+        for (long i = 1L; i <= 100L; i++) {
+            actual.record(i);
+        }
+        actual.recordError();
+        assertThat(actual.getCount(), is(100L));
+        assertThat(actual.getErrorCount(), is(1L));
+        assertThat(actual.getSum(), is(5050L));
+        assertThat(actual.getMax(), is(100L));
+        assertThat(actual.getMean(), is(50.5D));
+        assertThat(actual.getValueAtPercentile(50D), is(51L));
+        assertThat(actual.getValueAtPercentile(100D), is(100L));
+    }
+    
+    @Test
+    public void assertGetValueAtPercentileWithoutRecord() {
+        assertThat(new Histogram(MetricsType.PARSE_LATENCY, null, null).getValueAtPercentile(99D), is(0L));
+    }
+}
@@ -37,6 +37,8 @@ import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -100,6 +102,8 @@ public final class SQLParsingEventListenerTest {
         when(shardingContext.getMetaData()).thenReturn(shardingMetaData);
         when(shardingContext.getDatabaseType()).thenReturn(DatabaseType.MySQL);
         when(shardingContext.isShowSQL()).thenReturn(true);
+        when(shardingContext.getParsingResultCache()).thenReturn(new ParsingResultCache());
+        when(shardingContext.getRouteResultCache()).thenReturn(new RouteResultCache());
         shardingDataSource = Mockito.mock(ShardingDataSource.class);
         when(shardingDataSource.getShardingContext()).thenReturn(shardingContext);
     }
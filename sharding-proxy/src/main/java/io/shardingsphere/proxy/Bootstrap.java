@@ -22,6 +22,8 @@ import io.shardingsphere.core.api.config.ProxySchemaRule;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.jdbc.orchestration.config.OrchestrationProxyConfiguration;
 import io.shardingsphere.jdbc.orchestration.internal.OrchestrationFacade;
+import io.shardingsphere.metrics.ShardingMetrics;
+import io.shardingsphere.proxy.backend.BackendExecutorContext;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.config.ServerConfiguration;
 import io.shardingsphere.proxy.config.RuleConfiguration;
@@ -84,6 +86,7 @@ public final class Bootstrap {
     private static void startWithoutRegistryCenter(final ServerConfiguration serverConfig, final Collection<RuleConfiguration> ruleConfigs, final int port) throws InterruptedException {
         OrchestrationProxyConfiguration orchestrationConfig = getOrchestrationConfiguration(serverConfig, ruleConfigs);
         PROXY_CONTEXT.init(orchestrationConfig.getServerConfiguration(), orchestrationConfig.getSchemaDataSourceMap(), orchestrationConfig.getSchemaRuleMap());
+        initMetrics();
         new ShardingProxy().start(port);
     }
     
@@ -94,10 +97,18 @@ public final class Bootstrap {
             }
             PROXY_CONTEXT.init(orchestrationFacade.getConfigService().loadProxyServerConfiguration(), 
                     orchestrationFacade.getConfigService().loadProxyDataSources(), orchestrationFacade.getConfigService().loadProxyConfiguration());
+            initMetrics();
             new ShardingProxy().start(port);
         }
     }
     
+    private static void initMetrics() {
+        if (PROXY_CONTEXT.getMetricsPort() > 0) {
+            ShardingMetrics.init();
+            ShardingMetrics.registerExecuteEngine(BackendExecutorContext.getInstance().getExecuteEngine());
+        }
+    }
+    
     private static OrchestrationProxyConfiguration getOrchestrationConfiguration(final ServerConfiguration serverConfig, final Collection<RuleConfiguration> localRuleConfigs) {
         Map<String, Map<String, DataSourceParameter>> schemaDataSourceMap = new HashMap<>();
         Map<String, ProxySchemaRule> schemaRuleMap = new HashMap<>();
@@ -31,7 +31,9 @@ public final class BackendExecutorContext {
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
     @Getter
-    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(ProxyContext.getInstance().getExecutorSize());
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(
+            ProxyContext.getInstance().getExecutorSize(), ProxyContext.getInstance().getExecutorQueueSize(), ProxyContext.getInstance().isExecutorWorkStealing(),
+            ProxyContext.getInstance().isExecutorVirtualThread());
     
     /**
      * Get backend executor context instance.
@@ -17,10 +17,13 @@
 
 package io.shardingsphere.proxy.backend;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,15 +31,58 @@ import java.util.List;
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 @Getter
 public final class ResultPacket {
     
     private final int sequenceId;
     
-    private final List<Object> data;
+    @Getter(AccessLevel.NONE)
+    private List<Object> data;
     
     private final int columnCount;
     
     private final List<ColumnType> columnTypes;
+    
+    @Getter(AccessLevel.NONE)
+    private RawTextResultSetRowPacket rawRow;
+    
+    public ResultPacket(final int sequenceId, final List<Object> data, final int columnCount, final List<ColumnType> columnTypes) {
+        this.sequenceId = sequenceId;
+        this.data = data;
+        this.columnCount = columnCount;
+        this.columnTypes = columnTypes;
+    }
+    
+    public ResultPacket(final RawTextResultSetRowPacket rawRow, final int columnCount) {
+        sequenceId = rawRow.getSequenceId();
+        this.columnCount = columnCount;
+        columnTypes = Collections.emptyList();
+        this.rawRow = rawRow;
+    }
+    
+    /**
+     * Get data.
+     * 
+     * <p>
+     * Raw row is decoded if it is not passed through.
+     * </p>
+     *
+     * @return data
+     */
+    public List<Object> getData() {
+        if (null == data) {
+            data = rawRow.decode(columnCount).getData();
+            rawRow = null;
+        }
+        return data;
+    }
+    
+    /**
+     * Get raw row which can be passed through to client without decoding.
+     *
+     * @return raw row
+     */
+    public Optional<RawTextResultSetRowPacket> getRawRow() {
+        return Optional.fromNullable(rawRow);
+    }
 }
@@ -20,6 +20,7 @@ package io.shardingsphere.proxy.backend.jdbc;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.MergeEngineFactory;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.dal.show.ProxyShowDatabasesMergedResult;
@@ -106,6 +107,7 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
             TableMetaDataLoader tableMetaDataLoader = new TableMetaDataLoader(ruleRegistry.getMetaData().getDataSource(), BackendExecutorContext.getInstance().getExecuteEngine(), 
                     new ProxyTableMetaDataConnectionManager(ruleRegistry.getBackendDataSource()), PROXY_CONTEXT.getMaxConnectionsSizePerQuery());
             ruleRegistry.getMetaData().getTable().put(logicTableName, tableMetaDataLoader.load(logicTableName, ruleRegistry.getShardingRule()));
+            ruleRegistry.getRouteResultCache().clear();
         }
         return merge(sqlStatement);
     }
@@ -120,10 +122,14 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
             return ((ExecuteUpdateResponse) executeResponse).merge();
         }
         mergedResult = MergeEngineFactory.newInstance(
-                ruleRegistry.getShardingRule(), ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, ruleRegistry.getMetaData().getTable()).merge();
+                ruleRegistry.getShardingRule(), ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, ruleRegistry.getMetaData().getTable(),
+                PROXY_CONTEXT.getShardingProperties()).merge();
         if (mergedResult instanceof ShowDatabasesMergedResult) {
             mergedResult = new ProxyShowDatabasesMergedResult(PROXY_CONTEXT.getSchemaNames());
         }
+        if (mergedResult instanceof CloseableMergedResult) {
+            executeEngine.getBackendConnection().add((CloseableMergedResult) mergedResult);
+        }
         QueryResponsePackets result = getQueryResponsePacketsWithoutDerivedColumns(((ExecuteQueryResponse) executeResponse).getQueryResponsePackets());
         currentSequenceId = result.getPackets().size();
         return result;
@@ -17,7 +17,13 @@
 
 package io.shardingsphere.proxy.backend.jdbc.connection;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.core.rule.DataSourceParameter;
+import io.shardingsphere.proxy.backend.netty.NettyBackendHandler;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -26,12 +32,20 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Backend connection.
+ * 
+ * <p>
+ * Connections are given back to session connection cache when closed if it is present, otherwise they are closed.
+ * Merged results are closed before result sets, so temporary files of them are deleted even if rows are not read completely.
+ * </p>
  *
  * @author zhaojun
  * @author zhangliang
@@ -42,12 +56,18 @@ public final class BackendConnection implements AutoCloseable {
     @Getter
     private final RuleRegistry ruleRegistry;
     
-    private final Collection<Connection> cachedConnections = new CopyOnWriteArrayList<>();
+    private final SessionConnectionCache sessionConnectionCache;
+    
+    private final Multimap<String, Connection> cachedConnections = Multimaps.synchronizedMultimap(ArrayListMultimap.<String, Connection>create());
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<NettyBackendHandler> cachedNettyBackendHandlers = new CopyOnWriteArrayList<>();
+    
+    private final Collection<CloseableMergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
     /**
      * Get connection of current thread datasource.
      *
@@ -56,11 +76,34 @@ public final class BackendConnection implements AutoCloseable {
      * @throws SQLException SQL exception
      */
     public Connection getConnection(final String dataSourceName) throws SQLException {
-        Connection result = ruleRegistry.getBackendDataSource().getConnection(dataSourceName);
-        cachedConnections.add(result);
+        List<Connection> idleConnections = pollIdleConnections(dataSourceName, 1);
+        Connection result = idleConnections.isEmpty() ? ruleRegistry.getBackendDataSource().getConnection(dataSourceName) : idleConnections.get(0);
+        cachedConnections.put(dataSourceName, result);
+        return result;
+    }
+    
+    /**
+     * Get connections of current thread datasource.
+     *
+     * @param dataSourceName data source name
+     * @param connectionSize size of connections to be get
+     * @return connections
+     * @throws SQLException SQL exception
+     */
+    public List<Connection> getConnections(final String dataSourceName, final int connectionSize) throws SQLException {
+        List<Connection> result = new ArrayList<>(connectionSize);
+        result.addAll(pollIdleConnections(dataSourceName, connectionSize));
+        if (result.size() < connectionSize) {
+            result.addAll(ruleRegistry.getBackendDataSource().getConnections(dataSourceName, connectionSize - result.size()));
+        }
+        cachedConnections.putAll(dataSourceName, result);
         return result;
     }
     
+    private List<Connection> pollIdleConnections(final String dataSourceName, final int connectionSize) {
+        return null == sessionConnectionCache ? new LinkedList<Connection>() : sessionConnectionCache.poll(ruleRegistry.getSchemaName(), dataSourceName, connectionSize);
+    }
+    
     /**
      * Add statement.
      *
@@ -79,6 +122,24 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add netty backend handler.
+     *
+     * @param nettyBackendHandler netty backend handler to be added
+     */
+    public void add(final NettyBackendHandler nettyBackendHandler) {
+        cachedNettyBackendHandlers.add(nettyBackendHandler);
+    }
+    
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final CloseableMergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
     /**
      * Cancel statement.
      */
@@ -94,6 +155,8 @@ public final class BackendConnection implements AutoCloseable {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
+        exceptions.addAll(closeNettyBackendHandlers());
+        exceptions.addAll(closeMergedResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         exceptions.addAll(closeConnections());
@@ -101,6 +164,30 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> closeNettyBackendHandlers() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (NettyBackendHandler each : cachedNettyBackendHandlers) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (CloseableMergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -127,16 +214,28 @@ public final class BackendConnection implements AutoCloseable {
     
     private Collection<SQLException> closeConnections() {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : cachedConnections) {
-            try {
-                each.close();
-            } catch (SQLException ex) {
-                result.add(ex);
+        synchronized (cachedConnections) {
+            for (Entry<String, Connection> entry : cachedConnections.entries()) {
+                try {
+                    if (!offerToSessionConnectionCache(entry.getKey(), entry.getValue())) {
+                        entry.getValue().close();
+                    }
+                } catch (final SQLException ex) {
+                    result.add(ex);
+                }
             }
         }
         return result;
     }
     
+    private boolean offerToSessionConnectionCache(final String dataSourceName, final Connection connection) throws SQLException {
+        if (null == sessionConnectionCache) {
+            return false;
+        }
+        DataSourceParameter dataSourceParameter = ruleRegistry.getDataSourceConfigurationMap().get(dataSourceName);
+        return null != dataSourceParameter && sessionConnectionCache.offer(ruleRegistry.getSchemaName(), dataSourceName, connection, dataSourceParameter.getMaxLifetime());
+    }
+    
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
         if (exceptions.isEmpty()) {
             return;
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+/**
+ * Binding type of backend connections to frontend connection.
+ *
+ * <p>
+ * STATEMENT: backend connections are borrowed from connection pool for each command and returned after it.
+ * Reusing last used connection without lock is left to connection pool, HikariCP borrows connection last used by current thread first.
+ * </p>
+ *
+ * <p>
+ * SESSION: backend connections are cached by frontend connection after each command and reused by next commands,
+ * they are returned to connection pool when frontend connection is closed.
+ * Cached connections are validated before reused if they are idle for a while, and given back to connection pool after max lifetime
+ * or if they are not in auto commit mode.
+ * </p>
+ */
+public enum ConnectionBindingType {
+    
+    STATEMENT, SESSION
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Backend connections cached by frontend connection.
+ *
+ * <p>
+ * Connections are given back by backend connection of each command, and polled by next commands without borrowing from connection pool.
+ * Polling and offering are lock free, so commands which overlap each other borrow extra connections instead of waiting.
+ * </p>
+ * 
+ * <p>
+ * Because cached connections bypass connection pool, the cache checks them as connection pool does:
+ * connections which are not in auto commit mode are not cached, so that connection pool resets them;
+ * connections which are cached longer than max lifetime are given back to connection pool;
+ * connections which are idle longer than {@code ALIVE_BYPASS_WINDOW_MILLISECONDS} are validated before reused.
+ * </p>
+ */
+public final class SessionConnectionCache {
+    
+    private static final long ALIVE_BYPASS_WINDOW_MILLISECONDS = 500L;
+    
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    
+    private final int maxIdleSizePerDataSource;
+    
+    private final ConcurrentMap<String, Queue<IdleConnection>> idleConnections = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<Connection, Long> cachedTimes = new ConcurrentHashMap<>();
+    
+    private volatile boolean closed;
+    
+    public SessionConnectionCache(final int maxIdleSizePerDataSource) {
+        this.maxIdleSizePerDataSource = Math.max(maxIdleSizePerDataSource, 1);
+    }
+    
+    /**
+     * Poll idle connections.
+     * 
+     * <p>
+     * Connections which are invalid are closed and skipped.
+     * </p>
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @param connectionSize max size of connections to be polled
+     * @return idle connections, size of them may be less than required
+     */
+    public List<Connection> poll(final String schemaName, final String dataSourceName, final int connectionSize) {
+        List<Connection> result = new LinkedList<>();
+        Queue<IdleConnection> queue = idleConnections.get(getKey(schemaName, dataSourceName));
+        if (null == queue) {
+            return result;
+        }
+        while (result.size() < connectionSize) {
+            IdleConnection each = queue.poll();
+            if (null == each) {
+                break;
+            }
+            if (isValid(each)) {
+                result.add(each.getConnection());
+            } else {
+                cachedTimes.remove(each.getConnection());
+                closeQuietly(each.getConnection());
+            }
+        }
+        return result;
+    }
+    
+    private boolean isValid(final IdleConnection idleConnection) {
+        if (System.currentTimeMillis() - idleConnection.getIdleTime() <= ALIVE_BYPASS_WINDOW_MILLISECONDS) {
+            return true;
+        }
+        try {
+            return idleConnection.getConnection().isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (final SQLException ex) {
+            return false;
+        }
+    }
+    
+    private void closeQuietly(final Connection connection) {
+        try {
+            connection.close();
+        } catch (final SQLException ignore) {
+        }
+    }
+    
+    /**
+     * Offer connection to be reused.
+     *
+     * @param schemaName schema name
+     * @param dataSourceName data source name
+     * @param connection connection to be reused
+     * @param maxLifetimeMilliseconds max milliseconds of connection to be cached, 0 means no limit
+     * @return offered or not, connection should be closed by caller if not offered
+     * @throws SQLException SQL exception
+     */
+    public boolean offer(final String schemaName, final String dataSourceName, final Connection connection, final long maxLifetimeMilliseconds) throws SQLException {
+        boolean result = false;
+        try {
+            result = offer0(getKey(schemaName, dataSourceName), connection, maxLifetimeMilliseconds);
+            return result;
+        } finally {
+            if (!result) {
+                cachedTimes.remove(connection);
+            }
+        }
+    }
+    
+    private boolean offer0(final String key, final Connection connection, final long maxLifetimeMilliseconds) throws SQLException {
+        if (closed || connection.isClosed() || !connection.getAutoCommit()) {
+            return false;
+        }
+        long currentTime = System.currentTimeMillis();
+        Long cachedTime = cachedTimes.putIfAbsent(connection, currentTime);
+        if (null != cachedTime && maxLifetimeMilliseconds > 0 && currentTime - cachedTime >= maxLifetimeMilliseconds) {
+            return false;
+        }
+        Queue<IdleConnection> queue = idleConnections.get(key);
+        if (null == queue) {
+            idleConnections.putIfAbsent(key, new ConcurrentLinkedQueue<IdleConnection>());
+            queue = idleConnections.get(key);
+        }
+        if (queue.size() >= maxIdleSizePerDataSource) {
+            return false;
+        }
+        IdleConnection idleConnection = new IdleConnection(connection, currentTime);
+        queue.offer(idleConnection);
+        return !closed || !queue.remove(idleConnection);
+    }
+    
+    private String getKey(final String schemaName, final String dataSourceName) {
+        return schemaName + "." + dataSourceName;
+    }
+    
+    /**
+     * Close idle connections and stop caching.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        closed = true;
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (Queue<IdleConnection> each : idleConnections.values()) {
+            IdleConnection idleConnection = each.poll();
+            while (null != idleConnection) {
+                try {
+                    idleConnection.getConnection().close();
+                } catch (final SQLException ex) {
+                    exceptions.add(ex);
+                }
+                idleConnection = each.poll();
+            }
+        }
+        cachedTimes.clear();
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        for (SQLException each : exceptions) {
+            ex.setNextException(each);
+        }
+        throw ex;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class IdleConnection {
+        
+        private final Connection connection;
+        
+        private final long idleTime;
+    }
+}
@@ -17,12 +17,18 @@
 
 package io.shardingsphere.proxy.backend.jdbc.datasource;
 
+import com.google.common.base.Optional;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.event.ShardingEventBusInstance;
+import io.shardingsphere.core.event.connection.GetConnectionEvent;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.proxy.backend.BackendDataSource;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.config.RuleRegistry;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import javax.sql.DataSource;
@@ -30,9 +36,17 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Backend data source for JDBC.
@@ -48,9 +62,13 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     
     private final Map<String, DataSource> dataSourceMap;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Lock> dataSourceLocks;
+    
     public JDBCBackendDataSource(final RuleRegistry ruleRegistry) {
         this.ruleRegistry = ruleRegistry;
         dataSourceMap = createDataSourceMap();
+        dataSourceLocks = createDataSourceLocks();
     }
     
     private Map<String, DataSource> createDataSourceMap() {
@@ -60,6 +78,14 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
         return getNormalDataSourceMap(transactionType, dataSourceParameters);
     }
     
+    private Map<String, Lock> createDataSourceLocks() {
+        Map<String, Lock> result = new HashMap<>(dataSourceMap.size(), 1);
+        for (String each : dataSourceMap.keySet()) {
+            result.put(each, new ReentrantLock());
+        }
+        return result;
+    }
+    
     private Map<String, DataSource> getNormalDataSourceMap(final TransactionType transactionType, final Map<String, DataSourceParameter> dataSourceParameters) {
         Map<String, DataSource> result = new LinkedHashMap<>(dataSourceParameters.size());
         for (Entry<String, DataSourceParameter> entry : dataSourceParameters.entrySet()) {
@@ -91,7 +117,126 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
      * @throws SQLException SQL exception
      */
     public Connection getConnection(final String dataSourceName) throws SQLException {
-        return getDataSourceMap().get(dataSourceName).getConnection();
+        return getConnections(dataSourceName, 1).get(0);
+    }
+    
+    /**
+     * Get connections.
+     * 
+     * <p>
+     * Connections of same data source are acquired one query at a time, and all or none of them are acquired.
+     * This prevents queries which hold part of connections from waiting for each other when connection pool exhausted.
+     * Callers acquire connections of several data sources in order of data source name, so waiting for connections never forms a cycle.
+     * Waiting for other queries and acquiring connections share one deadline of backend connection timeout,
+     * acquiring each connection is bounded by connection timeout of connection pool too.
+     * One get connection event is posted for all of the connections.
+     * </p>
+     *
+     * @param dataSourceName data source name
+     * @param connectionSize size of connections to be get
+     * @return connections
+     * @throws SQLException SQL exception
+     */
+    public List<Connection> getConnections(final String dataSourceName, final int connectionSize) throws SQLException {
+        if (!ShardingEventBusInstance.getInstance().isSubscribed(GetConnectionEvent.class)) {
+            return getConnections0(dataSourceName, connectionSize);
+        }
+        GetConnectionEvent event = new GetConnectionEvent(dataSourceName);
+        ShardingEventBusInstance.getInstance().post(event);
+        try {
+            List<Connection> result = getConnections0(dataSourceName, connectionSize);
+            event.setUrl(ruleRegistry.getDataSourceConfigurationMap().get(dataSourceName).getUrl());
+            event.setExecuteSuccess();
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            event.setExecuteFailure(ex);
+            throw ex;
+        } finally {
+            ShardingEventBusInstance.getInstance().post(event);
+        }
+    }
+    
+    private List<Connection> getConnections0(final String dataSourceName, final int connectionSize) throws SQLException {
+        DataSource dataSource = getDataSourceMap().get(dataSourceName);
+        if (1 == connectionSize) {
+            return Collections.singletonList(dataSource.getConnection());
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(ProxyContext.getInstance().getBackendNIOConfig().getConnectionTimeoutSeconds());
+        Lock lock = dataSourceLocks.get(dataSourceName);
+        if (!tryLock(lock, deadlineNanos)) {
+            throw newTimeoutException(dataSourceName, connectionSize);
+        }
+        try {
+            return createConnections(dataSourceName, dataSource, connectionSize, deadlineNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private boolean tryLock(final Lock lock, final long deadlineNanos) throws SQLException {
+        try {
+            return lock.tryLock(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize, final long deadlineNanos) throws SQLException {
+        List<Connection> result = new ArrayList<>(connectionSize);
+        try {
+            for (int i = 0; i < connectionSize; i++) {
+                if (0 != i && System.nanoTime() - deadlineNanos > 0) {
+                    throw newTimeoutException(dataSourceName, connectionSize);
+                }
+                result.add(dataSource.getConnection());
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            closeConnections(result, ex);
+            throw ex;
+        }
+        return result;
+    }
+    
+    private SQLTimeoutException newTimeoutException(final String dataSourceName, final int connectionSize) {
+        return new SQLTimeoutException(String.format("Can not get %d connections of data source `%s` in %d seconds.", 
+                connectionSize, dataSourceName, ProxyContext.getInstance().getBackendNIOConfig().getConnectionTimeoutSeconds()));
+    }
+    
+    private void closeConnections(final List<Connection> connections, final Exception cause) {
+        for (Connection each : connections) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                cause.addSuppressed(ex);
+            }
+        }
+    }
+    
+    /**
+     * Get available connection size.
+     *
+     * <p>
+     * Available connection size is maximum pool size minus active connections and threads awaiting connection.
+     * It is absent if the data source is not pooled by {@code HikariDataSource}.
+     * </p>
+     *
+     * @param dataSourceName data source name
+     * @return available connection size
+     */
+    public Optional<Integer> getAvailableConnectionSize(final String dataSourceName) {
+        DataSource dataSource = getDataSourceMap().get(dataSourceName);
+        if (!(dataSource instanceof HikariDataSource)) {
+            return Optional.absent();
+        }
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+        HikariPoolMXBean hikariPoolMXBean = hikariDataSource.getHikariPoolMXBean();
+        if (null == hikariPoolMXBean) {
+            return Optional.of(hikariDataSource.getMaximumPoolSize());
+        }
+        return Optional.of(Math.max(hikariDataSource.getMaximumPoolSize() - hikariPoolMXBean.getActiveConnections() - hikariPoolMXBean.getThreadsAwaitingConnection(), 0));
     }
     
     private Map<String, DataSource> getDataSourceMap() {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.execute;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.executor.sql.prepare.ConnectionModeSelector;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.proxy.backend.jdbc.datasource.JDBCBackendDataSource;
+import io.shardingsphere.proxy.backend.jdbc.execute.memory.ConnectionStrictlyExecuteEngine;
+import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteResponse;
+import io.shardingsphere.proxy.backend.jdbc.execute.stream.MemoryStrictlyExecuteEngine;
+import io.shardingsphere.proxy.backend.jdbc.wrapper.JDBCExecutorWrapper;
+import io.shardingsphere.proxy.config.ProxyContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adaptive execute engine.
+ * 
+ * <p>Select memory strictly or connection strictly execute engine for each route result.</p>
+ */
+public final class AdaptiveExecuteEngine extends JDBCExecuteEngine {
+    
+    private final JDBCExecuteEngine memoryStrictlyExecuteEngine;
+    
+    private final JDBCExecuteEngine connectionStrictlyExecuteEngine;
+    
+    private JDBCExecuteEngine currentExecuteEngine;
+    
+    public AdaptiveExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
+        super(backendConnection, jdbcExecutorWrapper);
+        memoryStrictlyExecuteEngine = new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
+        connectionStrictlyExecuteEngine = new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
+        currentExecuteEngine = memoryStrictlyExecuteEngine;
+    }
+    
+    @Override
+    public ExecuteResponse execute(final SQLRouteResult routeResult) throws SQLException {
+        ConnectionMode connectionMode = ConnectionModeSelector.select(
+                ConnectionMode.ADAPTIVE, routeResult.getRouteUnits(), ProxyContext.getInstance().getMaxConnectionsSizePerQuery(), getAvailableConnectionSizes(routeResult));
+        currentExecuteEngine = ConnectionMode.MEMORY_STRICTLY == connectionMode ? memoryStrictlyExecuteEngine : connectionStrictlyExecuteEngine;
+        return currentExecuteEngine.execute(routeResult);
+    }
+    
+    private Map<String, Integer> getAvailableConnectionSizes(final SQLRouteResult routeResult) {
+        JDBCBackendDataSource backendDataSource = getBackendConnection().getRuleRegistry().getBackendDataSource();
+        Map<String, Integer> result = new HashMap<>();
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            if (result.containsKey(each.getDataSourceName())) {
+                continue;
+            }
+            Optional<Integer> availableConnectionSize = backendDataSource.getAvailableConnectionSize(each.getDataSourceName());
+            if (availableConnectionSize.isPresent()) {
+                result.put(each.getDataSourceName(), availableConnectionSize.get());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    protected QueryResult createQueryResult(final ResultSet resultSet) throws SQLException {
+        return currentExecuteEngine.createQueryResult(resultSet);
+    }
+}
@@ -17,7 +17,6 @@
 
 package io.shardingsphere.proxy.backend.jdbc.execute;
 
-import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.execute.memory.ConnectionStrictlyExecuteEngine;
 import io.shardingsphere.proxy.backend.jdbc.execute.stream.MemoryStrictlyExecuteEngine;
@@ -48,8 +47,7 @@ public final class JDBCExecuteEngineFactory {
      */
     public static JDBCExecuteEngine createTextProtocolInstance(final BackendConnection backendConnection) {
         JDBCExecutorWrapper jdbcExecutorWrapper = new StatementExecutorWrapper(backendConnection.getRuleRegistry());
-        return ConnectionMode.MEMORY_STRICTLY == PROXY_CONTEXT.getConnectionMode()
-                ? new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper) : new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
+        return createInstance(backendConnection, jdbcExecutorWrapper);
     }
     
     /**
@@ -61,7 +59,17 @@ public final class JDBCExecuteEngineFactory {
      */
     public static JDBCExecuteEngine createBinaryProtocolInstance(final List<Object> parameters, final BackendConnection backendConnection) {
         JDBCExecutorWrapper jdbcExecutorWrapper = new PreparedStatementExecutorWrapper(backendConnection.getRuleRegistry(), parameters);
-        return ConnectionMode.MEMORY_STRICTLY == PROXY_CONTEXT.getConnectionMode()
-                ? new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper) : new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
+        return createInstance(backendConnection, jdbcExecutorWrapper);
+    }
+    
+    private static JDBCExecuteEngine createInstance(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
+        switch (PROXY_CONTEXT.getConnectionMode()) {
+            case MEMORY_STRICTLY:
+                return new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
+            case ADAPTIVE:
+                return new AdaptiveExecuteEngine(backendConnection, jdbcExecutorWrapper);
+            default:
+                return new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
+        }
     }
 }
@@ -49,6 +49,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -105,8 +106,8 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
         private final boolean isReturnGeneratedKeys;
         
         @Override
-        public Connection getConnection(final String dataSourceName) throws SQLException {
-            return getBackendConnection().getConnection(dataSourceName);
+        public List<Connection> getConnections(final String dataSourceName, final int connectionSize) throws SQLException {
+            return getBackendConnection().getConnections(dataSourceName, connectionSize);
         }
         
         @Override
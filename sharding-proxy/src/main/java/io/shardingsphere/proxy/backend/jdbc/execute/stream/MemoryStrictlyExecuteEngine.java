@@ -46,9 +46,13 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 
 /**
  * Memory strictly execute engine.
@@ -94,11 +98,22 @@ public final class MemoryStrictlyExecuteEngine extends JDBCExecuteEngine {
     }
     
     private List<Connection> getConnections(final SQLRouteResult routeResult) throws SQLException {
+        Map<String, Iterator<Connection>> dataSourceConnections = new HashMap<>();
+        for (Entry<String, Integer> entry : getConnectionSizes(routeResult).entrySet()) {
+            dataSourceConnections.put(entry.getKey(), getBackendConnection().getConnections(entry.getKey(), entry.getValue()).iterator());
+        }
         List<Connection> result = new ArrayList<>(routeResult.getRouteUnits().size());
-        synchronized (MemoryStrictlyExecuteEngine.class) {
-            for (RouteUnit each : routeResult.getRouteUnits()) {
-                result.add(getBackendConnection().getConnection(each.getDataSourceName()));
-            }
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            result.add(dataSourceConnections.get(each.getDataSourceName()).next());
+        }
+        return result;
+    }
+    
+    private Map<String, Integer> getConnectionSizes(final SQLRouteResult routeResult) {
+        Map<String, Integer> result = new TreeMap<>();
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            Integer connectionSize = result.get(each.getDataSourceName());
+            result.put(each.getDataSourceName(), null == connectionSize ? 1 : connectionSize + 1);
         }
         return result;
     }
@@ -18,9 +18,14 @@
 package io.shardingsphere.proxy.backend.netty;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.pool.SimpleChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.MergeEngineFactory;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
@@ -28,8 +33,10 @@ import io.shardingsphere.core.merger.dal.show.ProxyShowDatabasesMergedResult;
 import io.shardingsphere.core.merger.dal.show.ShowDatabasesMergedResult;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
 import io.shardingsphere.core.parsing.SQLJudgeEngine;
+import io.shardingsphere.core.parsing.parser.constant.DerivedColumn;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.UseStatement;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.routing.StatementRoutingEngine;
@@ -49,6 +56,7 @@ import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -59,7 +67,6 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -104,6 +111,10 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private MergedResult mergedResult;
     
+    private MySQLQueryResult passthroughQueryResult;
+    
+    private RawTextResultSetRowPacket currentRawRow;
+    
     @Override
     protected CommandResponsePackets execute0() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
         return ruleRegistry.isMasterSlaveOnly() ? executeForMasterSlave() : executeForSharding();
@@ -116,20 +127,14 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         }
         String dataSourceName = new MasterSlaveRouter(ruleRegistry.getMasterSlaveRule(), PROXY_CONTEXT.isShowSQL()).route(sql).iterator().next();
         synchronizedFuture = new SynchronizedFuture(1);
-        FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
         executeSQL(dataSourceName, sql);
-        List<QueryResult> queryResults = synchronizedFuture.get(PROXY_CONTEXT.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
-        FutureRegistry.getInstance().delete(connectionId);
-        List<CommandResponsePackets> packets = new LinkedList<>();
-        for (QueryResult each : queryResults) {
-            packets.add(((MySQLQueryResult) each).getCommandResponsePackets());
-        }
-        return merge(sqlStatement, packets, queryResults);
+        List<QueryResult> queryResults = getQueryResults();
+        return merge(sqlStatement, getCommandResponsePackets(queryResults), queryResults);
     }
     
     private CommandResponsePackets executeForSharding() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
         StatementRoutingEngine routingEngine = new StatementRoutingEngine(
-                ruleRegistry.getShardingRule(), ruleRegistry.getMetaData().getTable(), databaseType, PROXY_CONTEXT.isShowSQL(), ruleRegistry.getMetaData().getDataSource());
+                ruleRegistry.getShardingRule(), ruleRegistry.getMetaData().getTable(), databaseType, PROXY_CONTEXT.isShowSQL(), ruleRegistry.getMetaData().getDataSource(), ruleRegistry.getParsingResultCache());
         SQLRouteResult routeResult = routingEngine.route(sql);
         if (routeResult.getSqlStatement() != null && routeResult.getSqlStatement() instanceof UseStatement) {
             return handleUseStatement((UseStatement) routeResult.getSqlStatement(), frontendHandler);
@@ -138,25 +143,12 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
             return new CommandResponsePackets(new OKPacket(1));
         }
         synchronizedFuture = new SynchronizedFuture(routeResult.getRouteUnits().size());
-        FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
         for (RouteUnit each : routeResult.getRouteUnits()) {
             executeSQL(each.getDataSourceName(), each.getSqlUnit().getSql());
         }
-        List<QueryResult> queryResults = synchronizedFuture.get(PROXY_CONTEXT.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
-        FutureRegistry.getInstance().delete(connectionId);
-        List<CommandResponsePackets> packets = new ArrayList<>(queryResults.size());
-        for (QueryResult each : queryResults) {
-            MySQLQueryResult queryResult = (MySQLQueryResult) each;
-            if (0 == currentSequenceId) {
-                currentSequenceId = queryResult.getCurrentSequenceId();
-            }
-            if (0 == columnCount) {
-                columnCount = queryResult.getColumnCount();
-            }
-            packets.add(queryResult.getCommandResponsePackets());
-        }
+        List<QueryResult> queryResults = getQueryResults();
         SQLStatement sqlStatement = routeResult.getSqlStatement();
-        CommandResponsePackets result = merge(sqlStatement, packets, queryResults);
+        CommandResponsePackets result = merge(sqlStatement, getCommandResponsePackets(queryResults), queryResults);
         if (SQLType.DDL == sqlStatement.getType() && !sqlStatement.getTables().isEmpty()) {
             refreshTableMetaData(sqlStatement.getTables().getSingleTableName());
         }
@@ -168,12 +160,63 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
             channelMap.put(dataSourceName, new ArrayList<Channel>());
         }
         SimpleChannelPool pool = CLIENT_MANAGER.getBackendNettyClient(ruleRegistry.getSchemaName()).getPoolMap().get(dataSourceName);
-        Channel channel = pool.acquire().get(PROXY_CONTEXT.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
+        Channel channel = acquireChannel(pool);
         channelMap.get(dataSourceName).add(channel);
         ChannelRegistry.getInstance().putConnectionId(channel.id().asShortText(), connectionId);
+        FutureRegistry.getInstance().put(channel, synchronizedFuture);
         channel.writeAndFlush(new ComQueryPacket(sequenceId, sql));
     }
     
+    private Channel acquireChannel(final SimpleChannelPool pool) throws InterruptedException, ExecutionException, TimeoutException {
+        Future<Channel> acquireFuture = pool.acquire();
+        try {
+            return acquireFuture.get(PROXY_CONTEXT.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
+            acquireFuture.addListener(new FutureListener<Channel>() {
+                
+                @Override
+                public void operationComplete(final Future<Channel> future) {
+                    if (future.isSuccess()) {
+                        pool.release(future.getNow());
+                    }
+                }
+            });
+            channelClose();
+            throw ex;
+        }
+    }
+    
+    // TODO wait for responses without blocking user thread, let backend channel reads drive merging and writing to frontend
+    private List<QueryResult> getQueryResults() throws InterruptedException, TimeoutException {
+        try {
+            return synchronizedFuture.get(PROXY_CONTEXT.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (final InterruptedException | TimeoutException ex) {
+            channelClose();
+            throw ex;
+        } finally {
+            for (List<Channel> channels : channelMap.values()) {
+                for (Channel each : channels) {
+                    FutureRegistry.getInstance().delete(each);
+                }
+            }
+        }
+    }
+    
+    private List<CommandResponsePackets> getCommandResponsePackets(final List<QueryResult> queryResults) {
+        List<CommandResponsePackets> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            MySQLQueryResult queryResult = (MySQLQueryResult) each;
+            if (0 == currentSequenceId) {
+                currentSequenceId = queryResult.getCurrentSequenceId();
+            }
+            if (0 == columnCount) {
+                columnCount = queryResult.getColumnCount();
+            }
+            result.add(queryResult.getCommandResponsePackets());
+        }
+        return result;
+    }
+    
     private CommandResponsePackets merge(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         CommandResponsePackets headPackets = new CommandResponsePackets();
         for (CommandResponsePackets each : packets) {
@@ -210,8 +253,13 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     }
     
     private CommandResponsePackets mergeDQLorDAL(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
+        if (isPassthrough(sqlStatement, queryResults)) {
+            passthroughQueryResult = (MySQLQueryResult) queryResults.get(0);
+            return packets.get(0);
+        }
         try {
-            mergedResult = MergeEngineFactory.newInstance(ruleRegistry.getShardingRule(), queryResults, sqlStatement, ruleRegistry.getMetaData().getTable()).merge();
+            mergedResult = MergeEngineFactory.newInstance(
+                    ruleRegistry.getShardingRule(), queryResults, sqlStatement, ruleRegistry.getMetaData().getTable(), PROXY_CONTEXT.getShardingProperties()).merge();
             if (mergedResult instanceof ShowDatabasesMergedResult) {
                 mergedResult = new ProxyShowDatabasesMergedResult(PROXY_CONTEXT.getSchemaNames());
             }
@@ -221,16 +269,42 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         return packets.get(0);
     }
     
+    private boolean isPassthrough(final SQLStatement sqlStatement, final List<QueryResult> queryResults) {
+        if (SQLType.DQL != sqlStatement.getType() || 1 != queryResults.size()) {
+            return false;
+        }
+        if (sqlStatement instanceof SelectStatement
+                && (!((SelectStatement) sqlStatement).getGroupByItems().isEmpty() || !((SelectStatement) sqlStatement).getAggregationSelectItems().isEmpty())) {
+            return false;
+        }
+        MySQLQueryResult queryResult = (MySQLQueryResult) queryResults.get(0);
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            if (DerivedColumn.isDerivedColumn(queryResult.getColumnLabel(columnIndex))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     // TODO :jiaqi use sql packet to refresh meta data
     // TODO refresh table meta data by SQL parse result
     private void refreshTableMetaData(final String logicTableName) throws SQLException {
         TableMetaDataLoader tableMetaDataLoader = new TableMetaDataLoader(ruleRegistry.getMetaData().getDataSource(), 
                 BackendExecutorContext.getInstance().getExecuteEngine(), new ProxyTableMetaDataConnectionManager(ruleRegistry.getBackendDataSource()), PROXY_CONTEXT.getMaxConnectionsSizePerQuery());
         ruleRegistry.getMetaData().getTable().put(logicTableName, tableMetaDataLoader.load(logicTableName, ruleRegistry.getShardingRule()));
+        ruleRegistry.getRouteResultCache().clear();
     }
     
     @Override
     public boolean next() throws SQLException {
+        if (null != passthroughQueryResult) {
+            currentRawRow = passthroughQueryResult.nextRawRow();
+            if (null == currentRawRow) {
+                channelRelease();
+                return false;
+            }
+            return true;
+        }
         if (null == mergedResult || !mergedResult.next()) {
             channelRelease();
             return false;
@@ -240,6 +314,9 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     @Override
     public ResultPacket getResultValue() throws SQLException {
+        if (null != passthroughQueryResult) {
+            return new ResultPacket(currentRawRow.withSequenceId(++currentSequenceId), columnCount);
+        }
         List<Object> data = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             data.add(mergedResult.getValue(columnIndex, Object.class));
@@ -247,11 +324,62 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         return new ResultPacket(++currentSequenceId, data, columnCount, Collections.<ColumnType>emptyList());
     }
     
+    /**
+     * Close backend handler.
+     * 
+     * <p>
+     * Merged result is closed, raw bytes of rows which are not consumed are released, and backend channels are given back to pool.
+     * </p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        try {
+            if (mergedResult instanceof CloseableMergedResult) {
+                ((CloseableMergedResult) mergedResult).close();
+            }
+        } finally {
+            channelRelease();
+        }
+    }
+    
     private void channelRelease() {
+        closeQueryResults();
         for (Entry<String, List<Channel>> entry : channelMap.entrySet()) {
             for (Channel each : entry.getValue()) {
+                each.config().setAutoRead(true);
                 CLIENT_MANAGER.getBackendNettyClient(ruleRegistry.getSchemaName()).getPoolMap().get(entry.getKey()).release(each);
             }
         }
+        channelMap.clear();
+    }
+    
+    private void channelClose() {
+        closeQueryResults();
+        for (Entry<String, List<Channel>> entry : channelMap.entrySet()) {
+            final SimpleChannelPool pool = CLIENT_MANAGER.getBackendNettyClient(ruleRegistry.getSchemaName()).getPoolMap().get(entry.getKey());
+            for (final Channel each : entry.getValue()) {
+                FutureRegistry.getInstance().delete(each);
+                each.close().addListener(new ChannelFutureListener() {
+                    
+                    @Override
+                    public void operationComplete(final ChannelFuture future) {
+                        pool.release(each);
+                    }
+                });
+            }
+        }
+        channelMap.clear();
+    }
+    
+    private void closeQueryResults() {
+        if (null == synchronizedFuture) {
+            return;
+        }
+        synchronized (synchronizedFuture.getResponses()) {
+            for (QueryResult each : synchronizedFuture.getResponses()) {
+                ((MySQLQueryResult) each).close();
+            }
+        }
     }
 }
@@ -18,12 +18,15 @@
 package io.shardingsphere.proxy.backend.netty.client.response.mysql;
 
 import com.google.common.collect.Lists;
+import io.netty.channel.Channel;
+import io.netty.util.ReferenceCountUtil;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import lombok.Getter;
@@ -39,6 +42,12 @@ import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * MySQL packet query result.
+ * 
+ * <p>
+ * Rows are buffered until they are consumed. Backend channel stops reading if too many rows are buffered,
+ * and continues reading after half of them are consumed.
+ * Buffered rows hold pooled raw bytes, query result should be closed if it is not fully consumed.
+ * </p>
  *
  * @author wangkai
  * @author linjiaqi
@@ -46,6 +55,8 @@ import java.util.concurrent.LinkedBlockingQueue;
 @Slf4j
 public final class MySQLQueryResult implements QueryResult {
     
+    private static final int MAX_BUFFERED_ROWS = 1024;
+    
     @Getter
     private final CommandResponsePackets commandResponsePackets;
     
@@ -59,6 +70,12 @@ public final class MySQLQueryResult implements QueryResult {
     
     private final BlockingQueue<MySQLPacket> resultSet;
     
+    private final Channel channel;
+    
+    private boolean readPaused;
+    
+    private boolean closed;
+    
     @Getter
     private int currentSequenceId;
     
@@ -74,9 +91,10 @@ public final class MySQLQueryResult implements QueryResult {
         columnLabelAndIndexMap = null;
         columnDefinitions = null;
         resultSet = null;
+        channel = null;
     }
     
-    public MySQLQueryResult(final MySQLPacketPayload payload) {
+    public MySQLQueryResult(final MySQLPacketPayload payload, final Channel channel) {
         FieldCountPacket fieldCountPacket = new FieldCountPacket(payload);
         commandResponsePackets = new CommandResponsePackets(fieldCountPacket);
         columnCount = fieldCountPacket.getColumnCount();
@@ -85,6 +103,7 @@ public final class MySQLQueryResult implements QueryResult {
         columnDefinitions = Lists.newArrayListWithCapacity(fieldCountPacket.getColumnCount());
         currentSequenceId = fieldCountPacket.getSequenceId();
         resultSet = new LinkedBlockingQueue<>();
+        this.channel = channel;
     }
     
     /**
@@ -121,10 +140,18 @@ public final class MySQLQueryResult implements QueryResult {
     /**
      * Add text result set row.
      * 
-     * @param textResultSetRow text result set row
+     * @param textResultSetRow text result set row with raw bytes, which are decoded when consumed by {@code next()}
      */
-    public void addTextResultSetRow(final TextResultSetRowPacket textResultSetRow) {
+    public synchronized void addTextResultSetRow(final RawTextResultSetRowPacket textResultSetRow) {
+        if (closed) {
+            textResultSetRow.release();
+            return;
+        }
         put(textResultSetRow);
+        if (!readPaused && resultSet.size() >= MAX_BUFFERED_ROWS) {
+            readPaused = true;
+            channel.config().setAutoRead(false);
+        }
     }
     
     /**
@@ -155,14 +182,58 @@ public final class MySQLQueryResult implements QueryResult {
     
     @Override
     public boolean next() {
+        RawTextResultSetRowPacket rawRow = nextRawRow();
+        currentRow = null == rawRow ? null : rawRow.decode(columnCount);
+        return null != currentRow;
+    }
+    
+    /**
+     * Go to next row without decoding it.
+     * 
+     * <p>
+     * Caller should release raw bytes of returned row.
+     * </p>
+     * 
+     * @return next row with raw bytes, null if no more rows
+     */
+    public RawTextResultSetRowPacket nextRawRow() {
+        resumeReadIfNecessary();
         try {
             MySQLPacket mysqlPacket = resultSet.take();
-            currentRow = (mysqlPacket instanceof TextResultSetRowPacket) ? (TextResultSetRowPacket) mysqlPacket : null;
-            return null != currentRow;
+            return mysqlPacket instanceof RawTextResultSetRowPacket ? (RawTextResultSetRowPacket) mysqlPacket : null;
         } catch (final InterruptedException ex) {
             log.error(ex.getMessage(), ex);
         }
-        return false;
+        return null;
+    }
+    
+    private synchronized void resumeReadIfNecessary() {
+        if (readPaused && resultSet.size() <= MAX_BUFFERED_ROWS / 2) {
+            readPaused = false;
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    /**
+     * Close query result and release raw bytes of buffered rows.
+     * 
+     * <p>
+     * Rows received after closed are released immediately, so backend channel can be reused after rest of rows are received.
+     * </p>
+     */
+    public synchronized void close() {
+        if (null == resultSet) {
+            return;
+        }
+        closed = true;
+        MySQLPacket each;
+        while (null != (each = resultSet.poll())) {
+            ReferenceCountUtil.release(each);
+        }
+        if (readPaused) {
+            readPaused = false;
+            channel.config().setAutoRead(true);
+        }
     }
     
     @Override
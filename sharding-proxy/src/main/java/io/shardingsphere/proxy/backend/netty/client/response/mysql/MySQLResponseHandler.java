@@ -24,13 +24,14 @@ import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.proxy.backend.netty.client.response.ResponseHandler;
 import io.shardingsphere.proxy.backend.netty.future.FutureRegistry;
+import io.shardingsphere.proxy.backend.netty.future.SynchronizedFuture;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerInfo;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -85,7 +86,7 @@ public final class MySQLResponseHandler extends ResponseHandler {
             byte[] authResponse = securePasswordAuthentication(
                     (null == dataSourceParameter.getPassword() ? "" : dataSourceParameter.getPassword()).getBytes(), handshakePacket.getAuthPluginData().getAuthPluginData());
             HandshakeResponse41Packet handshakeResponse41Packet = new HandshakeResponse41Packet(
-                    handshakePacket.getSequenceId() + 1, CapabilityFlag.calculateHandshakeCapabilityFlagsLower(), 16777215, ServerInfo.CHARSET,
+                    handshakePacket.getSequenceId() + 1, CapabilityFlag.calculateHandshakeResponseCapabilityFlags(), 16777215, ServerInfo.CHARSET,
                     dataSourceParameter.getUsername(), authResponse, dataSourceMetaData.getSchemeName());
             ChannelRegistry.getInstance().putConnectionId(context.channel().id().asShortText(), handshakePacket.getConnectionId());
             context.writeAndFlush(handshakeResponse41Packet);
@@ -167,8 +168,9 @@ public final class MySQLResponseHandler extends ResponseHandler {
     
     private void setResponse(final ChannelHandlerContext context) {
         int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-        if (null != FutureRegistry.getInstance().get(connectionId)) {
-            FutureRegistry.getInstance().get(connectionId).setResponse(resultMap.get(connectionId));
+        SynchronizedFuture synchronizedFuture = FutureRegistry.getInstance().get(context.channel());
+        if (null != synchronizedFuture) {
+            synchronizedFuture.setResponse(resultMap.get(connectionId));
         }
     }
     
@@ -177,12 +179,12 @@ public final class MySQLResponseHandler extends ResponseHandler {
         MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
         MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
         if (null == mysqlQueryResult) {
-            mysqlQueryResult = new MySQLQueryResult(payload);
+            mysqlQueryResult = new MySQLQueryResult(payload, context.channel());
             resultMap.put(connectionId, mysqlQueryResult);
         } else if (mysqlQueryResult.needColumnDefinition()) {
             mysqlQueryResult.addColumnDefinition(new ColumnDefinition41Packet(payload));
         } else {
-            mysqlQueryResult.addTextResultSetRow(new TextResultSetRowPacket(payload, mysqlQueryResult.getColumnCount()));
+            mysqlQueryResult.addTextResultSetRow(new RawTextResultSetRowPacket(payload));
         }
     }
 }
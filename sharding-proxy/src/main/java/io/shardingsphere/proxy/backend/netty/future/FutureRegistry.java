@@ -17,15 +17,17 @@
 
 package io.shardingsphere.proxy.backend.netty.future;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Future registry.
+ * 
+ * <p>
+ * Future is held by attribute of backend channel which the SQL is sent to, then response handler of the channel finds it without lookup of global map.
+ * </p>
  *
  * @author wangkai
  * @author zhangliang
@@ -35,8 +37,7 @@ public final class FutureRegistry {
     
     private static final FutureRegistry INSTANCE = new FutureRegistry();
     
-    //TODO expire time should be set.
-    private final Cache<Integer, SynchronizedFuture> resultCache = CacheBuilder.newBuilder().expireAfterWrite(60, TimeUnit.SECONDS).build();
+    private static final AttributeKey<SynchronizedFuture> FUTURE_KEY = AttributeKey.valueOf(SynchronizedFuture.class.getName());
     
     /**
      * Get instance of future registry.
@@ -48,31 +49,31 @@ public final class FutureRegistry {
     }
     
     /**
-     * Put synchronized future by connection ID.
+     * Put synchronized future by backend channel.
      *
-     * @param connectionId database connection ID
+     * @param channel backend channel
      * @param synchronizedFuture synchronized future
      */
-    public void put(final int connectionId, final SynchronizedFuture synchronizedFuture) {
-        resultCache.put(connectionId, synchronizedFuture);
+    public void put(final Channel channel, final SynchronizedFuture synchronizedFuture) {
+        channel.attr(FUTURE_KEY).set(synchronizedFuture);
     }
     
     /**
-     * Get synchronized future by connection ID.
+     * Get synchronized future by backend channel.
      *
-     * @param connectionId database connection ID
+     * @param channel backend channel
      * @return synchronized future
      */
-    public SynchronizedFuture get(final int connectionId) {
-        return resultCache.getIfPresent(connectionId);
+    public SynchronizedFuture get(final Channel channel) {
+        return channel.attr(FUTURE_KEY).get();
     }
     
     /**
-     * Delete synchronized future by connection ID.
+     * Delete synchronized future by backend channel.
      *
-     * @param connectionId database connection ID
+     * @param channel backend channel
      */
-    public void delete(final int connectionId) {
-        resultCache.invalidate(connectionId);
+    public void delete(final Channel channel) {
+        channel.attr(FUTURE_KEY).set(null);
     }
 }
@@ -18,13 +18,15 @@
 package io.shardingsphere.proxy.backend.netty.future;
 
 import io.shardingsphere.core.merger.QueryResult;
-import lombok.extern.slf4j.Slf4j;
+import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Synchronized future for get multiple netty returns.
@@ -32,18 +34,18 @@ import java.util.concurrent.TimeUnit;
  * @author wangkai
  * @author linjiaqi
  */
-@Slf4j
 public final class SynchronizedFuture implements Future<List<QueryResult>> {
     
     private final CountDownLatch latch;
     
+    @Getter
     private final List<QueryResult> responses;
     
-    private boolean isDone;
+    private volatile boolean isDone;
     
     public SynchronizedFuture(final int resultSize) {
         latch = new CountDownLatch(resultSize);
-        responses = new ArrayList<>(resultSize);
+        responses = Collections.synchronizedList(new ArrayList<QueryResult>(resultSize));
     }
     
     @Override
@@ -73,15 +75,20 @@ public final class SynchronizedFuture implements Future<List<QueryResult>> {
      * @param timeout wait timeout
      * @param unit time unit
      * @return responses
+     * @throws InterruptedException interrupted exception if current thread is interrupted while waiting, interrupt flag of current thread is kept
+     * @throws TimeoutException timeout exception if not all of responses are received
      */
     @Override
-    public List<QueryResult> get(final long timeout, final TimeUnit unit) {
+    public List<QueryResult> get(final long timeout, final TimeUnit unit) throws InterruptedException, TimeoutException {
         try {
-            latch.await(timeout, unit);
-            isDone = true;
+            if (!latch.await(timeout, unit)) {
+                throw new TimeoutException(String.format("Received %d of %d responses.", responses.size(), responses.size() + latch.getCount()));
+            }
         } catch (final InterruptedException ex) {
-            log.error(ex.getMessage(), ex);
+            Thread.currentThread().interrupt();
+            throw ex;
         }
+        isDone = true;
         return responses;
     }
     
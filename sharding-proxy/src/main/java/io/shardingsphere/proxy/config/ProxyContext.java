@@ -32,6 +32,7 @@ import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.core.rule.ProxyAuthority;
 import io.shardingsphere.jdbc.orchestration.internal.event.config.ProxyConfigurationEventBusEvent;
 import io.shardingsphere.jdbc.orchestration.internal.event.state.CircuitStateEventBusEvent;
+import io.shardingsphere.proxy.backend.jdbc.connection.ConnectionBindingType;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -60,6 +61,8 @@ public final class ProxyContext {
     
     private ProxyAuthority proxyAuthority;
     
+    private ShardingProperties shardingProperties = new ShardingProperties(new Properties());
+    
     private boolean showSQL;
     
     private boolean useNIO;
@@ -70,6 +73,12 @@ public final class ProxyContext {
     
     private int executorSize;
     
+    private int executorQueueSize;
+    
+    private boolean executorWorkStealing;
+    
+    private boolean executorVirtualThread;
+    
     private ConnectionMode connectionMode;
     
     private TransactionType transactionType;
@@ -78,6 +87,16 @@ public final class ProxyContext {
     
     private boolean isCircuitBreak;
     
+    private int metricsPort;
+    
+    private String metricsHost;
+    
+    private int frontendFlushThreshold;
+    
+    private ConnectionBindingType connectionBindingType;
+    
+    private long frontendFlushIntervalMilliseconds;
+    
     /**
      * Get instance of proxy context.
      *
@@ -112,7 +131,7 @@ public final class ProxyContext {
     
     private void initServerConfiguration(final ProxyServerConfiguration serverConfiguration) {
         Properties properties = serverConfiguration.getProps();
-        ShardingProperties shardingProperties = new ShardingProperties(null == properties ? new Properties() : properties);
+        shardingProperties = new ShardingProperties(null == properties ? new Properties() : properties);
         connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
         maxConnectionsSizePerQuery = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
         // TODO just config proxy.transaction.enable here, in future(3.1.0)
@@ -120,6 +139,14 @@ public final class ProxyContext {
         showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         acceptorSize = shardingProperties.getValue(ShardingPropertiesConstant.ACCEPTOR_SIZE);
         executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
+        executorQueueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE);
+        executorWorkStealing = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_WORK_STEALING);
+        executorVirtualThread = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_VIRTUAL_THREAD);
+        metricsPort = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_METRICS_PORT);
+        metricsHost = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_METRICS_HOST);
+        frontendFlushThreshold = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        connectionBindingType = ConnectionBindingType.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_BINDING));
+        frontendFlushIntervalMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS);
         // TODO :jiaqi force off use NIO for backend, this feature is not complete yet
         useNIO = false;
         // boolean proxyBackendUseNio = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO);
@@ -22,6 +22,8 @@ import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ShardingRule;
@@ -59,6 +61,10 @@ public final class RuleRegistry {
     
     private ShardingMetaData metaData;
     
+    private ParsingResultCache parsingResultCache;
+    
+    private RouteResultCache routeResultCache;
+    
     @Setter
     private Collection<String> disabledDataSourceNames = new LinkedList<>();
     
@@ -81,6 +87,8 @@ public final class RuleRegistry {
         // TODO :jiaqi only use JDBC need connect db via JDBC, netty style should use SQL packet to get metadata
         dataSourceConfigurationMap = dataSources;
         backendDataSource = new JDBCBackendDataSource(this);
+        parsingResultCache = new ParsingResultCache(ProxyContext.getInstance().getShardingProperties());
+        routeResultCache = new RouteResultCache(ProxyContext.getInstance().getShardingProperties());
     }
     
     /**
@@ -91,6 +99,7 @@ public final class RuleRegistry {
     public void initShardingMetaData(final ShardingExecuteEngine executeEngine) {
         metaData = new ShardingMetaData(getDataSourceURLs(dataSourceConfigurationMap), shardingRule, 
                 DatabaseType.MySQL, executeEngine, new ProxyTableMetaDataConnectionManager(backendDataSource), ProxyContext.getInstance().getMaxConnectionsSizePerQuery());
+        routeResultCache.clear();
     }
     
     private static Map<String, String> getDataSourceURLs(final Map<String, DataSourceParameter> dataSourceParameters) {
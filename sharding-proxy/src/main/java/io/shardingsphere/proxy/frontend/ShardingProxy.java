@@ -34,6 +34,7 @@ import io.shardingsphere.proxy.backend.BackendExecutorContext;
 import io.shardingsphere.proxy.backend.netty.client.BackendNettyClientManager;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.frontend.common.netty.ServerHandlerInitializer;
+import io.shardingsphere.proxy.metrics.MetricsServer;
 
 /**
  * Sharding-Proxy.
@@ -76,6 +77,9 @@ public final class ShardingProxy {
             } else {
                 groupsNio(bootstrap);
             }
+            if (PROXY_CONTEXT.getMetricsPort() > 0) {
+                new MetricsServer().start(bossGroup, workerGroup, PROXY_CONTEXT.getMetricsHost(), PROXY_CONTEXT.getMetricsPort());
+            }
             ChannelFuture future = bootstrap.bind(port).sync();
             future.channel().closeFuture().sync();
         } finally {
@@ -20,21 +20,31 @@ package io.shardingsphere.proxy.frontend.common;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.proxy.backend.jdbc.connection.ConnectionBindingType;
+import io.shardingsphere.proxy.backend.jdbc.connection.SessionConnectionCache;
 import io.shardingsphere.proxy.frontend.common.executor.ChannelThreadExecutorGroup;
 import io.shardingsphere.proxy.config.ProxyContext;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
 
 /**
  * Frontend handler.
  * 
  * @author zhangliang 
  */
+@Slf4j
 public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     private boolean authorized;
     
+    @Getter
+    private volatile SessionConnectionCache sessionConnectionCache;
+    
     @Setter
     private volatile BackendConnection backendConnection;
 
@@ -45,6 +55,9 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     @Override
     public final void channelActive(final ChannelHandlerContext context) {
         ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        if (ConnectionBindingType.SESSION == ProxyContext.getInstance().getConnectionBindingType() && TransactionType.LOCAL == ProxyContext.getInstance().getTransactionType()) {
+            sessionConnectionCache = new SessionConnectionCache(ProxyContext.getInstance().getMaxConnectionsSizePerQuery());
+        }
         handshake(context);
     }
     
@@ -72,6 +85,21 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
         if (null != backendConnection) {
             backendConnection.cancel();
         }
+        closeSessionConnectionCache();
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+    
+    private void closeSessionConnectionCache() {
+        if (null == sessionConnectionCache) {
+            return;
+        }
+        try {
+            sessionConnectionCache.close();
+        } catch (final SQLException ex) {
+            log.error(ex.getMessage(), ex);
+        }
     }
 }
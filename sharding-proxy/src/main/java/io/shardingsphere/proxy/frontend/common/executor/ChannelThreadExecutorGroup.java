@@ -17,14 +17,17 @@
 
 package io.shardingsphere.proxy.frontend.common.executor;
 
+import com.google.common.base.Optional;
 import io.netty.channel.ChannelId;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.proxy.config.ProxyContext;
+import lombok.Getter;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Channel thread executor group.
@@ -32,18 +35,30 @@ import java.util.concurrent.Executors;
  * <p>
  *     Manage the thread for each channel invoking.
  *     This ensure XA transaction framework processed by current thread id.
+ *     Threads are virtual threads if {@code executor.virtual.thread} is enabled and supported by current JVM.
  * </p>
  * 
  * @author zhaojun
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ChannelThreadExecutorGroup {
     
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
     private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final ThreadFactory threadFactory;
+    
+    @Getter
+    private final boolean virtualThread;
+    
+    private ChannelThreadExecutorGroup() {
+        Optional<ThreadFactory> virtualThreadFactory = ProxyContext.getInstance().isExecutorVirtualThread()
+                ? ShardingThreadFactoryBuilder.buildVirtual("Channel-Virtual-") : Optional.<ThreadFactory>absent();
+        threadFactory = virtualThreadFactory.isPresent() ? virtualThreadFactory.get() : Executors.defaultThreadFactory();
+        virtualThread = virtualThreadFactory.isPresent();
+    }
+    
     /**
      * Get channel thread executor group.
      * 
@@ -59,7 +74,7 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        executorServices.put(channelId, Executors.newSingleThreadExecutor(threadFactory));
     }
     
     /**
@@ -42,9 +42,14 @@ public final class ExecutorGroup {
     /**
      * Get executor service.
      * 
+     * <p>
+     * Commands are executed by thread of channel for XA transaction or virtual thread, otherwise by user event loop group.
+     * </p>
+     * 
      * @return executor service
      */
     public ExecutorService getExecutorService() {
-        return TransactionType.XA == PROXY_CONTEXT.getTransactionType() ? ChannelThreadExecutorGroup.getInstance().get(channelId) : eventLoopGroup;
+        return TransactionType.XA == PROXY_CONTEXT.getTransactionType() || ChannelThreadExecutorGroup.getInstance().isVirtualThread()
+                ? ChannelThreadExecutorGroup.getInstance().get(channelId) : eventLoopGroup;
     }
 }
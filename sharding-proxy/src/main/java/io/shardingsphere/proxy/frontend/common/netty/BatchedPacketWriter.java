@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.netty;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packet writer which writes packets into channel and flushes them in batch.
+ *
+ * <p>
+ * Packets are flushed if count of unflushed packets reaches flush threshold, or channel becomes unwritable.
+ * Writer waits on writability monitor until channel becomes writable again, writability is checked again periodically in case notification is missed.
+ * A flush is scheduled on event loop of channel when packets are left unflushed, so no packet waits longer than flush interval
+ * even if the next packet arrives late. Caller should close the writer after the last packet.
+ * </p>
+ */
+public final class BatchedPacketWriter implements AutoCloseable {
+    
+    private static final long WRITABILITY_CHECK_INTERVAL_MILLISECONDS = 100L;
+    
+    private final Channel channel;
+    
+    private final Object writabilityMonitor;
+    
+    private final int flushThreshold;
+    
+    private final long flushIntervalMilliseconds;
+    
+    private final Runnable flushTask;
+    
+    private int unflushedCount;
+    
+    private ScheduledFuture<?> scheduledFlush;
+    
+    /**
+     * Constructor.
+     *
+     * @param channel channel to be written
+     * @param writabilityMonitor monitor which is notified when channel becomes writable
+     * @param flushThreshold max count of unflushed packets, 1 means flush every packet
+     * @param flushIntervalMilliseconds max milliseconds which written packets are left unflushed, 0 means unlimited
+     */
+    public BatchedPacketWriter(final Channel channel, final Object writabilityMonitor, final int flushThreshold, final long flushIntervalMilliseconds) {
+        this.channel = channel;
+        this.writabilityMonitor = writabilityMonitor;
+        this.flushThreshold = Math.max(flushThreshold, 1);
+        this.flushIntervalMilliseconds = flushIntervalMilliseconds;
+        flushTask = new Runnable() {
+            
+            @Override
+            public void run() {
+                channel.flush();
+            }
+        };
+    }
+    
+    /**
+     * Write packet.
+     *
+     * @param packet packet to be written
+     */
+    public void write(final DatabasePacket packet) {
+        waitUntilWritable();
+        channel.write(packet);
+        unflushedCount++;
+        if (unflushedCount >= flushThreshold) {
+            flush();
+        } else {
+            scheduleFlushIfNecessary();
+        }
+    }
+    
+    private void waitUntilWritable() {
+        if (channel.isWritable() || !channel.isActive()) {
+            return;
+        }
+        flush();
+        synchronized (writabilityMonitor) {
+            while (!channel.isWritable() && channel.isActive()) {
+                try {
+                    writabilityMonitor.wait(WRITABILITY_CHECK_INTERVAL_MILLISECONDS);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void scheduleFlushIfNecessary() {
+        if (0L == flushIntervalMilliseconds || null != scheduledFlush && !scheduledFlush.isDone()) {
+            return;
+        }
+        scheduledFlush = channel.eventLoop().schedule(flushTask, flushIntervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Flush written packets.
+     */
+    public void flush() {
+        cancelScheduledFlush();
+        if (0 == unflushedCount) {
+            return;
+        }
+        channel.flush();
+        unflushedCount = 0;
+    }
+    
+    private void cancelScheduledFlush() {
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+    
+    /**
+     * Flush written packets and cancel scheduled flush.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -22,12 +22,16 @@ import com.google.common.base.Strings;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.EventLoopGroup;
+import io.shardingsphere.metrics.ShardingMetrics;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.frontend.common.FrontendHandler;
 import io.shardingsphere.proxy.frontend.common.executor.ExecutorGroup;
+import io.shardingsphere.proxy.frontend.common.netty.BatchedPacketWriter;
 import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLCompressedPacketCodec;
+import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
@@ -77,6 +81,9 @@ public final class MySQLFrontendHandler extends FrontendHandler {
                 }
                 setSchema(response41.getDatabase());
                 context.writeAndFlush(new OKPacket(response41.getSequenceId() + 1));
+                if (0 != (response41.getCapabilityFlags() & CapabilityFlag.CLIENT_COMPRESS.getValue())) {
+                    context.pipeline().addFirst(new MySQLCompressedPacketCodec());
+                }
             } else {
                 // TODO localhost should replace to real ip address
                 context.writeAndFlush(new ErrPacket(response41.getSequenceId() + 1,
@@ -112,19 +119,23 @@ public final class MySQLFrontendHandler extends FrontendHandler {
         
         @Override
         public void run() {
+            ShardingMetrics.setSchemaName(frontendHandler.getSchema());
             try (MySQLPacketPayload payload = new MySQLPacketPayload(message);
-                 BackendConnection backendConnection = new BackendConnection(ProxyContext.getInstance().getRuleRegistry(frontendHandler.getSchema()))) {
+                 BackendConnection backendConnection = new BackendConnection(ProxyContext.getInstance().getRuleRegistry(frontendHandler.getSchema()), frontendHandler.getSessionConnectionCache())) {
                 setBackendConnection(backendConnection);
                 CommandPacket commandPacket = getCommandPacket(payload, backendConnection, frontendHandler);
                 Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
                 if (!responsePackets.isPresent()) {
                     return;
                 }
-                for (DatabasePacket each : responsePackets.get().getPackets()) {
-                    context.writeAndFlush(each);
-                }
-                if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
-                    writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
+                try (BatchedPacketWriter packetWriter = new BatchedPacketWriter(
+                        context.channel(), MySQLFrontendHandler.this, ProxyContext.getInstance().getFrontendFlushThreshold(), ProxyContext.getInstance().getFrontendFlushIntervalMilliseconds())) {
+                    for (DatabasePacket each : responsePackets.get().getPackets()) {
+                        packetWriter.write(each);
+                    }
+                    if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
+                        writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size(), packetWriter);
+                    }
                 }
             } catch (final SQLException ex) {
                 context.writeAndFlush(new ErrPacket(++currentSequenceId, ex));
@@ -141,25 +152,17 @@ public final class MySQLFrontendHandler extends FrontendHandler {
             return CommandPacketFactory.newInstance(sequenceId, connectionId, payload, backendConnection, frontendHandler);
         }
         
-        private void writeMoreResults(final QueryCommandPacket queryCommandPacket, final int headPacketsCount) throws SQLException {
+        private void writeMoreResults(final QueryCommandPacket queryCommandPacket, final int headPacketsCount, final BatchedPacketWriter packetWriter) throws SQLException {
             if (!context.channel().isActive()) {
                 return;
             }
             currentSequenceId = headPacketsCount;
             while (queryCommandPacket.next()) {
-                while (!context.channel().isWritable() && context.channel().isActive()) {
-                    synchronized (MySQLFrontendHandler.this) {
-                        try {
-                            MySQLFrontendHandler.this.wait();
-                        } catch (final InterruptedException ignore) {
-                        }
-                    }
-                }
                 DatabasePacket resultValue = queryCommandPacket.getResultValue();
                 currentSequenceId = resultValue.getSequenceId();
-                context.writeAndFlush(resultValue);
+                packetWriter.write(resultValue);
             }
-            context.writeAndFlush(new EofPacket(++currentSequenceId));
+            packetWriter.write(new EofPacket(++currentSequenceId));
         }
     }
 }
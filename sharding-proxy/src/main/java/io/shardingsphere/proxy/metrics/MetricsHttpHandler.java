@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.metrics;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.shardingsphere.metrics.MetricsRegistry;
+import io.shardingsphere.metrics.exporter.prometheus.PrometheusTextFormat;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP handler of metrics server.
+ *
+ * <p>
+ * Connection is closed after each response.
+ * </p>
+ */
+@Slf4j
+public final class MetricsHttpHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+    
+    private static final String PATH = "/metrics";
+    
+    @Override
+    protected void channelRead0(final ChannelHandlerContext context, final FullHttpRequest request) {
+        if (!PATH.equals(new QueryStringDecoder(request.uri()).path())) {
+            writeResponse(context, new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_FOUND));
+            return;
+        }
+        if (!HttpMethod.GET.equals(request.method())) {
+            writeResponse(context, new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.METHOD_NOT_ALLOWED));
+            return;
+        }
+        byte[] body = PrometheusTextFormat.format(MetricsRegistry.getInstance().getHistograms(), MetricsRegistry.getInstance().getGauges()).getBytes(Charsets.UTF_8);
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.wrappedBuffer(body));
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, PrometheusTextFormat.CONTENT_TYPE);
+        writeResponse(context, response);
+    }
+    
+    private void writeResponse(final ChannelHandlerContext context, final FullHttpResponse response) {
+        response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+        context.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
+        log.warn("Metrics request failure", cause);
+        context.close();
+    }
+}
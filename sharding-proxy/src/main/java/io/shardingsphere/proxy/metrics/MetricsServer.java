@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.metrics;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+
+/**
+ * Metrics server of Sharding-Proxy.
+ *
+ * <p>
+ * Expose metrics as prometheus text format via {@code /metrics}.
+ * Metrics server shares event loop groups with Sharding-Proxy, so it is stopped when they are shut down.
+ * </p>
+ */
+public final class MetricsServer {
+    
+    private static final int MAX_CONTENT_LENGTH = 64 * 1024;
+    
+    /**
+     * Start metrics server.
+     *
+     * @param bossGroup boss event loop group
+     * @param workerGroup worker event loop group
+     * @param host host to bind
+     * @param port port
+     * @throws InterruptedException interrupted exception
+     */
+    public void start(final EventLoopGroup bossGroup, final EventLoopGroup workerGroup, final String host, final int port) throws InterruptedException {
+        ServerBootstrap bootstrap = new ServerBootstrap();
+        bootstrap.group(bossGroup, workerGroup);
+        if (bossGroup instanceof EpollEventLoopGroup) {
+            bootstrap.channel(EpollServerSocketChannel.class);
+        } else {
+            bootstrap.channel(NioServerSocketChannel.class);
+        }
+        bootstrap.childHandler(new ChannelInitializer<SocketChannel>() {
+            
+            @Override
+            protected void initChannel(final SocketChannel socketChannel) {
+                socketChannel.pipeline().addLast(new HttpServerCodec());
+                socketChannel.pipeline().addLast(new HttpObjectAggregator(MAX_CONTENT_LENGTH));
+                socketChannel.pipeline().addLast(new MetricsHttpHandler());
+            }
+        });
+        bootstrap.bind(host, port).sync();
+    }
+}
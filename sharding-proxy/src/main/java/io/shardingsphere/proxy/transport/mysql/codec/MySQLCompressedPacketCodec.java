@@ -0,0 +1,243 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandler;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
+
+import java.net.SocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * MySQL compressed packet codec.
+ * 
+ * <p>
+ * Added in front of MySQL packet codec after handshake if client negotiates {@code CLIENT_COMPRESS}.
+ * Written MySQL packets are held until flush, then wrapped into compressed packets together,
+ * payload shorter than 50 bytes or not reduced by zlib is sent without compression.
+ * </p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compression.html">Compression</a>
+ */
+public final class MySQLCompressedPacketCodec extends ByteToMessageDecoder implements ChannelOutboundHandler {
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private static final int MIN_COMPRESS_LENGTH = 50;
+    
+    private final Inflater inflater = new Inflater();
+    
+    private final Deflater deflater = new Deflater();
+    
+    private final byte[] deflateBuffer = new byte[8192];
+    
+    private final List<ChannelPromise> pendingPromises = new ArrayList<>();
+    
+    private CompositeByteBuf pending;
+    
+    private int sequenceId;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) throws DataFormatException {
+        if (in.readableBytes() < HEADER_LENGTH) {
+            return;
+        }
+        int compressedLength = in.getUnsignedMediumLE(in.readerIndex());
+        if (in.readableBytes() < compressedLength + HEADER_LENGTH) {
+            return;
+        }
+        in.skipBytes(MySQLPacket.PAYLOAD_LENGTH);
+        sequenceId = in.readUnsignedByte() + 1;
+        int uncompressedLength = in.readUnsignedMediumLE();
+        if (0 == uncompressedLength) {
+            out.add(in.readRetainedSlice(compressedLength));
+            return;
+        }
+        byte[] compressed = new byte[compressedLength];
+        in.readBytes(compressed);
+        out.add(Unpooled.wrappedBuffer(inflate(compressed, uncompressedLength)));
+    }
+    
+    private byte[] inflate(final byte[] compressed, final int uncompressedLength) throws DataFormatException {
+        byte[] result = new byte[uncompressedLength];
+        inflater.setInput(compressed);
+        try {
+            int inflatedLength = 0;
+            while (inflatedLength < uncompressedLength && !inflater.finished()) {
+                int length = inflater.inflate(result, inflatedLength, uncompressedLength - inflatedLength);
+                if (0 == length && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflatedLength += length;
+            }
+            if (inflatedLength != uncompressedLength) {
+                throw new DataFormatException(String.format("Inflated %d bytes, but %d bytes expected.", inflatedLength, uncompressedLength));
+            }
+            return result;
+        } finally {
+            inflater.reset();
+        }
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (!(message instanceof ByteBuf)) {
+            context.write(message, promise);
+            return;
+        }
+        if (null == pending) {
+            pending = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        pending.addComponent(true, (ByteBuf) message);
+        pendingPromises.add(promise);
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        if (null != pending) {
+            writePending(context);
+        }
+        context.flush();
+    }
+    
+    private void writePending(final ChannelHandlerContext context) {
+        ByteBuf out = context.alloc().buffer(pending.readableBytes() + HEADER_LENGTH);
+        final List<ChannelPromise> promises = new ArrayList<>(pendingPromises);
+        try {
+            encode(pending, out);
+        } catch (final RuntimeException ex) {
+            out.release();
+            throw ex;
+        } finally {
+            pending.release();
+            pending = null;
+            pendingPromises.clear();
+        }
+        context.write(out).addListener(new ChannelFutureListener() {
+            
+            @Override
+            public void operationComplete(final ChannelFuture future) {
+                for (ChannelPromise each : promises) {
+                    if (future.isSuccess()) {
+                        each.trySuccess();
+                    } else {
+                        each.tryFailure(future.cause());
+                    }
+                }
+            }
+        });
+    }
+    
+    private void encode(final ByteBuf message, final ByteBuf out) {
+        while (message.isReadable()) {
+            ByteBuf payload = message.readSlice(Math.min(message.readableBytes(), MySQLPacket.MAX_PAYLOAD_LENGTH));
+            if (payload.readableBytes() < MIN_COMPRESS_LENGTH || !writeCompressed(payload, out)) {
+                writeUncompressed(payload, out);
+            }
+            sequenceId++;
+        }
+    }
+    
+    private boolean writeCompressed(final ByteBuf payload, final ByteBuf out) {
+        int headerIndex = out.writerIndex();
+        out.writeMediumLE(0);
+        out.writeByte(sequenceId);
+        out.writeMediumLE(payload.readableBytes());
+        deflater.setInput(ByteBufUtil.getBytes(payload));
+        deflater.finish();
+        try {
+            while (!deflater.finished()) {
+                out.writeBytes(deflateBuffer, 0, deflater.deflate(deflateBuffer));
+            }
+        } finally {
+            deflater.reset();
+        }
+        int compressedLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (compressedLength >= payload.readableBytes()) {
+            out.writerIndex(headerIndex);
+            return false;
+        }
+        out.setMediumLE(headerIndex, compressedLength);
+        return true;
+    }
+    
+    private void writeUncompressed(final ByteBuf payload, final ByteBuf out) {
+        out.writeMediumLE(payload.readableBytes());
+        out.writeByte(sequenceId);
+        out.writeMediumLE(0);
+        out.writeBytes(payload);
+    }
+    
+    @Override
+    public void bind(final ChannelHandlerContext context, final SocketAddress localAddress, final ChannelPromise promise) {
+        context.bind(localAddress, promise);
+    }
+    
+    @Override
+    public void connect(final ChannelHandlerContext context, final SocketAddress remoteAddress, final SocketAddress localAddress, final ChannelPromise promise) {
+        context.connect(remoteAddress, localAddress, promise);
+    }
+    
+    @Override
+    public void disconnect(final ChannelHandlerContext context, final ChannelPromise promise) {
+        context.disconnect(promise);
+    }
+    
+    @Override
+    public void close(final ChannelHandlerContext context, final ChannelPromise promise) {
+        context.close(promise);
+    }
+    
+    @Override
+    public void deregister(final ChannelHandlerContext context, final ChannelPromise promise) {
+        context.deregister(promise);
+    }
+    
+    @Override
+    public void read(final ChannelHandlerContext context) {
+        context.read();
+    }
+    
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext context) {
+        if (null != pending) {
+            pending.release();
+            pending = null;
+        }
+        for (ChannelPromise each : pendingPromises) {
+            each.tryFailure(new ClosedChannelException());
+        }
+        pendingPromises.clear();
+        inflater.end();
+        deflater.end();
+    }
+}
@@ -18,43 +18,142 @@
 package io.shardingsphere.proxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.shardingsphere.proxy.transport.common.codec.PacketCodec;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
 
 import java.util.List;
 
 /**
  * MySQL packet codec.
  * 
+ * <p>
+ * Payload not shorter than {@code 0xFFFFFF} bytes is split into multiple packets, and they are joined to one payload when decoding.
+ * Decoded payload carries sequence ID of its first packet.
+ * </p>
+ * 
+ * <p>
+ * Sequence IDs consumed by continuation packets, both of decoded and encoded payloads, are added to sequence IDs of packets encoded after them,
+ * until next payload is decoded. So packets written by command handlers are numbered as if every payload is one packet.
+ * </p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/sending-more-than-16mbyte.html">Sending More Than 16Mb</a>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodec extends PacketCodec<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private int sequenceIdOffset;
+    
     @Override
     protected boolean isValidHeader(final int readableBytes) {
-        return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        return readableBytes > HEADER_LENGTH;
     }
     
     @Override
     protected void doDecode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
-        int realPacketLength = payloadLength + MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        int payloadLength = in.markReaderIndex().readUnsignedMediumLE();
+        int realPacketLength = payloadLength + HEADER_LENGTH;
         if (readableBytes < realPacketLength) {
             in.resetReaderIndex();
             return;
         }
-        out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        if (MySQLPacket.MAX_PAYLOAD_LENGTH > payloadLength) {
+            sequenceIdOffset = 0;
+            out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+            return;
+        }
+        in.resetReaderIndex();
+        int packetsLength = getMultiplePacketsLength(in, readableBytes);
+        if (packetsLength > 0) {
+            out.add(readMultiplePackets(context, in, packetsLength));
+        }
+    }
+    
+    private int getMultiplePacketsLength(final ByteBuf in, final int readableBytes) {
+        int result = 0;
+        int payloadLength;
+        do {
+            if (readableBytes - result < HEADER_LENGTH) {
+                return -1;
+            }
+            payloadLength = in.getUnsignedMediumLE(in.readerIndex() + result);
+            result += payloadLength + HEADER_LENGTH;
+            if (readableBytes < result) {
+                return -1;
+            }
+        } while (MySQLPacket.MAX_PAYLOAD_LENGTH == payloadLength);
+        return result;
+    }
+    
+    private ByteBuf readMultiplePackets(final ChannelHandlerContext context, final ByteBuf in, final int packetsLength) {
+        CompositeByteBuf result = context.alloc().compositeBuffer();
+        int endIndex = in.readerIndex() + packetsLength;
+        int payloadLength = in.readUnsignedMediumLE();
+        result.addComponent(true, in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        sequenceIdOffset = 0;
+        while (in.readerIndex() < endIndex) {
+            payloadLength = in.readUnsignedMediumLE();
+            in.skipBytes(MySQLPacket.SEQUENCE_LENGTH);
+            result.addComponent(true, in.readRetainedSlice(payloadLength));
+            sequenceIdOffset++;
+        }
+        return result;
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) throws Exception {
+        if (message instanceof RawTextResultSetRowPacket && MySQLPacket.MAX_PAYLOAD_LENGTH > ((RawTextResultSetRowPacket) message).getData().readableBytes()) {
+            context.write(encodeRawPacket(context, (RawTextResultSetRowPacket) message), promise);
+        } else {
+            super.write(context, message, promise);
+        }
+    }
+    
+    private ByteBuf encodeRawPacket(final ChannelHandlerContext context, final RawTextResultSetRowPacket message) {
+        ByteBuf header = context.alloc().ioBuffer(HEADER_LENGTH);
+        header.writeMediumLE(message.getData().readableBytes());
+        header.writeByte(message.getSequenceId() + sequenceIdOffset);
+        return Unpooled.wrappedBuffer(header, message.getData());
     }
     
     @Override
     protected void doEncode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        int sequenceId = message.getSequenceId() + sequenceIdOffset;
+        out.writeMediumLE(0);
+        out.writeByte(sequenceId);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (MySQLPacket.MAX_PAYLOAD_LENGTH > payloadLength) {
+            out.setMediumLE(headerIndex, payloadLength);
+        } else {
+            splitPayload(context, out, headerIndex, payloadLength, sequenceId);
+        }
+    }
+    
+    private void splitPayload(final ChannelHandlerContext context, final ByteBuf out, final int headerIndex, final int payloadLength, final int firstSequenceId) {
+        ByteBuf payload = context.alloc().buffer(payloadLength).writeBytes(out, headerIndex + HEADER_LENGTH, payloadLength);
+        out.writerIndex(headerIndex);
+        int sequenceId = firstSequenceId;
+        int length;
+        try {
+            do {
+                length = Math.min(payload.readableBytes(), MySQLPacket.MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(length);
+                out.writeByte(sequenceId++);
+                out.writeBytes(payload, length);
+            } while (MySQLPacket.MAX_PAYLOAD_LENGTH == length);
+            sequenceIdOffset += sequenceId - firstSequenceId - 1;
+        } finally {
+            payload.release();
         }
     }
 }
@@ -89,6 +89,19 @@ public enum CapabilityFlag {
      * @return handshake capability flags lower bit
      */
     public static int calculateHandshakeCapabilityFlagsLower() {
+        return calculateHandshakeResponseCapabilityFlags() | CLIENT_COMPRESS.value;
+    }
+    
+    /**
+     * Get capability flags of handshake response to backend databases.
+     * 
+     * <p>
+     * Compressed protocol is not requested for backend connections.
+     * </p>
+     * 
+     * @return capability flags of handshake response
+     */
+    public static int calculateHandshakeResponseCapabilityFlags() {
         return calculateCapabilityFlags(CLIENT_LONG_PASSWORD, CLIENT_FOUND_ROWS, CLIENT_LONG_FLAG, CLIENT_CONNECT_WITH_DB, CLIENT_ODBC, CLIENT_IGNORE_SPACE,
                 CLIENT_PROTOCOL_41, CLIENT_INTERACTIVE, CLIENT_IGNORE_SIGPIPE, CLIENT_TRANSACTIONS, CLIENT_SECURE_CONNECTION);
     }
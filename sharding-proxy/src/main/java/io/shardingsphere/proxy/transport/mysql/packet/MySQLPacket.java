@@ -30,6 +30,8 @@ public interface MySQLPacket extends DatabasePacket {
     
     int SEQUENCE_LENGTH = 1;
     
+    int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
     /**
      * Write packet to byte buffer.
      *
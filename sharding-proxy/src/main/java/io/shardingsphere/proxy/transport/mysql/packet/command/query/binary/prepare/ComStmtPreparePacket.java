@@ -62,7 +62,7 @@ public final class ComStmtPreparePacket implements CommandPacket {
         this.frontendHandler = frontendHandler;
         sql = payload.readStringEOF();
         RuleRegistry ruleRegistry = ProxyContext.getInstance().getRuleRegistry(frontendHandler.getSchema());
-        sqlParsingEngine = new SQLParsingEngine(DatabaseType.MySQL, sql, ruleRegistry.getShardingRule(), ruleRegistry.getMetaData().getTable());
+        sqlParsingEngine = new SQLParsingEngine(DatabaseType.MySQL, sql, ruleRegistry.getShardingRule(), ruleRegistry.getMetaData().getTable(), ruleRegistry.getParsingResultCache());
     }
     
     @Override
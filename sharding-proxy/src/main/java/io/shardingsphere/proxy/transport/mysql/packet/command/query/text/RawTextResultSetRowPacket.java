@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Text result set row packet which holds raw bytes received from backend.
+ *
+ * <p>
+ * Values are not decoded, raw bytes are passed through to client with only sequence ID rewritten.
+ * Reference count of raw bytes is released after packet is written or decoded.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class RawTextResultSetRowPacket implements MySQLPacket, ReferenceCounted {
+    
+    private final int sequenceId;
+    
+    private final ByteBuf data;
+    
+    public RawTextResultSetRowPacket(final MySQLPacketPayload payload) {
+        sequenceId = payload.readInt1();
+        data = payload.getByteBuf();
+    }
+    
+    /**
+     * Create packet with new sequence ID which shares raw bytes.
+     *
+     * @param sequenceId new sequence ID
+     * @return packet with new sequence ID
+     */
+    public RawTextResultSetRowPacket withSequenceId(final int sequenceId) {
+        return new RawTextResultSetRowPacket(sequenceId, data);
+    }
+    
+    /**
+     * Decode values of raw bytes and release them.
+     *
+     * @param columnCount column count
+     * @return text result set row packet
+     */
+    public TextResultSetRowPacket decode(final int columnCount) {
+        try {
+            return new TextResultSetRowPacket(sequenceId, new MySQLPacketPayload(data), columnCount);
+        } finally {
+            data.release();
+        }
+    }
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(data, data.readerIndex(), data.readableBytes());
+    }
+    
+    @Override
+    public int refCnt() {
+        return data.refCnt();
+    }
+    
+    @Override
+    public RawTextResultSetRowPacket retain() {
+        data.retain();
+        return this;
+    }
+    
+    @Override
+    public RawTextResultSetRowPacket retain(final int increment) {
+        data.retain(increment);
+        return this;
+    }
+    
+    @Override
+    public RawTextResultSetRowPacket touch() {
+        data.touch();
+        return this;
+    }
+    
+    @Override
+    public RawTextResultSetRowPacket touch(final Object hint) {
+        data.touch(hint);
+        return this;
+    }
+    
+    @Override
+    public boolean release() {
+        return data.release();
+    }
+    
+    @Override
+    public boolean release(final int decrement) {
+        return data.release(decrement);
+    }
+}
@@ -43,7 +43,11 @@ public final class TextResultSetRowPacket implements MySQLPacket {
     private final List<Object> data;
     
     public TextResultSetRowPacket(final MySQLPacketPayload payload, final int columnCount) {
-        sequenceId = payload.readInt1();
+        this(payload.readInt1(), payload, columnCount);
+    }
+    
+    public TextResultSetRowPacket(final int sequenceId, final MySQLPacketPayload payload, final int columnCount) {
+        this.sequenceId = sequenceId;
         data = new ArrayList<>(columnCount);
         for (int i = 0; i < columnCount; i++) {
             data.add(payload.readStringLenenc());
@@ -35,6 +35,7 @@ import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -112,6 +113,7 @@ public final class ComQueryPacket implements QueryCommandPacket {
     @Override
     public DatabasePacket getResultValue() throws SQLException {
         ResultPacket resultPacket = backendHandler.getResultValue();
-        return new TextResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getData());
+        Optional<RawTextResultSetRowPacket> rawRow = resultPacket.getRawRow();
+        return rawRow.isPresent() ? rawRow.get() : new TextResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getData());
     }
 }
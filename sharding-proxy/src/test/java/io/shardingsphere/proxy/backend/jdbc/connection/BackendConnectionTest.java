@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import io.shardingsphere.core.merger.CloseableMergedResult;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BackendConnectionTest {
+    
+    @Mock
+    private CloseableMergedResult mergedResult;
+    
+    @Mock
+    private ResultSet resultSet;
+    
+    @Test
+    public void assertCloseMergedResultsBeforeResultSets() throws SQLException {
+        BackendConnection backendConnection = new BackendConnection(null, null);
+        backendConnection.add(mergedResult);
+        backendConnection.add(resultSet);
+        backendConnection.close();
+        InOrder inOrder = inOrder(mergedResult, resultSet);
+        inOrder.verify(mergedResult).close();
+        inOrder.verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertCloseWhenCloseMergedResultFailure() throws SQLException {
+        SQLException expected = new SQLException("test");
+        doThrow(expected).when(mergedResult).close();
+        BackendConnection backendConnection = new BackendConnection(null, null);
+        backendConnection.add(mergedResult);
+        backendConnection.add(resultSet);
+        try {
+            backendConnection.close();
+            fail("SQLException expected.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException(), sameInstance(expected));
+        }
+        verify(resultSet).close();
+    }
+}
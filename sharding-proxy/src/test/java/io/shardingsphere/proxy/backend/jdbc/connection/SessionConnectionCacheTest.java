@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SessionConnectionCacheTest {
+    
+    @Mock
+    private Connection connection0;
+    
+    @Mock
+    private Connection connection1;
+    
+    @Test
+    public void assertPollWithoutIdleConnections() {
+        assertTrue(new SessionConnectionCache(1).poll("sharding_db", "ds_0", 1).isEmpty());
+    }
+    
+    @Test
+    public void assertOfferAndPoll() throws SQLException {
+        when(connection0.getAutoCommit()).thenReturn(true);
+        when(connection1.getAutoCommit()).thenReturn(true);
+        SessionConnectionCache sessionConnectionCache = new SessionConnectionCache(2);
+        assertTrue(sessionConnectionCache.offer("sharding_db", "ds_0", connection0, 0L));
+        assertTrue(sessionConnectionCache.offer("sharding_db", "ds_0", connection1, 0L));
+        assertTrue(sessionConnectionCache.poll("sharding_db", "ds_1", 2).isEmpty());
+        assertTrue(sessionConnectionCache.poll("master_slave_db", "ds_0", 2).isEmpty());
+        assertThat(sessionConnectionCache.poll("sharding_db", "ds_0", 3), is(Arrays.asList(connection0, connection1)));
+        assertThat(sessionConnectionCache.poll("sharding_db", "ds_0", 1), is(Collections.<Connection>emptyList()));
+    }
+    
+    @Test
+    public void assertOfferWhenIdleConnectionsAreFull() throws SQLException {
+        when(connection0.getAutoCommit()).thenReturn(true);
+        when(connection1.getAutoCommit()).thenReturn(true);
+        SessionConnectionCache sessionConnectionCache = new SessionConnectionCache(1);
+        assertTrue(sessionConnectionCache.offer("sharding_db", "ds_0", connection0, 0L));
+        assertFalse(sessionConnectionCache.offer("sharding_db", "ds_0", connection1, 0L));
+    }
+    
+    @Test
+    public void assertOfferClosedConnection() throws SQLException {
+        when(connection0.isClosed()).thenReturn(true);
+        assertFalse(new SessionConnectionCache(1).offer("sharding_db", "ds_0", connection0, 0L));
+    }
+    
+    @Test
+    public void assertOfferConnectionNotInAutoCommit() throws SQLException {
+        when(connection0.getAutoCommit()).thenReturn(false);
+        assertFalse(new SessionConnectionCache(1).offer("sharding_db", "ds_0", connection0, 0L));
+    }
+    
+    @Test
+    public void assertOfferConnectionCachedLongerThanMaxLifetime() throws SQLException, InterruptedException {
+        when(connection0.getAutoCommit()).thenReturn(true);
+        SessionConnectionCache sessionConnectionCache = new SessionConnectionCache(1);
+        assertTrue(sessionConnectionCache.offer("sharding_db", "ds_0", connection0, 1L));
+        assertThat(sessionConnectionCache.poll("sharding_db", "ds_0", 1), is(Collections.singletonList(connection0)));
+        Thread.sleep(2L);
+        assertFalse(sessionConnectionCache.offer("sharding_db", "ds_0", connection0, 1L));
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        when(connection0.getAutoCommit()).thenReturn(true);
+        SessionConnectionCache sessionConnectionCache = new SessionConnectionCache(1);
+        sessionConnectionCache.offer("sharding_db", "ds_0", connection0, 0L);
+        sessionConnectionCache.close();
+        verify(connection0).close();
+        assertTrue(sessionConnectionCache.poll("sharding_db", "ds_0", 1).isEmpty());
+        assertFalse(sessionConnectionCache.offer("sharding_db", "ds_0", connection1, 0L));
+    }
+}
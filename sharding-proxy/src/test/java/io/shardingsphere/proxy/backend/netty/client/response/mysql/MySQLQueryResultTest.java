@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty.client.response.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLQueryResultTest {
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelConfig channelConfig;
+    
+    private MySQLQueryResult queryResult;
+    
+    @Before
+    public void setUp() {
+        queryResult = new MySQLQueryResult(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {1, 1})), channel);
+    }
+    
+    @Test
+    public void assertNext() {
+        queryResult.addTextResultSetRow(new RawTextResultSetRowPacket(2, Unpooled.wrappedBuffer(new byte[] {1, 'a'})));
+        queryResult.setRowFinished(new EofPacket(3));
+        assertThat(queryResult.getColumnCount(), is(1));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Object.class), is((Object) "a"));
+        assertFalse(queryResult.next());
+    }
+    
+    @Test
+    public void assertNextRawRow() {
+        queryResult.addTextResultSetRow(new RawTextResultSetRowPacket(2, Unpooled.wrappedBuffer(new byte[] {1, 'a'})));
+        queryResult.setRowFinished(new EofPacket(3));
+        RawTextResultSetRowPacket actual = queryResult.nextRawRow();
+        assertNotNull(actual);
+        assertThat(actual.getSequenceId(), is(2));
+        actual.release();
+        assertNull(queryResult.nextRawRow());
+        verify(channel, never()).config();
+    }
+    
+    @Test
+    public void assertPauseAndResumeReadWhenTooManyRowsBuffered() {
+        when(channel.config()).thenReturn(channelConfig);
+        for (int i = 0; i < 1024; i++) {
+            queryResult.addTextResultSetRow(new RawTextResultSetRowPacket(2, Unpooled.wrappedBuffer(new byte[] {1, 'a'})));
+        }
+        verify(channelConfig).setAutoRead(false);
+        for (int i = 0; i < 512; i++) {
+            queryResult.nextRawRow().release();
+        }
+        verify(channelConfig, never()).setAutoRead(true);
+        queryResult.nextRawRow().release();
+        verify(channelConfig).setAutoRead(true);
+    }
+    
+    @Test
+    public void assertNotPauseReadWhenFewRowsBuffered() {
+        queryResult.addTextResultSetRow(new RawTextResultSetRowPacket(2, Unpooled.wrappedBuffer(new byte[] {1, 'a'})));
+        verify(channel, never()).config();
+        verify(channelConfig, never()).setAutoRead(anyBoolean());
+    }
+    
+    @Test
+    public void assertCloseWithBufferedRows() {
+        ByteBuf data = Unpooled.wrappedBuffer(new byte[] {1, 'a'});
+        queryResult.addTextResultSetRow(new RawTextResultSetRowPacket(2, data));
+        queryResult.close();
+        assertThat(data.refCnt(), is(0));
+        queryResult.close();
+    }
+    
+    @Test
+    public void assertAddTextResultSetRowAfterClosed() {
+        queryResult.close();
+        ByteBuf data = Unpooled.wrappedBuffer(new byte[] {1, 'a'});
+        queryResult.addTextResultSetRow(new RawTextResultSetRowPacket(2, data));
+        assertThat(data.refCnt(), is(0));
+        verify(channel, never()).config();
+    }
+    
+    @Test
+    public void assertCloseWhenReadPaused() {
+        when(channel.config()).thenReturn(channelConfig);
+        for (int i = 0; i < 1024; i++) {
+            queryResult.addTextResultSetRow(new RawTextResultSetRowPacket(2, Unpooled.wrappedBuffer(new byte[] {1, 'a'})));
+        }
+        queryResult.close();
+        verify(channelConfig).setAutoRead(true);
+    }
+}
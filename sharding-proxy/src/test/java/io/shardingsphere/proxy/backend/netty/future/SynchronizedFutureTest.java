@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty.future;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public final class SynchronizedFutureTest {
+    
+    @Test
+    public void assertGet() throws InterruptedException, TimeoutException {
+        SynchronizedFuture synchronizedFuture = new SynchronizedFuture(1);
+        QueryResult queryResult = mock(QueryResult.class);
+        synchronizedFuture.setResponse(queryResult);
+        assertThat(synchronizedFuture.get(1L, TimeUnit.SECONDS), is(Collections.singletonList(queryResult)));
+        assertTrue(synchronizedFuture.isDone());
+    }
+    
+    @Test(expected = TimeoutException.class)
+    public void assertGetWithTimeout() throws InterruptedException, TimeoutException {
+        new SynchronizedFuture(1).get(1L, TimeUnit.MILLISECONDS);
+    }
+    
+    @Test
+    public void assertGetWhenInterrupted() throws TimeoutException {
+        Thread.currentThread().interrupt();
+        try {
+            new SynchronizedFuture(1).get(1L, TimeUnit.SECONDS);
+            fail("InterruptedException expected.");
+        } catch (final InterruptedException ex) {
+            assertTrue(Thread.interrupted());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BatchedPacketWriterTest {
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private EventLoop eventLoop;
+    
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+    
+    @Test
+    public void assertWriteWithFlushThreshold() {
+        when(channel.isWritable()).thenReturn(true);
+        BatchedPacketWriter packetWriter = new BatchedPacketWriter(channel, new Object(), 3, 0L);
+        for (int i = 1; i <= 7; i++) {
+            packetWriter.write(new EofPacket(i));
+        }
+        verify(channel, times(7)).write(any());
+        verify(channel, times(2)).flush();
+        packetWriter.flush();
+        verify(channel, times(3)).flush();
+    }
+    
+    @Test
+    public void assertWriteWithFlushEveryPacket() {
+        when(channel.isWritable()).thenReturn(true);
+        BatchedPacketWriter packetWriter = new BatchedPacketWriter(channel, new Object(), 0, 0L);
+        packetWriter.write(new EofPacket(1));
+        packetWriter.write(new EofPacket(2));
+        verify(channel, times(2)).flush();
+    }
+    
+    @Test
+    public void assertFlushWithoutUnflushedPackets() {
+        new BatchedPacketWriter(channel, new Object(), 3, 0L).flush();
+        verify(channel, never()).flush();
+    }
+    
+    @Test
+    public void assertWriteWhenChannelIsUnwritableAndInactive() {
+        when(channel.isWritable()).thenReturn(true);
+        BatchedPacketWriter packetWriter = new BatchedPacketWriter(channel, new Object(), 3, 0L);
+        packetWriter.write(new EofPacket(1));
+        when(channel.isWritable()).thenReturn(false);
+        when(channel.isActive()).thenReturn(true, false);
+        packetWriter.write(new EofPacket(2));
+        verify(channel, times(2)).write(any());
+        verify(channel).flush();
+    }
+    
+    @Test(timeout = 5000L)
+    public void assertWriteWhenChannelBecomesWritableWithoutNotification() {
+        when(channel.isWritable()).thenReturn(false, false, true);
+        when(channel.isActive()).thenReturn(true);
+        new BatchedPacketWriter(channel, new Object(), 3, 0L).write(new EofPacket(1));
+        verify(channel).write(any());
+    }
+    
+    @Test
+    public void assertWriteWithFlushInterval() {
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        doReturn(scheduledFuture).when(eventLoop).schedule(any(Runnable.class), eq(10L), eq(TimeUnit.MILLISECONDS));
+        BatchedPacketWriter packetWriter = new BatchedPacketWriter(channel, new Object(), 3, 10L);
+        packetWriter.write(new EofPacket(1));
+        packetWriter.write(new EofPacket(2));
+        ArgumentCaptor<Runnable> flushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).schedule(flushTask.capture(), eq(10L), eq(TimeUnit.MILLISECONDS));
+        verify(channel, never()).flush();
+        flushTask.getValue().run();
+        verify(channel).flush();
+    }
+    
+    @Test
+    public void assertCloseCancelsScheduledFlush() {
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        doReturn(scheduledFuture).when(eventLoop).schedule(any(Runnable.class), eq(10L), eq(TimeUnit.MILLISECONDS));
+        BatchedPacketWriter packetWriter = new BatchedPacketWriter(channel, new Object(), 3, 10L);
+        packetWriter.write(new EofPacket(1));
+        packetWriter.close();
+        verify(scheduledFuture).cancel(false);
+        verify(channel).flush();
+    }
+}
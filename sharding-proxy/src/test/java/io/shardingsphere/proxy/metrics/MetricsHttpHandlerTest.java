@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.metrics;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.shardingsphere.metrics.exporter.prometheus.PrometheusTextFormat;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class MetricsHttpHandlerTest {
+    
+    @Test
+    public void assertGetMetrics() {
+        FullHttpResponse actual = request(HttpMethod.GET, "/metrics?name=sharding");
+        assertThat(actual.status(), is(HttpResponseStatus.OK));
+        assertThat(actual.headers().get(HttpHeaderNames.CONTENT_TYPE), is(PrometheusTextFormat.CONTENT_TYPE));
+        assertThat(actual.headers().getInt(HttpHeaderNames.CONTENT_LENGTH), is(actual.content().readableBytes()));
+        actual.release();
+    }
+    
+    @Test
+    public void assertGetUnknownPath() {
+        FullHttpResponse actual = request(HttpMethod.GET, "/unknown");
+        assertThat(actual.status(), is(HttpResponseStatus.NOT_FOUND));
+        actual.release();
+    }
+    
+    @Test
+    public void assertPostMetrics() {
+        FullHttpResponse actual = request(HttpMethod.POST, "/metrics");
+        assertThat(actual.status(), is(HttpResponseStatus.METHOD_NOT_ALLOWED));
+        actual.release();
+    }
+    
+    private FullHttpResponse request(final HttpMethod method, final String uri) {
+        EmbeddedChannel channel = new EmbeddedChannel(new MetricsHttpHandler());
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, uri));
+        FullHttpResponse result = channel.readOutbound();
+        assertFalse(channel.isOpen());
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.proxy.transport;
 
 import io.shardingsphere.proxy.transport.common.codec.AllCommonCodecTests;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLCompressedPacketCodecTest;
 import io.shardingsphere.proxy.transport.mysql.codec.MySQLPacketCodecTest;
 import io.shardingsphere.proxy.transport.mysql.constant.AllMySQLConstantTests;
 import io.shardingsphere.proxy.transport.mysql.packet.AllMySQLPacketTests;
@@ -30,6 +31,7 @@ import org.junit.runners.Suite.SuiteClasses;
         AllCommonCodecTests.class, 
         AllMySQLConstantTests.class, 
         MySQLPacketCodecTest.class, 
+        MySQLCompressedPacketCodecTest.class, 
         AllMySQLPacketTests.class
 })
 public final class AllTransportTests {
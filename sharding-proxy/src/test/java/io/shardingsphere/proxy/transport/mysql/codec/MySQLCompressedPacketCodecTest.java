@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressedPacketCodecTest {
+    
+    @Test
+    public void assertEncodeShortPayloadWithoutCompression() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec());
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[] {1, 0, 0, 1, 0}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(5));
+        assertThat(actual.readByte(), is((byte) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(actual.readableBytes(), is(5));
+        actual.release();
+        channel.finish();
+    }
+    
+    @Test
+    public void assertEncodeLongPayloadWithCompression() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec());
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[1000]));
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertTrue(compressedLength < 1000);
+        assertThat(actual.readByte(), is((byte) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(1000));
+        assertThat(actual.readableBytes(), is(compressedLength));
+        actual.release();
+        channel.finish();
+    }
+    
+    @Test
+    public void assertEncodeWrittenPayloadsTogetherWhenFlush() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec());
+        for (int i = 0; i < 40; i++) {
+            channel.write(Unpooled.wrappedBuffer(new byte[] {6, 0, 0, (byte) i, 1, 2, 3, 4, 5, 6}));
+        }
+        assertTrue(channel.outboundMessages().isEmpty());
+        channel.flush();
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertTrue(compressedLength < 400);
+        assertThat(actual.readByte(), is((byte) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(400));
+        assertThat(actual.readableBytes(), is(compressedLength));
+        actual.release();
+        assertNull(channel.readOutbound());
+        channel.finish();
+    }
+    
+    @Test
+    public void assertDecodeEncodedPayloads() {
+        byte[] payload = new byte[1000];
+        Arrays.fill(payload, 0, 500, (byte) 1);
+        EmbeddedChannel encodeChannel = new EmbeddedChannel(new MySQLCompressedPacketCodec());
+        encodeChannel.writeOutbound(Unpooled.wrappedBuffer(payload));
+        encodeChannel.writeOutbound(Unpooled.wrappedBuffer(new byte[] {1, 2, 3}));
+        EmbeddedChannel decodeChannel = new EmbeddedChannel(new MySQLCompressedPacketCodec());
+        decodeChannel.writeInbound(Unpooled.wrappedBuffer(encodeChannel.<ByteBuf>readOutbound(), encodeChannel.<ByteBuf>readOutbound()));
+        ByteBuf actualPayload = decodeChannel.readInbound();
+        assertThat(actualPayload, is(Unpooled.wrappedBuffer(payload)));
+        actualPayload.release();
+        ByteBuf actualShortPayload = decodeChannel.readInbound();
+        assertThat(actualShortPayload, is(Unpooled.wrappedBuffer(new byte[] {1, 2, 3})));
+        actualShortPayload.release();
+        encodeChannel.finish();
+        assertFalse(decodeChannel.finish());
+    }
+    
+    @Test
+    public void assertSequenceIdOfResponseFollowsRequest() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec());
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[] {1, 0, 0, 5, 0, 0, 0, 9}));
+        ByteBuf request = channel.readInbound();
+        assertThat(request.readByte(), is((byte) 9));
+        request.release();
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[] {1}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.getByte(3), is((byte) 6));
+        actual.release();
+        channel.finish();
+    }
+}
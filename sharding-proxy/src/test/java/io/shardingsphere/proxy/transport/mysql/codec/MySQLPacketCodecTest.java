@@ -18,15 +18,21 @@
 package io.shardingsphere.proxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -35,8 +41,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -61,7 +67,7 @@ public final class MySQLPacketCodecTest {
     @Test
     public void assertDoDecode() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodec().doDecode(context, byteBuf, out, 54);
@@ -71,25 +77,140 @@ public final class MySQLPacketCodecTest {
     @Test
     public void assertDoDecodeWithStickyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodec().doDecode(context, byteBuf, out, 40);
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertDoDecodeMultiplePackets() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = createMultiplePackets(2);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodec().doDecode(context, in, out, in.readableBytes());
+        assertThat(out.size(), is(1));
+        assertFalse(in.isReadable());
+        ByteBuf actual = (ByteBuf) out.get(0);
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readableBytes(), is(MySQLPacket.MAX_PAYLOAD_LENGTH + 2));
+        assertThat(actual.getByte(actual.writerIndex() - 1), is((byte) 2));
+        actual.release();
+        in.release();
+    }
+    
+    @Test
+    public void assertDoDecodeIncompleteMultiplePackets() {
+        ByteBuf in = createMultiplePackets(2);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodec().doDecode(context, in, out, in.readableBytes() - 1);
+        assertTrue(out.isEmpty());
+        assertThat(in.readerIndex(), is(0));
+        in.release();
+    }
+    
+    private ByteBuf createMultiplePackets(final int lastPayloadLength) {
+        ByteBuf result = Unpooled.buffer(MySQLPacket.MAX_PAYLOAD_LENGTH + lastPayloadLength + 8);
+        result.writeMediumLE(MySQLPacket.MAX_PAYLOAD_LENGTH).writeByte(0).writeZero(MySQLPacket.MAX_PAYLOAD_LENGTH);
+        result.writeMediumLE(lastPayloadLength).writeByte(1).writeZero(lastPayloadLength - 1).writeByte(2);
+        return result;
+    }
+    
     @Test
     public void assertDoEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodec().doEncode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodec().doEncode(context, new EofPacket(1), out);
+        assertThat(out.readUnsignedMediumLE(), is(5));
+        assertThat(out.readByte(), is((byte) 1));
+        assertThat(out.readUnsignedByte(), is((short) 0xfe));
+        assertThat(out.readableBytes(), is(4));
+        out.release();
+    }
+    
+    @Test
+    public void assertDoEncodeMultiplePackets() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodec().doEncode(context, createLargePacket(MySQLPacket.MAX_PAYLOAD_LENGTH + 10), out);
+        assertThat(out.readUnsignedMediumLE(), is(MySQLPacket.MAX_PAYLOAD_LENGTH));
+        assertThat(out.readByte(), is((byte) 3));
+        out.skipBytes(MySQLPacket.MAX_PAYLOAD_LENGTH);
+        assertThat(out.readUnsignedMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 4));
+        assertThat(out.readableBytes(), is(10));
+        out.release();
+    }
+    
+    @Test
+    public void assertDoEncodeMultiplePacketsWithEmptyLastPacket() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodec().doEncode(context, createLargePacket(MySQLPacket.MAX_PAYLOAD_LENGTH), out);
+        out.skipBytes(MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH + MySQLPacket.MAX_PAYLOAD_LENGTH);
+        assertThat(out.readUnsignedMediumLE(), is(0));
+        assertThat(out.readByte(), is((byte) 4));
+        assertFalse(out.isReadable());
+        out.release();
+    }
+    
+    @Test
+    public void assertDoEncodeAfterMultiplePacketsDecoded() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodec packetCodec = new MySQLPacketCodec();
+        ByteBuf in = createMultiplePackets(2);
+        List<Object> out = new LinkedList<>();
+        packetCodec.doDecode(context, in, out, in.readableBytes());
+        ((ByteBuf) out.get(0)).release();
+        in.release();
+        ByteBuf actual = Unpooled.buffer();
+        packetCodec.doEncode(context, new EofPacket(1), actual);
+        assertThat(actual.getByte(3), is((byte) 2));
+        actual.release();
+    }
+    
+    @Test
+    public void assertDoEncodeAfterMultiplePacketsEncoded() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodec packetCodec = new MySQLPacketCodec();
+        ByteBuf out = Unpooled.buffer();
+        packetCodec.doEncode(context, createLargePacket(MySQLPacket.MAX_PAYLOAD_LENGTH + 10), out);
+        out.clear();
+        packetCodec.doEncode(context, new EofPacket(4), out);
+        assertThat(out.getByte(3), is((byte) 5));
+        out.clear();
+        ByteBuf in = Unpooled.wrappedBuffer(new byte[] {1, 0, 0, 0, 1});
+        List<Object> decoded = new LinkedList<>();
+        packetCodec.doDecode(context, in, decoded, in.readableBytes());
+        ((ByteBuf) decoded.get(0)).release();
+        packetCodec.doEncode(context, new EofPacket(1), out);
+        assertThat(out.getByte(3), is((byte) 1));
+        out.release();
+    }
+    
+    private MySQLPacket createLargePacket(final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        when(result.getSequenceId()).thenReturn(3);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                invocation.<MySQLPacketPayload>getArgument(0).getByteBuf().writeZero(payloadLength);
+                return null;
+            }
+        }).when(result).write(ArgumentMatchers.<MySQLPacketPayload>any());
+        return result;
+    }
+    
+    @Test
+    public void assertWriteRawTextResultSetRowPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLPacketCodec());
+        channel.writeOutbound(new RawTextResultSetRowPacket(3, Unpooled.wrappedBuffer(new byte[] {1, 2})));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readMediumLE(), is(2));
+        assertThat(actual.readByte(), is((byte) 3));
+        assertThat(actual.readByte(), is((byte) 1));
+        assertThat(actual.readByte(), is((byte) 2));
+        assertFalse(actual.isReadable());
+        actual.release();
     }
 }
@@ -26,7 +26,12 @@ public final class CapabilityFlagTest {
     
     @Test
     public void assertCalculateHandshakeCapabilityFlagsLower() {
-        assertThat(CapabilityFlag.calculateHandshakeCapabilityFlagsLower(), is(46927));
+        assertThat(CapabilityFlag.calculateHandshakeCapabilityFlagsLower(), is(46959));
+    }
+    
+    @Test
+    public void assertCalculateHandshakeResponseCapabilityFlags() {
+        assertThat(CapabilityFlag.calculateHandshakeResponseCapabilityFlags(), is(46927));
     }
     
     @Test
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class RawTextResultSetRowPacketTest {
+    
+    @Test
+    public void assertDecode() {
+        RawTextResultSetRowPacket rawRow = new RawTextResultSetRowPacket(new MySQLPacketPayload(createRowByteBuf()));
+        assertThat(rawRow.getSequenceId(), is(1));
+        TextResultSetRowPacket actual = rawRow.decode(3);
+        assertThat(actual.getSequenceId(), is(1));
+        assertThat(actual.getData(), is(Arrays.<Object>asList("value_a", "", "value_c")));
+        assertThat(rawRow.refCnt(), is(0));
+    }
+    
+    @Test
+    public void assertWithSequenceId() {
+        RawTextResultSetRowPacket rawRow = new RawTextResultSetRowPacket(new MySQLPacketPayload(createRowByteBuf()));
+        RawTextResultSetRowPacket actual = rawRow.withSequenceId(5);
+        assertThat(actual.getSequenceId(), is(5));
+        assertThat(actual.getData(), is(rawRow.getData()));
+        actual.release();
+    }
+    
+    @Test
+    public void assertWrite() {
+        RawTextResultSetRowPacket rawRow = new RawTextResultSetRowPacket(new MySQLPacketPayload(createRowByteBuf()));
+        ByteBuf expected = createRowByteBuf().skipBytes(1);
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+        rawRow.write(payload);
+        assertThat(payload.getByteBuf(), is(expected));
+        assertThat(rawRow.getData().readableBytes(), is(expected.readableBytes()));
+        rawRow.release();
+    }
+    
+    private ByteBuf createRowByteBuf() {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(1);
+        result.writeByte(7);
+        result.writeBytes("value_a".getBytes());
+        result.writeByte(0xfb);
+        result.writeByte(7);
+        result.writeBytes("value_c".getBytes());
+        return result;
+    }
+}